@@ -2,12 +2,12 @@
 package com.example.softcomputing.genetic.chromosome;
 
 import java.util.Arrays;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
-public class BinaryChromosome implements Chromosome<Integer> {
+public class BinaryChromosome implements Chromosome<Integer>, GeneWords {
     private final int[] genes;
     private double fitness = 0.0;
-    private static final Random rand = new Random();
+    private boolean evaluated = false;
 
     public BinaryChromosome(int[] genes) {
         this.genes = Arrays.copyOf(genes, genes.length);
@@ -17,10 +17,10 @@ public class BinaryChromosome implements Chromosome<Integer> {
         this.genes = new int[length];
     }
 
-    public static BinaryChromosome random(int length) {
+    public static BinaryChromosome random(int length, RandomGenerator random) {
         int[] g = new int[length];
         for (int i = 0; i < length; i++) {
-            g[i] = rand.nextBoolean() ? 1 : 0;
+            g[i] = random.nextBoolean() ? 1 : 0;
         }
         return new BinaryChromosome(g);
     }
@@ -33,6 +33,17 @@ public class BinaryChromosome implements Chromosome<Integer> {
         return arr;
     }
 
+    // one word per gene
+    @Override
+    public int wordCount() {
+        return genes.length;
+    }
+
+    @Override
+    public long getWord(int index) {
+        return genes[index];
+    }
+
     @Override
     public int length() {
         return genes.length;
@@ -43,9 +54,27 @@ public class BinaryChromosome implements Chromosome<Integer> {
         return genes[index];
     }
 
+    public int getInt(int index) {
+        return genes[index];
+    }
+
+    public void flip(int index) {
+        genes[index] = 1 - genes[index];
+        evaluated = false;
+    }
+
+    // same genes and cached fitness
+    public BinaryChromosome copy() {
+        BinaryChromosome c = new BinaryChromosome(genes);
+        c.fitness = fitness;
+        c.evaluated = evaluated;
+        return c;
+    }
+
     @Override
     public void setGene(int index, Integer value) {
         genes[index] = value == 0 ? 0 : 1;
+        evaluated = false;
     }
 
     @Override
@@ -56,6 +85,17 @@ public class BinaryChromosome implements Chromosome<Integer> {
     @Override
     public void setFitness(double fitness) {
         this.fitness = fitness;
+        this.evaluated = true;
+    }
+
+    @Override
+    public boolean isEvaluated() {
+        return evaluated;
+    }
+
+    @Override
+    public void invalidateFitness() {
+        evaluated = false;
     }
 
     // @Override
@@ -19,4 +19,9 @@ public interface Chromosome<G> {
 
     void setFitness(double fitness);
 
+    // false until setFitness is called, and again after any gene changes
+    boolean isEvaluated();
+
+    void invalidateFitness();
+
 }
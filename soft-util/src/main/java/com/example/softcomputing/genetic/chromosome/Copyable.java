@@ -0,0 +1,11 @@
+package com.example.softcomputing.genetic.chromosome;
+
+// A chromosome that copies genes and cached fitness from another of its own kind, or
+// into a new one, straight from its primitive storage. Engines copy such individuals
+// into spare chromosomes instead of boxing their genes through a factory.
+public interface Copyable<C> {
+
+    void copyFrom(C other);
+
+    C copy();
+}
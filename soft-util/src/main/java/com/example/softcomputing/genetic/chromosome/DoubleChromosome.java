@@ -0,0 +1,200 @@
+package com.example.softcomputing.genetic.chromosome;
+
+import java.util.Arrays;
+
+// Real-valued chromosome on a primitive double[]. Use getDouble/setDouble in hot loops;
+// the Chromosome<Double> methods box and are kept for the generic operators.
+public class DoubleChromosome implements Chromosome<Double>, GeneWords, Copyable<DoubleChromosome> {
+
+    private final double[] genes;
+    private final int offset;
+    private final int length;
+    private final double lowerBound;
+    private final double upperBound;
+    private double fitness = 0.0;
+    private boolean evaluated = false;
+    // strategy parameter of self-adaptive mutations, NaN until one sets it
+    private double stepSize = Double.NaN;
+    // fitness of the fitter parent a crossover made it from, NaN when unknown; the
+    // one-fifth rule judges a mutation against it
+    private double parentFitness = Double.NaN;
+
+    // wraps the array without copying it
+    public DoubleChromosome(double[] genes, double lowerBound, double upperBound) {
+        this.genes = genes;
+        this.offset = 0;
+        this.length = genes.length;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    public DoubleChromosome(int length, double lowerBound, double upperBound) {
+        this(new double[length], lowerBound, upperBound);
+    }
+
+    // view over genes[offset .. offset + length) of a shared array
+    protected DoubleChromosome(double[] genes, int offset, int length, double lowerBound, double upperBound) {
+        if (offset < 0 || length < 0 || offset + length > genes.length) {
+            throw new IndexOutOfBoundsException(
+                    String.format("View [%d, %d) out of bounds for %d genes", offset, offset + length, genes.length));
+        }
+        this.genes = genes;
+        this.offset = offset;
+        this.length = length;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    public double getDouble(int index) {
+        return genes[offset + index];
+    }
+
+    public void setDouble(int index, double value) {
+        genes[offset + index] = value;
+        invalidateFitness();
+    }
+
+    // backing array and start of this chromosome's genes in it, for primitive kernels
+    public double[] rawGenes() {
+        return genes;
+    }
+
+    public int offset() {
+        return offset;
+    }
+
+    public double clamp(double value) {
+        return Math.max(lowerBound, Math.min(upperBound, value));
+    }
+
+    // copies genes and cached fitness from a chromosome of the same length
+    @Override
+    public void copyFrom(DoubleChromosome other) {
+        if (other.length != length) {
+            throw new IllegalArgumentException("Chromosomes must have the same length");
+        }
+        System.arraycopy(other.genes, other.offset, genes, offset, length);
+        stepSize = other.stepSize;
+        parentFitness = other.parentFitness;
+        if (other.isEvaluated())
+            setFitness(other.getFitness());
+        else
+            invalidateFitness();
+    }
+
+    public double getStepSize() {
+        return stepSize;
+    }
+
+    public void setStepSize(double stepSize) {
+        this.stepSize = stepSize;
+    }
+
+    public double getParentFitness() {
+        return parentFitness;
+    }
+
+    public void setParentFitness(double parentFitness) {
+        this.parentFitness = parentFitness;
+    }
+
+    // children of a crossover get the geometric mean of the parents' step sizes, if both
+    // have one, and the fitness of the fitter evaluated parent
+    public static void inheritFromParents(DoubleChromosome parent1, DoubleChromosome parent2,
+            DoubleChromosome child1, DoubleChromosome child2) {
+        double s1 = parent1.stepSize;
+        double s2 = parent2.stepSize;
+        double s = Double.isNaN(s1) ? s2 : Double.isNaN(s2) ? s1 : Math.sqrt(s1 * s2);
+        child1.stepSize = s;
+        child2.stepSize = s;
+        double f1 = parent1.isEvaluated() ? parent1.getFitness() : Double.NaN;
+        double f2 = parent2.isEvaluated() ? parent2.getFitness() : Double.NaN;
+        double f = Double.isNaN(f1) ? f2 : Double.isNaN(f2) ? f1 : Math.max(f1, f2);
+        child1.parentFitness = f;
+        child2.parentFitness = f;
+    }
+
+    public double[] toDoubleArray() {
+        return Arrays.copyOfRange(genes, offset, offset + length);
+    }
+
+    // same length and bounds, all genes zero
+    public DoubleChromosome newBlank() {
+        return new DoubleChromosome(length, lowerBound, upperBound);
+    }
+
+    @Override
+    public DoubleChromosome copy() {
+        DoubleChromosome c = newBlank();
+        c.copyFrom(this);
+        return c;
+    }
+
+    @Override
+    public Double[] toArray() {
+        Double[] arr = new Double[length];
+        for (int i = 0; i < length; i++)
+            arr[i] = genes[offset + i];
+        return arr;
+    }
+
+    // one word per gene
+    @Override
+    public int wordCount() {
+        return length;
+    }
+
+    @Override
+    public long getWord(int index) {
+        return Double.doubleToLongBits(genes[offset + index]);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public Double getGene(int index) {
+        return getDouble(index);
+    }
+
+    @Override
+    public void setGene(int index, Double value) {
+        setDouble(index, value);
+    }
+
+    public double getLowerBound() {
+        return lowerBound;
+    }
+
+    public double getUpperBound() {
+        return upperBound;
+    }
+
+    @Override
+    public double getFitness() {
+        return fitness;
+    }
+
+    @Override
+    public void setFitness(double fitness) {
+        this.fitness = fitness;
+        this.evaluated = true;
+    }
+
+    @Override
+    public boolean isEvaluated() {
+        return evaluated;
+    }
+
+    @Override
+    public void invalidateFitness() {
+        evaluated = false;
+    }
+
+    @Override
+    public String toString() {
+        return "DoubleChromosome" + Arrays.toString(toDoubleArray());
+    }
+}
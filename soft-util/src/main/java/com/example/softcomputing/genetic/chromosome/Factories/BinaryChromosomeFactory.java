@@ -4,8 +4,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.example.softcomputing.genetic.chromosome.BinaryChromosome;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
+
+public class BinaryChromosomeFactory extends AbstractSeedable implements ChromosomeFactory<Integer, BinaryChromosome> {
 
-public class BinaryChromosomeFactory implements ChromosomeFactory<Integer, BinaryChromosome> {
 
     @Override
     public BinaryChromosome create(Integer[] genes) {
@@ -23,7 +25,7 @@ public class BinaryChromosomeFactory implements ChromosomeFactory<Integer, Binar
         for (int i = 0; i < populationSize; i++) {
             Integer[] genes = new Integer[geneLength];
             for (int j = 0; j < geneLength; j++) {
-                genes[j] = Math.random() < 0.5 ? 0 : 1;
+                genes[j] = random.nextBoolean() ? 1 : 0;
             }
             initialPopulation.add(this.create(genes));
         }
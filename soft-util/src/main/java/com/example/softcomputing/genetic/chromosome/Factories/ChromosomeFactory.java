@@ -6,4 +6,9 @@ import com.example.softcomputing.genetic.chromosome.Chromosome;
 public interface ChromosomeFactory<G, C extends Chromosome<G>> {
     C create(G[] genes);
     List<C> createPopulation(int populationSize, int geneLength);
+
+    // takes back a chromosome nobody will use again, so storage it holds outside the
+    // heap can be handed out again; heap chromosomes are simply left to the GC
+    default void release(C chromosome) {
+    }
 }
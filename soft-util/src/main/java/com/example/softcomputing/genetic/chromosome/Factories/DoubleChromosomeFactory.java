@@ -0,0 +1,55 @@
+package com.example.softcomputing.genetic.chromosome.Factories;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
+
+public class DoubleChromosomeFactory extends AbstractSeedable implements ChromosomeFactory<Double, DoubleChromosome> {
+
+    private final double lowerBound;
+    private final double upperBound;
+
+    public DoubleChromosomeFactory(double lowerBound, double upperBound) {
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    @Override
+    public DoubleChromosome create(Double[] genes) {
+        double[] values = new double[genes.length];
+        for (int i = 0; i < genes.length; i++) {
+            values[i] = genes[i];
+        }
+        return new DoubleChromosome(values, lowerBound, upperBound);
+    }
+
+    public DoubleChromosome create(double[] genes) {
+        return new DoubleChromosome(genes, lowerBound, upperBound);
+    }
+
+    @Override
+    public List<DoubleChromosome> createPopulation(int populationSize, int geneLength) {
+        List<DoubleChromosome> initialPopulation = new ArrayList<>(populationSize);
+        double range = upperBound - lowerBound;
+
+        for (int i = 0; i < populationSize; i++) {
+            double[] genes = new double[geneLength];
+            for (int j = 0; j < geneLength; j++) {
+                genes[j] = lowerBound + random.nextDouble() * range;
+            }
+            initialPopulation.add(this.create(genes));
+        }
+
+        return initialPopulation;
+    }
+
+    public double getLowerBound() {
+        return lowerBound;
+    }
+
+    public double getUpperBound() {
+        return upperBound;
+    }
+}
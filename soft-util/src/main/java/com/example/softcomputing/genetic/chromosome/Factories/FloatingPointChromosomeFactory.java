@@ -2,15 +2,14 @@ package com.example.softcomputing.genetic.chromosome.Factories;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 import com.example.softcomputing.genetic.chromosome.FloatingPointChromosome;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
 
-public class FloatingPointChromosomeFactory implements ChromosomeFactory<Double, FloatingPointChromosome> {
+public class FloatingPointChromosomeFactory extends AbstractSeedable implements ChromosomeFactory<Double, FloatingPointChromosome> {
 
     private final double lowerBound;
     private final double upperBound;
-    private final Random rand = new Random();
 
     public FloatingPointChromosomeFactory(double lowerBound, double upperBound) {
         this.lowerBound = lowerBound;
@@ -30,7 +29,7 @@ public class FloatingPointChromosomeFactory implements ChromosomeFactory<Double,
         for (int i = 0; i < populationSize; i++) {
             Double[] genes = new Double[geneLength];
             for (int j = 0; j < geneLength; j++) {
-                genes[j] = lowerBound + rand.nextDouble() * (upperBound - lowerBound);
+                genes[j] = lowerBound + random.nextDouble() * (upperBound - lowerBound);
             }
             initialPopulation.add(this.create(genes));
         }
@@ -0,0 +1,81 @@
+package com.example.softcomputing.genetic.chromosome.Factories;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.softcomputing.genetic.chromosome.IntChromosome;
+import com.example.softcomputing.genetic.chromosome.IntGeneDomain;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
+
+public class IntChromosomeFactory extends AbstractSeedable implements ChromosomeFactory<Integer, IntChromosome> {
+
+    private final int min;
+    private final int max;
+    private IntGeneDomain domain;
+
+    public IntChromosomeFactory(IntGeneDomain domain) {
+        this.domain = domain;
+        this.min = 0;
+        this.max = 0;
+    }
+
+    // same [min, max] for every gene, domain sized on first use
+    public IntChromosomeFactory(int min, int max) {
+        if (min > max) {
+            throw new IllegalArgumentException(String.format("min %d greater than max %d", min, max));
+        }
+        this.min = min;
+        this.max = max;
+    }
+
+    @Override
+    public IntChromosome create(Integer[] genes) {
+        if (genes == null) {
+            throw new IllegalArgumentException("Genes must not be null");
+        }
+        int[] values = new int[genes.length];
+        for (int i = 0; i < genes.length; i++) {
+            if (genes[i] == null) {
+                throw new IllegalArgumentException(String.format("Gene %d is null", i));
+            }
+            values[i] = genes[i];
+        }
+        return create(values);
+    }
+
+    // wraps the array; its length must match the domain
+    public IntChromosome create(int[] genes) {
+        if (genes == null) {
+            throw new IllegalArgumentException("Genes must not be null");
+        }
+        return new IntChromosome(genes, domainFor(genes.length));
+    }
+
+    @Override
+    public List<IntChromosome> createPopulation(int populationSize, int geneLength) {
+        IntGeneDomain d = domainFor(geneLength);
+        List<IntChromosome> initialPopulation = new ArrayList<>(populationSize);
+        for (int i = 0; i < populationSize; i++) {
+            int[] genes = new int[geneLength];
+            for (int g = 0; g < geneLength; g++) {
+                genes[g] = (int) (d.min(g) + (long) (random.nextDouble() * d.size(g)));
+            }
+            initialPopulation.add(new IntChromosome(genes, d));
+        }
+        return initialPopulation;
+    }
+
+    private IntGeneDomain domainFor(int length) {
+        if (length <= 0) {
+            throw new IllegalArgumentException(String.format("Gene length must be positive, got: %d", length));
+        }
+        if (domain == null) {
+            domain = IntGeneDomain.uniform(length, min, max);
+        }
+        if (domain.length() != length) {
+            throw new IllegalArgumentException(
+                    String.format("Domain covers %d genes, requested %d", domain.length(), length));
+        }
+        return domain;
+    }
+}
@@ -1,11 +1,12 @@
 package com.example.softcomputing.genetic.chromosome.Factories;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 import com.example.softcomputing.genetic.chromosome.IntegerChromosome;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
+
+public class IntegerChromosomeFactory extends AbstractSeedable implements ChromosomeFactory<Integer, IntegerChromosome> {
 
-public class IntegerChromosomeFactory implements ChromosomeFactory<Integer, IntegerChromosome> {
 
     @Override
     public IntegerChromosome create(Integer[] genes) {
@@ -15,16 +16,14 @@ public class IntegerChromosomeFactory implements ChromosomeFactory<Integer, Inte
     @Override
     public List<IntegerChromosome> createPopulation(int populationSize, int geneLength) {
 
-        Random rnd = new Random();
         List<IntegerChromosome> initialPopulation = new ArrayList<>(populationSize);
         for (int i = 0; i < populationSize; i++) {
             Integer[] genes = new Integer[geneLength];
             for (int g = 0; g < geneLength; g++) {
-                genes[g] = rnd.nextInt(100); //  [0,99]
+                genes[g] = random.nextInt(100); //  [0,99]
             }
             initialPopulation.add(this.create(genes));
         }
         return initialPopulation;
     }
-
-}
\ No newline at end of file
+}
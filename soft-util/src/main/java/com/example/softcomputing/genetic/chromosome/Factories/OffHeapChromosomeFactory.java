@@ -0,0 +1,73 @@
+package com.example.softcomputing.genetic.chromosome.Factories;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.softcomputing.genetic.chromosome.OffHeapDoubleChromosome;
+import com.example.softcomputing.genetic.population.OffHeapPopulationStore;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
+
+// Creates real-valued chromosomes whose genes live in an off-heap store. Size the
+// store for at least parents plus offspring; engines release() the handles they drop,
+// anything else they lose track of comes back only once the GC finds it.
+public class OffHeapChromosomeFactory extends AbstractSeedable implements ChromosomeFactory<Double, OffHeapDoubleChromosome> {
+
+    private final OffHeapPopulationStore store;
+    private final double lowerBound;
+    private final double upperBound;
+
+    public OffHeapChromosomeFactory(OffHeapPopulationStore store, double lowerBound, double upperBound) {
+        this.store = store;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    @Override
+    public OffHeapDoubleChromosome create(Double[] genes) {
+        OffHeapDoubleChromosome chromosome = allocate(genes.length);
+        for (int i = 0; i < genes.length; i++) {
+            chromosome.setDouble(i, genes[i]);
+        }
+        return chromosome;
+    }
+
+    public OffHeapDoubleChromosome create(double[] genes) {
+        OffHeapDoubleChromosome chromosome = allocate(genes.length);
+        for (int i = 0; i < genes.length; i++) {
+            chromosome.setDouble(i, genes[i]);
+        }
+        return chromosome;
+    }
+
+    @Override
+    public List<OffHeapDoubleChromosome> createPopulation(int populationSize, int geneLength) {
+        List<OffHeapDoubleChromosome> initialPopulation = new ArrayList<>(populationSize);
+        double range = upperBound - lowerBound;
+        for (int i = 0; i < populationSize; i++) {
+            OffHeapDoubleChromosome chromosome = allocate(geneLength);
+            for (int j = 0; j < geneLength; j++) {
+                chromosome.setDouble(j, lowerBound + random.nextDouble() * range);
+            }
+            initialPopulation.add(chromosome);
+        }
+        return initialPopulation;
+    }
+
+    // frees the slot at once; releasing a handle twice is harmless
+    @Override
+    public void release(OffHeapDoubleChromosome chromosome) {
+        chromosome.release();
+    }
+
+    public OffHeapPopulationStore getStore() {
+        return store;
+    }
+
+    private OffHeapDoubleChromosome allocate(int geneLength) {
+        if (geneLength != store.getGeneLength()) {
+            throw new IllegalArgumentException(String.format(
+                    "Store holds %d genes per chromosome, requested %d", store.getGeneLength(), geneLength));
+        }
+        return new OffHeapDoubleChromosome(store, lowerBound, upperBound);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.softcomputing.genetic.chromosome.Factories;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.softcomputing.genetic.chromosome.PackedBinaryChromosome;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
+
+public class PackedBinaryChromosomeFactory extends AbstractSeedable implements ChromosomeFactory<Integer, PackedBinaryChromosome> {
+
+
+    @Override
+    public PackedBinaryChromosome create(Integer[] genes) {
+        PackedBinaryChromosome chromosome = new PackedBinaryChromosome(genes.length);
+        for (int i = 0; i < genes.length; i++) {
+            if (genes[i] != 0)
+                chromosome.setBit(i, true);
+        }
+        return chromosome;
+    }
+
+    public PackedBinaryChromosome create(long[] words, int length) {
+        return new PackedBinaryChromosome(words, length);
+    }
+
+    @Override
+    public List<PackedBinaryChromosome> createPopulation(int populationSize, int geneLength) {
+        List<PackedBinaryChromosome> initialPopulation = new ArrayList<>(populationSize);
+        for (int i = 0; i < populationSize; i++) {
+            initialPopulation.add(PackedBinaryChromosome.random(geneLength, random));
+        }
+        return initialPopulation;
+    }
+}
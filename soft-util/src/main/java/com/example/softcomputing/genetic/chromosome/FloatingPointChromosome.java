@@ -3,12 +3,13 @@ package com.example.softcomputing.genetic.chromosome;
 import java.util.Arrays;
 import java.util.function.ToDoubleFunction;
 
-public class FloatingPointChromosome implements Chromosome<Double> {
+public class FloatingPointChromosome implements Chromosome<Double>, GeneWords {
 
     private final Double[] genes;
     private final double lowerBound;
     private final double upperBound;
     private double fitness = 0.0;
+    private boolean evaluated = false;
 
     public FloatingPointChromosome(Double[] genes, double lowerBound, double upperBound) {
         this.genes = genes;
@@ -18,7 +19,18 @@ public class FloatingPointChromosome implements Chromosome<Double> {
 
     @Override
     public Double[] toArray() {
-        return genes;
+        return Arrays.copyOf(genes, genes.length);
+    }
+
+    // one word per gene
+    @Override
+    public int wordCount() {
+        return genes.length;
+    }
+
+    @Override
+    public long getWord(int index) {
+        return Double.doubleToLongBits(genes[index]);
     }
 
     @Override
@@ -32,6 +44,7 @@ public class FloatingPointChromosome implements Chromosome<Double> {
 
     public void setGene(int index, Double value) {
         genes[index] = value;
+        evaluated = false;
     }
 
     public double getLowerBound() {
@@ -60,6 +73,7 @@ public class FloatingPointChromosome implements Chromosome<Double> {
     @Override
     public void setFitness(double fitness) {
         this.fitness = fitness;
+        this.evaluated = true;
     }
 
     @Override
@@ -67,6 +81,16 @@ public class FloatingPointChromosome implements Chromosome<Double> {
         return fitness;
     }
 
+    @Override
+    public boolean isEvaluated() {
+        return evaluated;
+    }
+
+    @Override
+    public void invalidateFitness() {
+        evaluated = false;
+    }
+
     // public double evaluate(ToDoubleFunction<Chromosome<Double>> evaluator) {
     // if (evaluator != null) {
     // return evaluator.applyAsDouble(this);
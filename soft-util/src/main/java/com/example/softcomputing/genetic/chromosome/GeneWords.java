@@ -0,0 +1,11 @@
+package com.example.softcomputing.genetic.chromosome;
+
+// A chromosome whose genes read as 64-bit words in place: two chromosomes of the same
+// class and length have the same genes exactly when their words are equal, so caches
+// can hash and compare genomes without copying or boxing them.
+public interface GeneWords {
+
+    int wordCount();
+
+    long getWord(int index);
+}
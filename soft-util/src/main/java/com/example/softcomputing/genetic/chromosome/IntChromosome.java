@@ -0,0 +1,132 @@
+package com.example.softcomputing.genetic.chromosome;
+
+import java.util.Arrays;
+
+// Integer chromosome on a primitive int[] with a per-gene domain. Use getInt/setInt
+// in hot loops; the Chromosome<Integer> methods box and are kept for the generic operators.
+public class IntChromosome implements Chromosome<Integer>, GeneWords, Copyable<IntChromosome> {
+
+    private final int[] genes;
+    private final IntGeneDomain domain;
+    private double fitness = 0.0;
+    private boolean evaluated = false;
+
+    // wraps the array without copying it
+    public IntChromosome(int[] genes, IntGeneDomain domain) {
+        if (domain.length() != genes.length) {
+            throw new IllegalArgumentException(
+                    String.format("Domain covers %d genes, chromosome has %d", domain.length(), genes.length));
+        }
+        this.genes = genes;
+        this.domain = domain;
+    }
+
+    public IntChromosome(IntGeneDomain domain) {
+        this(new int[domain.length()], domain);
+    }
+
+    public int getInt(int index) {
+        return genes[index];
+    }
+
+    public void setInt(int index, int value) {
+        genes[index] = value;
+        evaluated = false;
+    }
+
+    // backing array, for primitive kernels
+    public int[] rawGenes() {
+        return genes;
+    }
+
+    public IntGeneDomain getDomain() {
+        return domain;
+    }
+
+    // copies genes and cached fitness from a chromosome of the same length
+    @Override
+    public void copyFrom(IntChromosome other) {
+        if (other.genes.length != genes.length) {
+            throw new IllegalArgumentException("Chromosomes must have the same length");
+        }
+        System.arraycopy(other.genes, 0, genes, 0, genes.length);
+        fitness = other.fitness;
+        evaluated = other.evaluated;
+    }
+
+    public int[] toIntArray() {
+        return genes.clone();
+    }
+
+    // same domain, all genes zero
+    public IntChromosome newBlank() {
+        return new IntChromosome(domain);
+    }
+
+    @Override
+    public IntChromosome copy() {
+        IntChromosome c = newBlank();
+        c.copyFrom(this);
+        return c;
+    }
+
+    @Override
+    public Integer[] toArray() {
+        Integer[] arr = new Integer[genes.length];
+        for (int i = 0; i < genes.length; i++)
+            arr[i] = genes[i];
+        return arr;
+    }
+
+    // one word per gene
+    @Override
+    public int wordCount() {
+        return genes.length;
+    }
+
+    @Override
+    public long getWord(int index) {
+        return genes[index];
+    }
+
+    @Override
+    public int length() {
+        return genes.length;
+    }
+
+    @Override
+    public Integer getGene(int index) {
+        return getInt(index);
+    }
+
+    @Override
+    public void setGene(int index, Integer value) {
+        setInt(index, value);
+    }
+
+    @Override
+    public double getFitness() {
+        return fitness;
+    }
+
+    @Override
+    public void setFitness(double fitness) {
+        this.fitness = fitness;
+        this.evaluated = true;
+    }
+
+    @Override
+    public boolean isEvaluated() {
+        return evaluated;
+    }
+
+    @Override
+    public void invalidateFitness() {
+        evaluated = false;
+    }
+
+    @Override
+    public String toString() {
+        return "IntChromosome" + Arrays.toString(toIntArray());
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.softcomputing.genetic.chromosome;
+
+import java.util.Arrays;
+
+// Inclusive [min, max] range of every gene position. Immutable, so one instance
+// is shared by the whole population.
+public final class IntGeneDomain {
+    private final int[] min;
+    private final int[] max;
+
+    public IntGeneDomain(int[] min, int[] max) {
+        if (min.length != max.length) {
+            throw new IllegalArgumentException("min and max must have the same length");
+        }
+        for (int i = 0; i < min.length; i++) {
+            if (min[i] > max[i]) {
+                throw new IllegalArgumentException(
+                        String.format("Gene %d has min %d greater than max %d", i, min[i], max[i]));
+            }
+        }
+        this.min = min.clone();
+        this.max = max.clone();
+    }
+
+    public static IntGeneDomain uniform(int length, int min, int max) {
+        int[] lo = new int[length];
+        int[] hi = new int[length];
+        Arrays.fill(lo, min);
+        Arrays.fill(hi, max);
+        return new IntGeneDomain(lo, hi);
+    }
+
+    public int length() {
+        return min.length;
+    }
+
+    public int min(int index) {
+        return min[index];
+    }
+
+    public int max(int index) {
+        return max[index];
+    }
+
+    // number of values gene index can take, as a long so full int ranges do not overflow
+    public long size(int index) {
+        return (long) max[index] - min[index] + 1;
+    }
+
+    public int clamp(int index, int value) {
+        return Math.max(min[index], Math.min(max[index], value));
+    }
+
+    public boolean contains(int index, int value) {
+        return value >= min[index] && value <= max[index];
+    }
+
+    @Override
+    public String toString() {
+        return "IntGeneDomain(min=" + Arrays.toString(min) + ", max=" + Arrays.toString(max) + ")";
+    }
+}
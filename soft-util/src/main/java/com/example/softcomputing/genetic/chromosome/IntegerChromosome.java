@@ -2,10 +2,11 @@ package com.example.softcomputing.genetic.chromosome;
 
 import java.util.Arrays;
 
-public class IntegerChromosome implements Chromosome<Integer> {
+public class IntegerChromosome implements Chromosome<Integer>, GeneWords {
 
     private Integer[] _genes;
     double fitness = 0.0;
+    private boolean evaluated = false;
 
     public IntegerChromosome(Integer[] genes) {
         this._genes = genes;
@@ -16,6 +17,17 @@ public class IntegerChromosome implements Chromosome<Integer> {
         return java.util.Arrays.copyOf(_genes, _genes.length);
     }
 
+    // one word per gene
+    @Override
+    public int wordCount() {
+        return _genes.length;
+    }
+
+    @Override
+    public long getWord(int index) {
+        return _genes[index];
+    }
+
     @Override
     public int length() {
         return _genes.length;
@@ -29,6 +41,7 @@ public class IntegerChromosome implements Chromosome<Integer> {
     @Override
     public void setGene(int index, Integer value) {
         _genes[index] = value;
+        evaluated = false;
     }
 
     @Override
@@ -39,6 +52,17 @@ public class IntegerChromosome implements Chromosome<Integer> {
     @Override
     public void setFitness(double fit) {
         this.fitness = fit;
+        this.evaluated = true;
+    }
+
+    @Override
+    public boolean isEvaluated() {
+        return evaluated;
+    }
+
+    @Override
+    public void invalidateFitness() {
+        evaluated = false;
     }
     // @Override
     // public double evaluate() {
@@ -0,0 +1,147 @@
+package com.example.softcomputing.genetic.chromosome;
+
+import java.lang.ref.Cleaner;
+import java.util.Arrays;
+
+import com.example.softcomputing.genetic.population.OffHeapPopulationStore;
+
+// Small heap handle for a real-valued genome whose genes and fitness live in an
+// OffHeapPopulationStore slot. The slot goes back to the store once the handle is
+// unreachable, or earlier through release().
+public class OffHeapDoubleChromosome implements Chromosome<Double>, GeneWords, Copyable<OffHeapDoubleChromosome> {
+
+    private final OffHeapPopulationStore store;
+    private final int slot;
+    private final double lowerBound;
+    private final double upperBound;
+    private final Cleaner.Cleanable cleanable;
+
+    public OffHeapDoubleChromosome(OffHeapPopulationStore store, double lowerBound, double upperBound) {
+        this.store = store;
+        this.slot = store.allocate();
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.cleanable = store.releaseWhenUnreachable(this, slot);
+    }
+
+    public double getDouble(int index) {
+        return store.getGene(slot, index);
+    }
+
+    public void setDouble(int index, double value) {
+        store.setGene(slot, index, value);
+        store.setEvaluated(slot, false);
+    }
+
+    public double clamp(double value) {
+        return Math.max(lowerBound, Math.min(upperBound, value));
+    }
+
+    // copies genes and cached fitness from a chromosome of the same store
+    @Override
+    public void copyFrom(OffHeapDoubleChromosome other) {
+        if (other.store != store) {
+            throw new IllegalArgumentException("Chromosomes must share the same store");
+        }
+        store.copyGenes(other.slot, slot);
+        if (other.isEvaluated())
+            setFitness(other.getFitness());
+        else
+            invalidateFitness();
+    }
+
+    // a handle on a new slot of the same store
+    @Override
+    public OffHeapDoubleChromosome copy() {
+        OffHeapDoubleChromosome c = new OffHeapDoubleChromosome(store, lowerBound, upperBound);
+        c.copyFrom(this);
+        return c;
+    }
+
+    public double[] toDoubleArray() {
+        double[] genes = new double[length()];
+        for (int i = 0; i < genes.length; i++)
+            genes[i] = getDouble(i);
+        return genes;
+    }
+
+    // returns the slot to the store now; the handle must not be used afterwards
+    public void release() {
+        cleanable.clean();
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    public OffHeapPopulationStore getStore() {
+        return store;
+    }
+
+    @Override
+    public Double[] toArray() {
+        Double[] arr = new Double[length()];
+        for (int i = 0; i < arr.length; i++)
+            arr[i] = getDouble(i);
+        return arr;
+    }
+
+    // one word per gene
+    @Override
+    public int wordCount() {
+        return length();
+    }
+
+    @Override
+    public long getWord(int index) {
+        return Double.doubleToLongBits(getDouble(index));
+    }
+
+    @Override
+    public int length() {
+        return store.getGeneLength();
+    }
+
+    @Override
+    public Double getGene(int index) {
+        return getDouble(index);
+    }
+
+    @Override
+    public void setGene(int index, Double value) {
+        setDouble(index, value);
+    }
+
+    public double getLowerBound() {
+        return lowerBound;
+    }
+
+    public double getUpperBound() {
+        return upperBound;
+    }
+
+    @Override
+    public double getFitness() {
+        return store.getFitness(slot);
+    }
+
+    @Override
+    public void setFitness(double fitness) {
+        store.setFitness(slot, fitness);
+    }
+
+    @Override
+    public boolean isEvaluated() {
+        return store.isEvaluated(slot);
+    }
+
+    @Override
+    public void invalidateFitness() {
+        store.setEvaluated(slot, false);
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapDoubleChromosome" + Arrays.toString(toDoubleArray());
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.softcomputing.genetic.chromosome;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+// Binary chromosome with 64 genes per long. Gene i lives in bit (i & 63) of word (i >>> 6);
+// bits past length in the last word are always kept at zero.
+public class PackedBinaryChromosome implements Chromosome<Integer>, GeneWords, Copyable<PackedBinaryChromosome> {
+    private final long[] words;
+    private final int length;
+    private double fitness = 0.0;
+    private boolean evaluated = false;
+
+    public PackedBinaryChromosome(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length must not be negative, got: " + length);
+        }
+        this.length = length;
+        this.words = new long[wordCount(length)];
+    }
+
+    public PackedBinaryChromosome(long[] words, int length) {
+        this(length);
+        if (words.length != this.words.length) {
+            throw new IllegalArgumentException(
+                    String.format("Expected %d words for %d genes, got: %d", this.words.length, length, words.length));
+        }
+        System.arraycopy(words, 0, this.words, 0, words.length);
+        clearTail();
+    }
+
+    public static PackedBinaryChromosome fromBits(int[] bits) {
+        PackedBinaryChromosome c = new PackedBinaryChromosome(bits.length);
+        for (int i = 0; i < bits.length; i++) {
+            if (bits[i] != 0)
+                c.words[i >>> 6] |= 1L << i;
+        }
+        return c;
+    }
+
+    public static PackedBinaryChromosome random(int length, RandomGenerator random) {
+        PackedBinaryChromosome c = new PackedBinaryChromosome(length);
+        for (int w = 0; w < c.words.length; w++) {
+            c.words[w] = random.nextLong();
+        }
+        c.clearTail();
+        return c;
+    }
+
+    public static int wordCount(int length) {
+        return (length + 63) >>> 6;
+    }
+
+    // valid bits of the last word
+    public static long tailMask(int length) {
+        int rem = length & 63;
+        return rem == 0 ? -1L : (1L << rem) - 1;
+    }
+
+    @Override
+    public Integer[] toArray() {
+        Integer[] arr = new Integer[length];
+        for (int i = 0; i < length; i++)
+            arr[i] = getBit(i) ? 1 : 0;
+        return arr;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public Integer getGene(int index) {
+        return getBit(index) ? 1 : 0;
+    }
+
+    @Override
+    public void setGene(int index, Integer value) {
+        setBit(index, value != 0);
+    }
+
+    public boolean getBit(int index) {
+        checkIndex(index);
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public void setBit(int index, boolean value) {
+        checkIndex(index);
+        if (value)
+            words[index >>> 6] |= 1L << index;
+        else
+            words[index >>> 6] &= ~(1L << index);
+        evaluated = false;
+    }
+
+    public void flip(int index) {
+        checkIndex(index);
+        words[index >>> 6] ^= 1L << index;
+        evaluated = false;
+    }
+
+    @Override
+    public int wordCount() {
+        return words.length;
+    }
+
+    @Override
+    public long getWord(int wordIndex) {
+        return words[wordIndex];
+    }
+
+    public void setWord(int wordIndex, long value) {
+        words[wordIndex] = wordIndex == words.length - 1 ? value & tailMask(length) : value;
+        evaluated = false;
+    }
+
+    // flips every gene whose bit is set in mask
+    public void xorWord(int wordIndex, long mask) {
+        setWord(wordIndex, words[wordIndex] ^ mask);
+    }
+
+    public long[] copyWords() {
+        return words.clone();
+    }
+
+    // copies genes and cached fitness from a chromosome of the same length
+    @Override
+    public void copyFrom(PackedBinaryChromosome other) {
+        if (other.length != length) {
+            throw new IllegalArgumentException("Chromosomes must have the same length");
+        }
+        System.arraycopy(other.words, 0, words, 0, words.length);
+        fitness = other.fitness;
+        evaluated = other.evaluated;
+    }
+
+    @Override
+    public PackedBinaryChromosome copy() {
+        PackedBinaryChromosome c = new PackedBinaryChromosome(words, length);
+        c.fitness = fitness;
+        c.evaluated = evaluated;
+        return c;
+    }
+
+    // number of genes set to 1
+    public int cardinality() {
+        int count = 0;
+        for (long w : words)
+            count += Long.bitCount(w);
+        return count;
+    }
+
+    public int hammingDistance(PackedBinaryChromosome other) {
+        if (other.length != length) {
+            throw new IllegalArgumentException("Chromosomes must have the same length");
+        }
+        return hammingDistance(other.words);
+    }
+
+    // target words must use the same layout as this chromosome
+    public int hammingDistance(long[] targetWords) {
+        if (targetWords.length != words.length) {
+            throw new IllegalArgumentException(
+                    String.format("Expected %d target words, got: %d", words.length, targetWords.length));
+        }
+        long tail = tailMask(length);
+        int last = words.length - 1;
+        int distance = 0;
+        for (int w = 0; w < last; w++)
+            distance += Long.bitCount(words[w] ^ targetWords[w]);
+        if (last >= 0)
+            distance += Long.bitCount((words[last] ^ targetWords[last]) & tail);
+        return distance;
+    }
+
+    public int countMatches(long[] targetWords) {
+        return length - hammingDistance(targetWords);
+    }
+
+    @Override
+    public double getFitness() {
+        return fitness;
+    }
+
+    @Override
+    public void setFitness(double fitness) {
+        this.fitness = fitness;
+        this.evaluated = true;
+    }
+
+    @Override
+    public boolean isEvaluated() {
+        return evaluated;
+    }
+
+    @Override
+    public void invalidateFitness() {
+        evaluated = false;
+    }
+
+    private void clearTail() {
+        if (words.length > 0)
+            words[words.length - 1] &= tailMask(length);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= length)
+            throw new IndexOutOfBoundsException("Gene index " + index + " out of bounds for length " + length);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof PackedBinaryChromosome))
+            return false;
+        PackedBinaryChromosome other = (PackedBinaryChromosome) o;
+        return length == other.length && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(words) + length;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++)
+            sb.append(getBit(i) ? '1' : '0');
+        return "PackedBinaryChromosome" + sb.toString();
+    }
+}
@@ -0,0 +1,325 @@
+package com.example.softcomputing.genetic.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.genetic.chromosome.Copyable;
+import com.example.softcomputing.genetic.chromosome.Factories.ChromosomeFactory;
+import com.example.softcomputing.genetic.operators.crossover.CrossoverStrategy;
+import com.example.softcomputing.genetic.operators.mutation.MutationStrategy;
+import com.example.softcomputing.genetic.operators.replacement.HeapReplacement;
+import com.example.softcomputing.genetic.operators.replacement.Replacement;
+import com.example.softcomputing.genetic.operators.selection.FenwickRouletteSelection;
+import com.example.softcomputing.genetic.operators.selection.SelectionStrategy;
+import com.example.softcomputing.genetic.random.PerThreadSplitMix64;
+import com.example.softcomputing.genetic.random.Seedable;
+import com.example.softcomputing.genetic.random.SplitMix64;
+import com.example.softcomputing.utils.AppLogger;
+import com.example.softcomputing.utils.FitnessFunction;
+
+// Steady-state GA without a generational barrier. Each worker thread repeatedly
+// selects two parents, breeds and evaluates a child, and inserts it with the
+// configured replacement applied to that single child (SteadyStateReplacement or
+// ElitismReplacement, anything that keeps the population size; a HeapReplacement is
+// updated in place, each child aimed at the parent in its position). Only selection and
+// insertion hold the population lock; crossover, mutation and the fitness call run
+// in parallel, so a slow evaluation never stalls the other workers. Population members
+// are never changed in place, so parents are read outside the lock; a parent the
+// crossover passes through unchanged is copied before mutation, so every inserted
+// child is a new object.
+// The budget is populationSize * maxGenerations evaluations unless set explicitly.
+// Every populationSize insertions the selection is prepared again and GenerationAware
+// operators are called, concurrently with workers still breeding, so operator state
+// must be safe to change under them. With a HeapReplacement, a FenwickRouletteSelection
+// is also updated in O(log n) for every child that enters, so picks never see stale weights.
+public class AsyncSteadyStateGeneticAlgorithm<C extends Chromosome<?>> {
+
+    private final int _populationSize;
+    private final long _maxEvaluations;
+    private final int _workers;
+
+    private final SelectionStrategy<C> _selection;
+    private final CrossoverStrategy<C> _crossover;
+    private final MutationStrategy<C> _mutation;
+    private final Replacement<C> _replacement;
+    private final FitnessFunction<C> _fitnessFunction;
+    private final ChromosomeFactory<?, C> _factory;
+    private final AppLogger _logger;
+
+    // guarded by _lock
+    private final Object _lock = new Object();
+    private List<C> _population;
+    private long _insertions = 0;
+    private C _overallBest = null;
+    private double _overallBestFitness = Double.NEGATIVE_INFINITY;
+    private final GenerationContext _context = new GenerationContext();
+
+    private final AtomicLong _budget = new AtomicLong();
+    private final AtomicLong _evaluations = new AtomicLong();
+    private volatile boolean _stopped = false;
+
+    private AsyncSteadyStateGeneticAlgorithm(GeneticAlgorithmBuilder<C> builder, long maxEvaluations) {
+        this._populationSize = builder.populationSize;
+        this._maxEvaluations = maxEvaluations;
+        this._workers = builder.parallelism;
+        this._population = new ArrayList<>(builder.population);
+        this._selection = builder.selection;
+        this._crossover = builder.crossover;
+        this._mutation = builder.mutation;
+        this._replacement = builder.replacement;
+        this._fitnessFunction = builder.fitnessFunction;
+        this._factory = builder.chromosomeFactory;
+        this._logger = builder.logger;
+        // workers cross and mutate outside _lock
+        usePerThreadStreams(_crossover);
+        usePerThreadStreams(_mutation);
+    }
+
+    public static <C extends Chromosome<?>> AsyncSteadyStateGeneticAlgorithm<C> from(
+            GeneticAlgorithmBuilder<C> builder) {
+        return from(builder, builder.populationSize * builder.maxGenerations);
+    }
+
+    // the builder's parallelism is the number of worker threads
+    public static <C extends Chromosome<?>> AsyncSteadyStateGeneticAlgorithm<C> from(
+            GeneticAlgorithmBuilder<C> builder, long maxEvaluations) {
+        Objects.requireNonNull(builder.chromosomeFactory, "chromosome factory is required");
+        builder.validate();
+        if (builder.population == null || builder.population.isEmpty()) {
+            throw new IllegalArgumentException("An initial population is required");
+        }
+        if (maxEvaluations <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Evaluation budget must be positive, got: %d", maxEvaluations));
+        }
+        return new AsyncSteadyStateGeneticAlgorithm<>(builder, maxEvaluations);
+    }
+
+    public C run() {
+        // the initial population is scored up front, in parallel, and counts against the budget
+        ExecutorService executor = Executors.newFixedThreadPool(_workers, task -> {
+            Thread thread = new Thread(task, "steady-state-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<?>> futures = new ArrayList<>(_workers);
+            List<C> initial = _population;
+            for (int w = 0; w < _workers; w++) {
+                int worker = w;
+                futures.add(executor.submit(() -> evaluateInitial(initial, worker)));
+            }
+            awaitAll(futures);
+            synchronized (_lock) {
+                for (C individual : _population) {
+                    updateBest(individual);
+                }
+                _context.start(_maxEvaluations / _populationSize);
+                nextGeneration(0);
+            }
+
+            futures.clear();
+            for (int w = 0; w < _workers; w++) {
+                futures.add(executor.submit(this::workUntilDone));
+            }
+            awaitAll(futures);
+        } finally {
+            _stopped = true;
+            executor.shutdownNow();
+        }
+
+        _logger.info("Steady-state run finished: evaluations=" + _evaluations.get()
+                + " bestFitness=" + getBestFitness() + " best=" + getBest());
+        return getBest();
+    }
+
+    // makes workers finish their current child and return
+    public void stop() {
+        _stopped = true;
+    }
+
+    private void evaluateInitial(List<C> initial, int worker) {
+        for (int i = worker; i < initial.size(); i += _workers) {
+            C individual = initial.get(i);
+            if (!individual.isEvaluated()) {
+                _budget.incrementAndGet();
+                evaluate(individual);
+            }
+        }
+    }
+
+    private void workUntilDone() {
+        try {
+            work();
+        } catch (RuntimeException | Error e) {
+            // a failing worker stops the others instead of leaving them to spend the budget
+            _stopped = true;
+            throw e;
+        }
+    }
+
+    private void work() {
+        while (!_stopped && !Thread.currentThread().isInterrupted()) {
+            C parent1;
+            C parent2;
+            synchronized (_lock) {
+                parent1 = _selection.selectIndividual(_population);
+                parent2 = _selection.selectIndividual(_population);
+            }
+
+            // the parents also serve as replacement targets
+            List<C> children = _crossover.crossover(parent1, parent2);
+            for (int i = 0; i < children.size(); i++) {
+                C child = children.get(i);
+                if (child == parent1 || child == parent2)
+                    child = copyOf(child);
+                C mutated = _mutation.mutate(child);
+                if (!mutated.isEvaluated()) {
+                    if (_budget.incrementAndGet() > _maxEvaluations) {
+                        _stopped = true;
+                        return;
+                    }
+                    evaluate(mutated);
+                    EvaluationAware.notifyOperators(Collections.singletonList(mutated), _selection, _crossover,
+                            _mutation, _replacement);
+                }
+                insert(mutated, i == 0 ? parent1 : parent2);
+            }
+        }
+    }
+
+    // guarded by _lock; a population's worth of insertions counts as a generation
+    private void nextGeneration(long generation) {
+        double best = Double.NEGATIVE_INFINITY;
+        for (C individual : _population) {
+            best = Math.max(best, individual.getFitness());
+        }
+        _context.update(generation, _evaluations.get(), best, _population);
+        GenerationAware.notifyOperators(_context, _selection, _crossover, _mutation, _replacement);
+        _selection.prepare(_population);
+    }
+
+    // the workers share the operator, so each worker thread draws from its own stream
+    // rather than racing on one generator
+    private static void usePerThreadStreams(Object operator) {
+        if (!(operator instanceof Seedable))
+            return;
+        Seedable seedable = (Seedable) operator;
+        RandomGenerator random = seedable.getRandom();
+        if (random instanceof PerThreadSplitMix64)
+            return;
+        SplitMix64 root = random instanceof SplitMix64 ? ((SplitMix64) random).split()
+                : new SplitMix64(random.nextLong());
+        seedable.setRandom(new PerThreadSplitMix64(root));
+    }
+
+    // a Copyable individual is copied without boxing; otherwise the factory builds
+    // chromosomes of type C, so it accepts C's own gene array
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private C copyOf(C individual) {
+        if (individual instanceof Copyable)
+            return ((Copyable<C>) individual).copy();
+        C copy = (C) ((ChromosomeFactory) _factory).create(individual.toArray().clone());
+        if (individual.isEvaluated())
+            copy.setFitness(individual.getFitness());
+        return copy;
+    }
+
+    private void evaluate(C individual) {
+        individual.setFitness(_fitnessFunction.evaluate(individual));
+        _evaluations.incrementAndGet();
+    }
+
+    private void insert(C child, C parent) {
+        synchronized (_lock) {
+            if (_replacement instanceof HeapReplacement) {
+                // the heap adopts _population and replaces in it in place in O(log n); the
+                // parent is the target of the PARENT policy
+                HeapReplacement<C> heap = (HeapReplacement<C>) _replacement;
+                heap.track(_population);
+                C leaving = heap.insert(child, parent);
+                if (leaving != null && _selection instanceof FenwickRouletteSelection)
+                    ((FenwickRouletteSelection<C>) _selection).update(heap.indexOf(child), child.getFitness());
+                inserted(child);
+                return;
+            }
+            List<C> next = _replacement.replacePopulation(_population, Collections.singletonList(child));
+            if (next.size() != _population.size()) {
+                throw new IllegalStateException(String.format(
+                        "Replacement %s changed the population size from %d to %d; use a steady-state policy",
+                        _replacement, _population.size(), next.size()));
+            }
+            _population = next;
+            inserted(child);
+        }
+    }
+
+    // guarded by _lock
+    private void inserted(C child) {
+        _insertions++;
+        updateBest(child);
+
+        // insertions are counted one at a time under the lock, so no boundary is missed
+        if (_insertions % _populationSize == 0) {
+            if (_logger.isDebugEnabled())
+                _logger.debug("Evaluations " + _evaluations.get() + " bestFitness=" + _overallBestFitness);
+            nextGeneration(_insertions / _populationSize);
+        }
+    }
+
+    private void updateBest(C individual) {
+        if (individual.getFitness() > _overallBestFitness) {
+            _overallBest = individual;
+            _overallBestFitness = individual.getFitness();
+        }
+    }
+
+    private void awaitAll(List<Future<?>> futures) {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running workers", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Worker failed", e.getCause());
+        }
+    }
+
+    public long getEvaluationCount() {
+        return _evaluations.get();
+    }
+
+    public long getMaxEvaluations() {
+        return _maxEvaluations;
+    }
+
+    public List<C> getPopulation() {
+        synchronized (_lock) {
+            return new ArrayList<>(_population);
+        }
+    }
+
+    public C getBest() {
+        synchronized (_lock) {
+            return _overallBest;
+        }
+    }
+
+    public double getBestFitness() {
+        synchronized (_lock) {
+            return _overallBestFitness;
+        }
+    }
+}
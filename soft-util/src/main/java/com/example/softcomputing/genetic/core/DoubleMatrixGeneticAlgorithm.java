@@ -0,0 +1,223 @@
+package com.example.softcomputing.genetic.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.evaluation.FitnessEvaluator;
+import com.example.softcomputing.genetic.operators.crossover.CrossoverStrategy;
+import com.example.softcomputing.genetic.operators.crossover.DoubleCrossover;
+import com.example.softcomputing.genetic.operators.mutation.MutationStrategy;
+import com.example.softcomputing.genetic.operators.replacement.Replacement;
+import com.example.softcomputing.genetic.operators.selection.SelectionStrategy;
+import com.example.softcomputing.genetic.population.DoublePopulationMatrix;
+import com.example.softcomputing.genetic.random.RandomStreams;
+import com.example.softcomputing.genetic.random.SplitMix64;
+import com.example.softcomputing.utils.AppLogger;
+import com.example.softcomputing.utils.FitnessFunction;
+
+// Generational GA over a DoublePopulationMatrix. Offspring are bred straight into the
+// matrix's offspring rows and survivors are copied back into free rows, so with a
+// DoubleCrossover, an in-place mutation and FullGenerationReplacement a generation
+// allocates nothing. Other operators still work, at the cost of a copy per child.
+public class DoubleMatrixGeneticAlgorithm {
+
+    private final long _MaxGeneration;
+    private final DoublePopulationMatrix _matrix;
+
+    private final SelectionStrategy<DoubleChromosome> _selection;
+    private final CrossoverStrategy<DoubleChromosome> _crossover;
+    private final MutationStrategy<DoubleChromosome> _mutation;
+    private final Replacement<DoubleChromosome> _replacement;
+    private final FitnessFunction<DoubleChromosome> _fitnessFunction;
+    private final FitnessEvaluator<DoubleChromosome> _evaluator;
+    private final AppLogger _logger;
+
+    // scratch state reused every generation
+    private final List<DoubleChromosome> _pending;
+    private final boolean[] _keepRow;
+    private final boolean[] _placed;
+    private final DoubleChromosome _spareChild;
+    private final double[] _bestGenes;
+    private double _bestFitness = Double.NEGATIVE_INFINITY;
+    private long _evaluations = 0;
+    private final GenerationContext _context = new GenerationContext();
+
+    private DoubleMatrixGeneticAlgorithm(GeneticAlgorithmBuilder<DoubleChromosome> builder,
+            DoublePopulationMatrix matrix) {
+        this._MaxGeneration = builder.maxGenerations;
+        this._matrix = matrix;
+        this._selection = builder.selection;
+        this._crossover = builder.crossover;
+        this._mutation = builder.mutation;
+        this._replacement = builder.replacement;
+        this._fitnessFunction = builder.fitnessFunction;
+        this._evaluator = builder.evaluator;
+        this._logger = builder.logger;
+
+        int n = matrix.getPopulationSize();
+        this._pending = new ArrayList<>(n);
+        this._keepRow = new boolean[n];
+        this._placed = new boolean[n];
+        this._spareChild = new DoubleChromosome(matrix.getGeneLength(), matrix.getLowerBound(),
+                matrix.getUpperBound());
+        this._bestGenes = new double[matrix.getGeneLength()];
+    }
+
+    // the builder's population, if any, is copied into the matrix, otherwise the matrix is randomized
+    public static DoubleMatrixGeneticAlgorithm from(GeneticAlgorithmBuilder<DoubleChromosome> builder,
+            DoublePopulationMatrix matrix) {
+        builder.validate();
+        if (builder.population != null && !builder.population.isEmpty()) {
+            matrix.load(builder.population);
+        } else {
+            matrix.randomize(builder.seed != null
+                    ? RandomStreams.of(builder.seed, RandomStreams.FACTORY)
+                    : new SplitMix64());
+        }
+        return new DoubleMatrixGeneticAlgorithm(builder, matrix);
+    }
+
+    public void run() {
+        try {
+            evaluatePending(_matrix.current());
+            _context.start(_MaxGeneration);
+            _context.update(0, _evaluations, updateBest(_matrix.current()), _matrix.current());
+
+            for (int gen = 1; gen <= _MaxGeneration; gen++) {
+                List<DoubleChromosome> parents = _matrix.current();
+                List<DoubleChromosome> offspring = _matrix.offspring();
+
+                GenerationAware.notifyOperators(_context, _selection, _crossover, _mutation, _replacement);
+                breed(parents, offspring);
+                evaluatePending(offspring);
+                EvaluationAware.notifyOperators(offspring, _selection, _crossover, _mutation, _replacement);
+
+                // replacement, then survivors are materialized in the offspring buffer
+                List<DoubleChromosome> survivors = _replacement.replacePopulation(parents, offspring);
+                materialize(survivors, offspring);
+                _matrix.swap();
+
+                double generationBest = updateBest(_matrix.current());
+                _context.update(gen, _evaluations, generationBest, _matrix.current());
+                if (_logger.isDebugEnabled())
+                    _logger.debug("Generation " + gen + " bestFitness=" + generationBest);
+            }
+        } finally {
+            // the evaluator may hold a thread pool
+            _evaluator.close();
+        }
+
+        _logger.info("\n====================================");
+        _logger.info("BEST SOLUTION FOUND OVERALL:");
+        _logger.info("Best Fitness: " + _bestFitness);
+        _logger.info("Best Chromosome: " + Arrays.toString(_bestGenes));
+        _logger.info("====================================\n");
+    }
+
+    private void breed(List<DoubleChromosome> parents, List<DoubleChromosome> offspring) {
+        int n = offspring.size();
+        _selection.prepare(parents);
+        List<DoubleChromosome> mates = _selection.selectParents(parents, n + (n & 1));
+
+        for (int i = 0; i < n; i += 2) {
+            DoubleChromosome parent1 = mates.get(i);
+            DoubleChromosome parent2 = mates.get(i + 1);
+            DoubleChromosome child1 = offspring.get(i);
+            DoubleChromosome child2 = i + 1 < n ? offspring.get(i + 1) : _spareChild;
+
+            // crossover
+            if (_crossover instanceof DoubleCrossover) {
+                ((DoubleCrossover) _crossover).crossoverInto(parent1, parent2, child1, child2);
+            } else {
+                List<DoubleChromosome> children = _crossover.crossover(parent1, parent2);
+                child1.copyFrom(children.get(0));
+                child2.copyFrom(children.get(1));
+            }
+
+            // mutation
+            mutateInto(child1);
+            mutateInto(child2);
+        }
+    }
+
+    private void mutateInto(DoubleChromosome row) {
+        DoubleChromosome mutated = _mutation.mutate(row);
+        if (mutated != row)
+            row.copyFrom(mutated);
+    }
+
+    // rows already in the offspring buffer stay where they are; everything else
+    // (surviving parents, duplicates) is copied into offspring rows nobody kept
+    private void materialize(List<DoubleChromosome> survivors, List<DoubleChromosome> offspring) {
+        int count = Math.min(survivors.size(), offspring.size());
+        Arrays.fill(_keepRow, false);
+        Arrays.fill(_placed, false);
+
+        for (int i = 0; i < count; i++) {
+            DoubleChromosome s = survivors.get(i);
+            if (_matrix.isOffspring(s)) {
+                int row = _matrix.rowOf(s);
+                if (!_keepRow[row]) {
+                    _keepRow[row] = true;
+                    _placed[i] = true;
+                }
+            }
+        }
+
+        int free = 0;
+        for (int i = 0; i < count; i++) {
+            if (_placed[i])
+                continue;
+            while (_keepRow[free])
+                free++;
+            offspring.get(free).copyFrom(survivors.get(i));
+            _keepRow[free] = true;
+        }
+    }
+
+    private void evaluatePending(List<DoubleChromosome> individuals) {
+        _pending.clear();
+        for (DoubleChromosome ind : individuals) {
+            if (!ind.isEvaluated())
+                _pending.add(ind);
+        }
+        if (_pending.isEmpty())
+            return;
+
+        _evaluator.evaluate(_pending, _fitnessFunction);
+        _evaluations += _pending.size();
+        _pending.clear();
+    }
+
+    // returns this generation's best and keeps a copy of the best genes seen so far
+    private double updateBest(List<DoubleChromosome> population) {
+        DoubleChromosome best = null;
+        for (DoubleChromosome ind : population) {
+            if (best == null || ind.getFitness() > best.getFitness())
+                best = ind;
+        }
+        if (best != null && best.getFitness() > _bestFitness) {
+            _bestFitness = best.getFitness();
+            System.arraycopy(best.rawGenes(), best.offset(), _bestGenes, 0, _bestGenes.length);
+        }
+        return best == null ? Double.NEGATIVE_INFINITY : best.getFitness();
+    }
+
+    public double getBestFitness() {
+        return _bestFitness;
+    }
+
+    public double[] getBestGenes() {
+        return _bestGenes.clone();
+    }
+
+    public long getEvaluationCount() {
+        return _evaluations;
+    }
+
+    public DoublePopulationMatrix getMatrix() {
+        return _matrix;
+    }
+}
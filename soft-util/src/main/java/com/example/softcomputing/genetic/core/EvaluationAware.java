@@ -0,0 +1,22 @@
+package com.example.softcomputing.genetic.core;
+
+import java.util.List;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+
+// Operators that want the fitness of the children they produced. The engine calls
+// this right after scoring offspring, before replacement, while every child still
+// holds its own genes and fitness. Steady-state engines call it from worker threads,
+// one child at a time. Read the individuals during the call only.
+public interface EvaluationAware {
+
+    void onEvaluated(List<? extends Chromosome<?>> offspring);
+
+    // calls onEvaluated on each operator that is EvaluationAware
+    static void notifyOperators(List<? extends Chromosome<?>> offspring, Object... operators) {
+        for (Object operator : operators) {
+            if (operator instanceof EvaluationAware)
+                ((EvaluationAware) operator).onEvaluated(offspring);
+        }
+    }
+}
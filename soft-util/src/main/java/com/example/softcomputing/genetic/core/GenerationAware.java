@@ -0,0 +1,18 @@
+package com.example.softcomputing.genetic.core;
+
+// Operators that follow the run. Before breeding each generation the engine hands
+// every operator implementing this the context of the generation just finished (the
+// initial population is generation 0). Steady-state engines call it once per
+// population's worth of insertions. Read the context during the call only.
+public interface GenerationAware {
+
+    void onGeneration(GenerationContext context);
+
+    // calls onGeneration on each operator that is GenerationAware
+    static void notifyOperators(GenerationContext context, Object... operators) {
+        for (Object operator : operators) {
+            if (operator instanceof GenerationAware)
+                ((GenerationAware) operator).onGeneration(context);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.softcomputing.genetic.core;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.genetic.io.Checkpointable;
+import com.example.softcomputing.genetic.utils.PopulationDiversity;
+
+// State of a run after a generation, handed to termination criteria and to
+// GenerationAware operators. The engine owns one instance and updates it in place, so
+// read it during the callback only. Mean fitness and diversity are computed on first
+// request and cached until the next update. Its counters are saved in checkpoints, so a
+// resumed run keeps its stagnation count and elapsed time.
+public class GenerationContext implements Checkpointable {
+
+    private long generation;
+    private long maxGenerations;
+    private long evaluations;
+    private double bestFitness = Double.NEGATIVE_INFINITY;
+    private double overallBestFitness = Double.NEGATIVE_INFINITY;
+    private long generationsWithoutImprovement;
+    private long startNanos;
+    private long elapsedNanos;
+    private List<? extends Chromosome<?>> population;
+    private double meanFitness = Double.NaN;
+    private double diversity = Double.NaN;
+
+    GenerationContext() {
+    }
+
+    // a restored context goes on counting from its saved elapsed time
+    void start(long maxGenerations) {
+        this.maxGenerations = maxGenerations;
+        this.startNanos = System.nanoTime() - elapsedNanos;
+    }
+
+    void update(long generation, long evaluations, double bestFitness, List<? extends Chromosome<?>> population) {
+        if (bestFitness > overallBestFitness) {
+            overallBestFitness = bestFitness;
+            generationsWithoutImprovement = 0;
+        } else if (generation > this.generation) {
+            generationsWithoutImprovement++;
+        }
+        this.generation = generation;
+        this.evaluations = evaluations;
+        this.bestFitness = bestFitness;
+        this.population = population;
+        this.elapsedNanos = System.nanoTime() - startNanos;
+        this.meanFitness = Double.NaN;
+        this.diversity = Double.NaN;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public long getMaxGenerations() {
+        return maxGenerations;
+    }
+
+    // 0 at the start of the run, 1 at maxGenerations
+    public double getProgress() {
+        return maxGenerations <= 0 ? 0.0 : Math.min(1.0, (double) generation / maxGenerations);
+    }
+
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    public double getMeanFitness() {
+        if (Double.isNaN(meanFitness) && population != null && !population.isEmpty()) {
+            double total = 0.0;
+            for (int i = 0; i < population.size(); i++) {
+                total += population.get(i).getFitness();
+            }
+            meanFitness = total / population.size();
+        }
+        return meanFitness;
+    }
+
+    public double getOverallBestFitness() {
+        return overallBestFitness;
+    }
+
+    public long getGenerationsWithoutImprovement() {
+        return generationsWithoutImprovement;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public List<? extends Chromosome<?>> getPopulation() {
+        return population;
+    }
+
+    @Override
+    public void writeState(DataOutput out) throws IOException {
+        out.writeLong(generation);
+        out.writeLong(evaluations);
+        out.writeDouble(bestFitness);
+        out.writeDouble(overallBestFitness);
+        out.writeLong(generationsWithoutImprovement);
+        out.writeLong(elapsedNanos);
+    }
+
+    // the population is set again by the engine's next update
+    @Override
+    public void readState(DataInput in) throws IOException {
+        generation = in.readLong();
+        evaluations = in.readLong();
+        bestFitness = in.readDouble();
+        overallBestFitness = in.readDouble();
+        generationsWithoutImprovement = in.readLong();
+        elapsedNanos = in.readLong();
+        population = null;
+        meanFitness = Double.NaN;
+        diversity = Double.NaN;
+    }
+
+    public double getDiversity() {
+        if (Double.isNaN(diversity))
+            diversity = population == null ? 0.0 : PopulationDiversity.of(population);
+        return diversity;
+    }
+}
@@ -1,13 +1,50 @@
 package com.example.softcomputing.genetic.core;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+
+import javax.management.ObjectName;
 
 import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.genetic.chromosome.Copyable;
+import com.example.softcomputing.genetic.chromosome.Factories.ChromosomeFactory;
+import com.example.softcomputing.genetic.evaluation.CachedFitnessFunction;
+import com.example.softcomputing.genetic.evaluation.FitnessEvaluator;
+import com.example.softcomputing.genetic.io.Checkpoint;
+import com.example.softcomputing.genetic.io.CheckpointWriter;
+import com.example.softcomputing.genetic.io.Checkpointable;
+import com.example.softcomputing.genetic.io.RandomState;
+import com.example.softcomputing.genetic.management.GeneticAlgorithmMonitor;
+import com.example.softcomputing.genetic.management.ManagementSupport;
+import com.example.softcomputing.genetic.metrics.FitnessEvaluationEvent;
+import com.example.softcomputing.genetic.metrics.GenerationEvent;
+import com.example.softcomputing.genetic.metrics.MetricsListener;
+import com.example.softcomputing.genetic.metrics.MetricsRecorder;
+import com.example.softcomputing.genetic.metrics.MetricsSnapshot;
+import com.example.softcomputing.genetic.metrics.OperatorPhaseEvent;
+import com.example.softcomputing.genetic.metrics.Phase;
+import com.example.softcomputing.genetic.metrics.ReplacementEvent;
 import com.example.softcomputing.genetic.operators.crossover.CrossoverStrategy;
+import com.example.softcomputing.genetic.operators.crossover.InPlaceCrossover;
 import com.example.softcomputing.genetic.operators.mutation.MutationStrategy;
 import com.example.softcomputing.genetic.operators.replacement.Replacement;
 import com.example.softcomputing.genetic.operators.selection.SelectionStrategy;
+import com.example.softcomputing.genetic.random.Seedable;
+import com.example.softcomputing.genetic.termination.TerminationCriterion;
+import com.example.softcomputing.genetic.utils.TopK;
 import com.example.softcomputing.utils.AppLogger;
 import com.example.softcomputing.utils.FitnessFunction;
 
@@ -16,100 +53,688 @@ public class GeneticAlgorithm<C extends Chromosome<?>> {
     // default
     private int _populationSize;
     private long _MaxGeneration = 100;
-    private List<C> _population;
+    // read by monitoring threads, always replaced, never modified in place
+    private volatile List<C> _population;
 
     private SelectionStrategy<C> _selection;
     private CrossoverStrategy<C> _crossover;
     private MutationStrategy<C> _mutation;
     private Replacement<C> _replacement;
     private FitnessFunction<C> _fitnessFunction;
+    // the same function, emitting JFR evaluation events
+    private FitnessFunction<C> _recordedFitnessFunction;
+    private FitnessEvaluator<C> _evaluator;
+    private final List<C> _pending = new ArrayList<>();
+    // with an InPlaceCrossover, children are written into chromosomes that left the
+    // population in earlier generations, and offspring lists alternate between two buffers
+    private final InPlaceCrossover<C> _inPlaceCrossover;
+    private final List<C> _spare = new ArrayList<>();
+    private final Set<C> _retained = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final List<C> _offspringA = new ArrayList<>();
+    private final List<C> _offspringB = new ArrayList<>();
+    private long _evaluations = 0;
+    private ChromosomeFactory<?, C> _factory;
+    private boolean _initialized = false;
+    private long _generation = 0;
+    // best-so-far, readable from other threads while the run is in progress; a private
+    // copy when a factory is configured, so it is never a recycled population member
+    private volatile C _overallBest = null;
+    private volatile double _overallBestFitness = Double.NEGATIVE_INFINITY;
+    private final TerminationCriterion _termination;
+    private final GenerationContext _context = new GenerationContext();
+    private volatile String _terminationReason = null;
+    private final Path _checkpointPath;
+    private final int _checkpointInterval;
+    // individuals of checkpoints still being encoded in the background, kept out of recycling
+    private final Set<C> _pinned = Collections.newSetFromMap(new IdentityHashMap<>());
+    private CheckpointWriter _checkpoints;
+    private final MetricsRecorder _metrics = new MetricsRecorder();
+    private final RunControl _control = new RunControl();
+    private static final String ENGINE = "GeneticAlgorithm";
     AppLogger _logger = AppLogger.getLogger(GeneticAlgorithm.class);
 
 
+    @SuppressWarnings("unchecked")
     public GeneticAlgorithm(GeneticAlgorithmBuilder<C> builder) {
         this._populationSize = builder.populationSize;
         this._MaxGeneration = builder.maxGenerations;
         this._population = builder.population;
         this._selection = builder.selection;
         this._crossover = builder.crossover;
+        this._inPlaceCrossover = builder.crossover instanceof InPlaceCrossover && builder.chromosomeFactory != null
+                ? (InPlaceCrossover<C>) builder.crossover
+                : null;
         this._mutation = builder.mutation;
         this._replacement = builder.replacement;
         this._logger = builder.logger;
         this._fitnessFunction = builder.fitnessFunction;
+        this._recordedFitnessFunction = builder.fitnessFunction == null ? null
+                : FitnessEvaluationEvent.recording(ENGINE, builder.fitnessFunction);
+        this._evaluator = builder.evaluator;
+        this._factory = builder.chromosomeFactory;
+        this._termination = builder.termination;
+        this._checkpointPath = builder.checkpointPath;
+        this._checkpointInterval = builder.checkpointInterval;
+        for (MetricsListener listener : builder.metricsListeners) {
+            _metrics.addListener(listener);
+        }
     }
 
-    public void run() {
+    // runs until maxGenerations, a termination criterion, a stop request or an interrupt,
+    // and returns the best individual found so far (null if the run could not start)
+    public C run() {
+        return run(null);
+    }
+
+    // the same run, calling afterGeneration on the engine thread after every generation
+    // and its checkpoint; island models migrate from there
+    public C run(Consumer<? super GeneticAlgorithm<C>> afterGeneration) {
+        if (!initialize())
+            return null;
+
+        ObjectName mbean = ManagementSupport.register("GeneticAlgorithm", new GeneticAlgorithmMonitor(this));
+        _checkpoints = _checkpointPath == null ? null : new CheckpointWriter(_checkpointPath);
+        boolean completed = false;
+        try {
+            _terminationReason = nextTerminationReason();
+            while (_terminationReason == null) {
+                step();
+                if (_checkpoints != null && _generation % _checkpointInterval == 0)
+                    submitCheckpoint();
+                if (afterGeneration != null)
+                    afterGeneration.accept(this);
+                _terminationReason = nextTerminationReason();
+            }
+            completed = true;
+        } finally {
+            ManagementSupport.unregister(mbean);
+            // the evaluator may hold a thread pool; it starts a new one if the run resumes
+            _evaluator.close();
+            if (_checkpoints != null) {
+                // the final state is saved whatever ended the run, unless a generation
+                // failed halfway; the last periodic checkpoint is then the one to resume
+                if (completed)
+                    submitCheckpoint();
+                _checkpoints.close();
+                _checkpoints = null;
+                _pinned.clear();
+            }
+        }
+        _logger.info("Terminated after generation " + _generation + ": " + _terminationReason);
+
+        _logger.info("Overall bestFitness=" + _overallBestFitness + " best= " + _overallBest);
+        _logger.info("\n====================================");
+        _logger.info("BEST SOLUTION FOUND OVERALL:");
+        _logger.info("Best Fitness: " + _overallBestFitness);
+        _logger.info("Best Chromosome: " + _overallBest);
+        _logger.info("====================================\n");
+        if (_fitnessFunction instanceof CachedFitnessFunction)
+            _logger.info("Fitness cache: " + _fitnessFunction);
+        _logger.info("Metrics: " + _metrics.getSnapshot());
+        return _overallBest;
+    }
+
+    private String nextTerminationReason() {
+        if (_generation >= _MaxGeneration)
+            return "maxGenerations(" + _MaxGeneration + ")";
+        if (_termination != null && _termination.shouldTerminate(_context))
+            return _termination.toString();
+        // the interrupt flag is left set for the caller
+        if (Thread.currentThread().isInterrupted())
+            return "interrupted";
+        if (!_control.awaitIfPaused())
+            return Thread.currentThread().isInterrupted() ? "interrupted" : "stop requested";
+        return null;
+    }
+
+    // checks the configuration and scores the initial population; safe to call more than once
+    public boolean initialize() {
+        if (_initialized)
+            return true;
 
         if (_population == null || _population.isEmpty()) {
             _logger.error("No initial population provided. Aborting run.");
-            return;
+            return false;
         }
 
         if (_selection == null || _crossover == null || _mutation == null || _replacement == null) {
             _logger.error("One or more strategies are not configured. Aborting run.");
+            return false;
+        }
+
+        // score the initial population so selection sees real fitness values
+        long start = System.nanoTime();
+        int evaluated = evaluatePending(_population);
+        _metrics.recordSetup(System.nanoTime() - start, evaluated);
+
+        C best = null;
+        double bestFitness = Double.NEGATIVE_INFINITY;
+        for (C ind : _population) {
+            if (best == null || ind.getFitness() > bestFitness) {
+                best = ind;
+                bestFitness = ind.getFitness();
+            }
+        }
+        // a restored run may already hold a better individual
+        if (_overallBest == null || bestFitness > _overallBestFitness)
+            replaceBest(best, bestFitness);
+        _context.start(_MaxGeneration);
+        _context.update(_generation, _evaluations, bestFitness, _population);
+        _initialized = true;
+        return true;
+    }
+
+    // runs one generation and returns its best fitness
+    public double step() {
+        if (!initialize())
+            throw new IllegalStateException("Genetic algorithm is not configured");
+        _generation++;
+        _metrics.startGeneration();
+        GenerationEvent generationEvent = new GenerationEvent();
+        generationEvent.begin();
+
+        List<C> offspring = breed();
+
+        // only new or changed offspring are evaluated, before replacement
+        OperatorPhaseEvent evaluationEvent = new OperatorPhaseEvent();
+        evaluationEvent.begin();
+        long start = System.nanoTime();
+        int evaluated = evaluatePending(offspring);
+        long afterEvaluation = System.nanoTime();
+        _metrics.record(Phase.EVALUATION, afterEvaluation - start);
+        _metrics.recordEvaluations(evaluated);
+        evaluationEvent.end();
+        if (evaluationEvent.shouldCommit()) {
+            evaluationEvent.engine = ENGINE;
+            evaluationEvent.phase = Phase.EVALUATION.name();
+            evaluationEvent.generation = _generation;
+            evaluationEvent.individuals = evaluated;
+            evaluationEvent.commit();
+        }
+        EvaluationAware.notifyOperators(offspring, _selection, _crossover, _mutation, _replacement);
+
+        // replacement
+        ReplacementEvent replacementEvent = new ReplacementEvent();
+        replacementEvent.begin();
+        List<C> previous = _population;
+        int previousSize = previous.size();
+        _population = _replacement.replacePopulation(previous, offspring);
+        _metrics.record(Phase.REPLACEMENT, System.nanoTime() - afterEvaluation);
+        replacementEvent.end();
+        if (replacementEvent.shouldCommit()) {
+            replacementEvent.engine = ENGINE;
+            replacementEvent.generation = _generation;
+            replacementEvent.policy = _replacement.getClass().getSimpleName();
+            replacementEvent.populationSize = previousSize;
+            replacementEvent.offspring = offspring.size();
+            replacementEvent.commit();
+        }
+
+        // best for this generation, survivors keep their cached fitness
+        C best = null;
+        double bestFitness = Double.NEGATIVE_INFINITY;
+        double totalFitness = 0.0;
+        for (C ind : _population) {
+            double fitness = ind.getFitness();
+            totalFitness += fitness;
+            if (best == null || fitness > bestFitness) {
+                best = ind;
+                bestFitness = fitness;
+            }
+        }
+
+        if (bestFitness > _overallBestFitness)
+            replaceBest(best, bestFitness);
+        if (_factory != null)
+            recycle(previous, offspring);
+        _metrics.endGeneration();
+        _context.update(_generation, _evaluations, bestFitness, _population);
+        generationEvent.end();
+        if (generationEvent.shouldCommit()) {
+            generationEvent.engine = ENGINE;
+            generationEvent.generation = _generation;
+            generationEvent.populationSize = _population.size();
+            generationEvent.evaluations = evaluated;
+            generationEvent.bestFitness = bestFitness;
+            generationEvent.meanFitness = totalFitness / _population.size();
+            generationEvent.commit();
+        }
+
+        if (_logger.isDebugEnabled())
+            _logger.debug("Generation " + _generation + " bestFitness=" + bestFitness);
+        return bestFitness;
+    }
+
+    // independent copies of the best `count` individuals, safe to hand to another thread
+    public List<C> selectEmigrants(int count) {
+        List<C> population = _population;
+        int n = Math.min(count, population.size());
+        List<C> emigrants = new ArrayList<>(n);
+        for (int index : TopK.largest(TopK.fitnessOf(population), n)) {
+            emigrants.add(copyOf(population.get(index)));
+        }
+        return emigrants;
+    }
+
+    // migrants take the places of the worst individuals; unevaluated migrants are scored first
+    public void acceptMigrants(List<C> migrants) {
+        if (migrants.isEmpty())
             return;
+        long start = System.nanoTime();
+        int evaluated = evaluatePending(migrants);
+        _metrics.recordSetup(System.nanoTime() - start, evaluated);
+
+        List<C> next = new ArrayList<>(_population);
+        int n = Math.min(migrants.size(), next.size());
+        int[] worst = TopK.smallest(TopK.fitnessOf(next), n);
+        for (int i = 0; i < n; i++) {
+            C displaced = next.set(worst[i], migrants.get(i));
+            if (_factory != null)
+                drop(displaced);
         }
+        _population = next;
+    }
 
-        // best for all generations
-        C overallBest = null;
-        double overallBestFitness = Double.NEGATIVE_INFINITY;
+    // hands back copies from selectEmigrants that will not be used, so the factory can
+    // free what they hold; may be called from any thread
+    public void discard(List<C> individuals) {
+        if (_factory == null)
+            return;
+        for (C individual : individuals) {
+            _factory.release(individual);
+        }
+    }
 
-        for (int gen = 1; gen <= _MaxGeneration; gen++) {
-            List<C> offspring = new ArrayList<>(_populationSize);
+    // encoded on the writer thread; with a factory its individuals are kept from
+    // recycling and release until the writer is done with them
+    private void submitCheckpoint() {
+        Checkpoint<C> checkpoint = checkpoint();
+        if (_factory != null) {
+            if (_checkpoints.isIdle())
+                _pinned.clear();
+            _pinned.addAll(checkpoint.getPopulation());
+            if (checkpoint.getBest() != null)
+                _pinned.add(checkpoint.getBest());
+        }
+        _checkpoints.submit(checkpoint);
+    }
 
-            // selection
-            while (offspring.size() < _populationSize) {
-                C parent1 = _selection.selectIndividual(_population);
-                C parent2 = _selection.selectIndividual(_population);
-                // _logger.info("Selected Parents: \n Parent1: " + parent1 + "\n Parent2: " +
-                // parent2);
+    // the run's state at the end of the current generation, generation context included;
+    // operators and a termination criterion implementing Checkpointable contribute their
+    // own state, other stateful criteria start over on resume. It refers to the live
+    // individuals, which an InPlaceCrossover reuses, so encode it before the next step
+    public Checkpoint<C> checkpoint() {
+        Map<String, byte[]> states = new LinkedHashMap<>();
+        saveState(states, "selection", _selection);
+        saveState(states, "crossover", _crossover);
+        saveState(states, "mutation", _mutation);
+        saveState(states, "replacement", _replacement);
+        saveState(states, "termination", _termination);
+        saveState(states, "context", _context);
+        saveRandom(states, "selection", _selection);
+        saveRandom(states, "crossover", _crossover);
+        saveRandom(states, "mutation", _mutation);
+        saveRandom(states, "replacement", _replacement);
+        return new Checkpoint<>(_generation, _evaluations, _overallBestFitness, _population, _overallBest, states);
+    }
 
-                // crossover
-                List<C> children = _crossover.crossover(parent1, parent2);
-                // _logger.info("Generated Children after Crossover: " + children);
+    // continues from a checkpoint instead of the initial population; the configuration must match
+    public void restore(Checkpoint<C> checkpoint) {
+        if (checkpoint.getPopulation().isEmpty()) {
+            throw new IllegalArgumentException("Checkpoint has an empty population");
+        }
+        Map<String, byte[]> states = checkpoint.getStates();
+        restoreState(states, "selection", _selection);
+        restoreState(states, "crossover", _crossover);
+        restoreState(states, "mutation", _mutation);
+        restoreState(states, "replacement", _replacement);
+        restoreState(states, "termination", _termination);
+        restoreState(states, "context", _context);
+        restoreRandom(states, "selection", _selection);
+        restoreRandom(states, "crossover", _crossover);
+        restoreRandom(states, "mutation", _mutation);
+        restoreRandom(states, "replacement", _replacement);
 
-                // mutation
-                for (C child : children) {
-                    C mutated = _mutation.mutate(child);
-                    offspring.add(mutated);
-                    // _logger.info("Mutated Child: " + mutated);
-                    if (offspring.size() >= _populationSize)
-                        break;
-                }
+        _population = new ArrayList<>(checkpoint.getPopulation());
+        _spare.clear();
+        _generation = checkpoint.getGeneration();
+        _evaluations = checkpoint.getEvaluations();
+        _overallBest = checkpoint.getBest();
+        _overallBestFitness = checkpoint.getBestFitness();
+        _initialized = false;
+        if (!initialize())
+            throw new IllegalStateException("Genetic algorithm is not configured");
+        _logger.info("Resumed at generation " + _generation + " bestFitness=" + _overallBestFitness);
+    }
+
+    public void resumeFrom(Path file) throws IOException {
+        if (_factory == null)
+            throw new IllegalStateException("A chromosome factory is required to read checkpoints");
+        restore(Checkpoint.read(file, _factory));
+    }
+
+    private static void saveState(Map<String, byte[]> states, String role, Object component) {
+        if (!(component instanceof Checkpointable))
+            return;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            ((Checkpointable) component).writeState(out);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not save " + role + " state", e);
+        }
+        states.put(role, bytes.toByteArray());
+    }
+
+    private static void restoreState(Map<String, byte[]> states, String role, Object component) {
+        byte[] state = states.get(role);
+        if (state == null || !(component instanceof Checkpointable))
+            return;
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(state))) {
+            ((Checkpointable) component).readState(in);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not restore " + role + " state", e);
+        }
+    }
+
+    // Seedable operators get their generator saved under "<role>.random", so a resumed
+    // seeded run draws the same numbers the uninterrupted run would have
+    private static void saveRandom(Map<String, byte[]> states, String role, Object component) {
+        if (!(component instanceof Seedable))
+            return;
+        RandomGenerator random = ((Seedable) component).getRandom();
+        if (!RandomState.isSupported(random))
+            return;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            RandomState.writeGenerator(random, out);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not save " + role + " random state", e);
+        }
+        states.put(role + ".random", bytes.toByteArray());
+    }
+
+    private static void restoreRandom(Map<String, byte[]> states, String role, Object component) {
+        byte[] state = states.get(role + ".random");
+        if (state == null || !(component instanceof Seedable))
+            return;
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(state))) {
+            ((Seedable) component).setRandom(RandomState.readGenerator(in));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not restore " + role + " random state", e);
+        }
+    }
+
+    // a Copyable individual is copied into a spare, or into a new chromosome of its own
+    // kind, without boxing; any other goes through the factory
+    @SuppressWarnings("unchecked")
+    private C copyOf(C individual) {
+        if (individual instanceof Copyable) {
+            C spare = takeSpare(individual.length());
+            if (spare == null)
+                return ((Copyable<C>) individual).copy();
+            ((Copyable<C>) spare).copyFrom(individual);
+            return spare;
+        }
+        C copy = copyGenes(individual);
+        if (individual.isEvaluated())
+            copy.setFitness(individual.getFitness());
+        return copy;
+    }
+
+    // the best individual as handed out by getBest() and run(): a copy that no later
+    // generation writes into, or the individual itself when nothing is ever recycled
+    private C publish(C best) {
+        return _factory == null ? best : copyOf(best);
+    }
+
+    // the copy it supersedes goes back to the factory
+    private void replaceBest(C best, double bestFitness) {
+        C previous = _overallBest;
+        _overallBest = publish(best);
+        _overallBestFitness = bestFitness;
+        if (previous != null && _factory != null)
+            release(previous);
+    }
+
+    // the factory builds chromosomes of type C, so it accepts C's own gene array; some
+    // factories wrap the array they are given, hence the clone
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private C copyGenes(C individual) {
+        if (_factory == null)
+            throw new IllegalStateException("A chromosome factory is required to copy individuals");
+        return (C) ((ChromosomeFactory) _factory).create(individual.toArray().clone());
+    }
+
+    private List<C> breed() {
+        // the context still describes the generation just finished
+        GenerationAware.notifyOperators(_context, _selection, _crossover, _mutation, _replacement);
+        List<C> offspring = nextOffspringBuffer();
+        OperatorPhaseEvent breedingEvent = new OperatorPhaseEvent();
+        breedingEvent.begin();
+
+        // phase times are summed locally and reported once per generation
+        long selectionNanos = 0;
+        long crossoverNanos = 0;
+        long mutationNanos = 0;
+
+        // selection: the whole generation's parents in one batch, consecutive pairs mate
+        long t0 = System.nanoTime();
+        _selection.prepare(_population);
+        List<C> parents = _selection.selectParents(_population, _populationSize + (_populationSize & 1));
+        int nextParent = 0;
+        while (offspring.size() < _populationSize) {
+            if (nextParent + 1 >= parents.size()) {
+                // the crossover gave fewer than two children per pair, draw what is still missing
+                parents = _selection.selectParents(_population, 2 * (_populationSize - offspring.size()));
+                nextParent = 0;
             }
+            C parent1 = parents.get(nextParent++);
+            C parent2 = parents.get(nextParent++);
+            // _logger.info("Selected Parents: \n Parent1: " + parent1 + "\n Parent2: " +
+            // parent2);
+            long t1 = System.nanoTime();
+            selectionNanos += t1 - t0;
 
-            // replacement
-            _population = _replacement.replacePopulation(_population, offspring);
-
-            // best for this generation
-            C best = null;
-            double bestFitness = Double.NEGATIVE_INFINITY;
-            for (C ind : _population) {
-                ind.setFitness(_fitnessFunction.evaluate(ind));
-                double fitness = ind.getFitness();
-                if (best == null || fitness > bestFitness) {
-                    best = ind;
-                    bestFitness = fitness;
-                }
+            if (_inPlaceCrossover != null) {
+                // crossover into reused chromosomes, then mutation in place
+                C child1 = spareLike(parent1);
+                C child2 = spareLike(parent2);
+                _inPlaceCrossover.crossoverInto(parent1, parent2, child1, child2);
+                long t2 = System.nanoTime();
+                crossoverNanos += t2 - t1;
+
+                addMutated(child1, offspring);
+                addMutated(child2, offspring);
+                t0 = System.nanoTime();
+                mutationNanos += t0 - t2;
+                continue;
             }
 
-            if (bestFitness > overallBestFitness) {
-                overallBest = best;
-                overallBestFitness = bestFitness;
+            // crossover
+            List<C> children = _crossover.crossover(parent1, parent2);
+            // _logger.info("Generated Children after Crossover: " + children);
+            long t2 = System.nanoTime();
+            crossoverNanos += t2 - t1;
+
+            // mutation; a parent passed through unchanged is copied first, since
+            // mutations may work in place and the parent is still in the population
+            for (C child : children) {
+                boolean passedThrough = child == parent1 || child == parent2;
+                if (offspring.size() >= _populationSize) {
+                    if (!passedThrough && _factory != null)
+                        release(child);
+                    continue;
+                }
+                if (passedThrough)
+                    child = copyOf(child);
+                C mutated = _mutation.mutate(child);
+                if (mutated != child && _factory != null)
+                    release(child);
+                offspring.add(mutated);
+                // _logger.info("Mutated Child: " + mutated);
             }
+            t0 = System.nanoTime();
+            mutationNanos += t0 - t2;
+        }
+        _metrics.record(Phase.SELECTION, selectionNanos);
+        _metrics.record(Phase.CROSSOVER, crossoverNanos);
+        _metrics.record(Phase.MUTATION, mutationNanos);
+        breedingEvent.end();
+        if (breedingEvent.shouldCommit()) {
+            breedingEvent.engine = ENGINE;
+            breedingEvent.phase = OperatorPhaseEvent.BREEDING;
+            breedingEvent.generation = _generation;
+            breedingEvent.individuals = offspring.size();
+            breedingEvent.selectionTime = selectionNanos;
+            breedingEvent.crossoverTime = crossoverNanos;
+            breedingEvent.mutationTime = mutationNanos;
+            breedingEvent.commit();
+        }
+        return offspring;
+    }
 
-            _logger.info("Generation " + gen + " bestFitness=" + bestFitness + " best=" + best);
+    private void addMutated(C child, List<C> offspring) {
+        if (offspring.size() >= _populationSize) {
+            drop(child);
+            return;
+        }
+        C mutated = _mutation.mutate(child);
+        if (mutated != child)
+            drop(child);
+        offspring.add(mutated);
+    }
 
-            if (Double.isFinite(bestFitness) && bestFitness >= Double.POSITIVE_INFINITY - 1)
-                break;
+    // an individual the engine no longer references becomes a spare for an InPlaceCrossover,
+    // otherwise it goes back to the factory. A generation consumes at most one population's
+    // worth of spares; mutations that return new chromosomes would otherwise grow the pool
+    // by their count every generation
+    private void drop(C individual) {
+        if (_inPlaceCrossover != null && _spare.size() < 2 * _populationSize)
+            _spare.add(individual);
+        else
+            release(individual);
+    }
+
+    // an individual a checkpoint still has to encode is left to the GC
+    private void release(C individual) {
+        if (!_pinned.contains(individual))
+            _factory.release(individual);
+    }
+
+    // the offspring list that is not the current population, emptied
+    private List<C> nextOffspringBuffer() {
+        if (_inPlaceCrossover == null)
+            return new ArrayList<>(_populationSize);
+        List<C> buffer = _population == _offspringA ? _offspringB : _offspringA;
+        buffer.clear();
+        return buffer;
+    }
+
+    // a chromosome no one references any more, or a new one shaped like `parent`
+    @SuppressWarnings("unchecked")
+    private C spareLike(C parent) {
+        C spare = takeSpare(parent.length());
+        if (spare != null)
+            return spare;
+        return parent instanceof Copyable ? ((Copyable<C>) parent).copy() : copyGenes(parent);
+    }
+
+    private C takeSpare(int length) {
+        int last = _spare.size() - 1;
+        if (last >= 0 && _spare.get(last).length() == length)
+            return _spare.remove(last);
+        return null;
+    }
+
+    // parents and offspring that did not survive are dropped; the published best is a
+    // separate copy and never among them
+    private void recycle(List<C> previous, List<C> offspring) {
+        _retained.clear();
+        _retained.addAll(_population);
+        if (!_pinned.isEmpty()) {
+            if (_checkpoints == null || _checkpoints.isIdle())
+                _pinned.clear();
+            _retained.addAll(_pinned);
+        }
+        for (int i = 0; i < previous.size(); i++) {
+            C individual = previous.get(i);
+            if (_retained.add(individual))
+                drop(individual);
+        }
+        for (int i = 0; i < offspring.size(); i++) {
+            C individual = offspring.get(i);
+            if (_retained.add(individual))
+                drop(individual);
         }
+        _retained.clear();
+    }
 
-        _logger.info("Overall bestFitness=" + overallBestFitness + " best= " + overallBest);
-        _logger.info("\n====================================");
-        _logger.info("BEST SOLUTION FOUND OVERALL:");
-        _logger.info("Best Fitness: " + overallBestFitness);
-        _logger.info("Best Chromosome: " + overallBest);
-        _logger.info("====================================\n");
+    private int evaluatePending(List<C> individuals) {
+        _pending.clear();
+        for (C ind : individuals) {
+            if (!ind.isEvaluated())
+                _pending.add(ind);
+        }
+        int count = _pending.size();
+        if (count == 0)
+            return 0;
+
+        _evaluator.evaluate(_pending, _recordedFitnessFunction);
+        _evaluations += count;
+        _pending.clear();
+        return count;
+    }
+
+    public MetricsSnapshot getMetrics() {
+        return _metrics.getSnapshot();
+    }
+
+    public void addMetricsListener(MetricsListener listener) {
+        _metrics.addListener(listener);
+    }
+
+    // null while running or before run()
+    public String getTerminationReason() {
+        return _terminationReason;
+    }
+
+    public RunControl getControl() {
+        return _control;
+    }
+
+    public MutationStrategy<C> getMutationStrategy() {
+        return _mutation;
+    }
+
+    public long getEvaluationCount() {
+        return _evaluations;
+    }
+
+    public FitnessFunction<C> getFitnessFunction() {
+        return _fitnessFunction;
+    }
+
+    // the live population; with an InPlaceCrossover its list and the individuals that
+    // leave it are reused a generation later, so copy what must outlive the next step
+    public List<C> getPopulation() {
+        return _population;
+    }
+
+    public long getGeneration() {
+        return _generation;
+    }
+
+    public long getMaxGenerations() {
+        return _MaxGeneration;
+    }
+
+    // with a factory, a best that is superseded goes back to it; copy it to keep it longer
+    public C getBest() {
+        return _overallBest;
+    }
+
+    public double getBestFitness() {
+        return _overallBestFitness;
     }
 
     public static <C extends Chromosome<?>> GeneticAlgorithmBuilder<C> builder() {
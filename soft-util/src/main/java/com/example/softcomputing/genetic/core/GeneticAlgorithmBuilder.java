@@ -1,14 +1,23 @@
 package com.example.softcomputing.genetic.core;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
 import com.example.softcomputing.genetic.chromosome.Chromosome;
 import com.example.softcomputing.genetic.chromosome.Factories.ChromosomeFactory;
+import com.example.softcomputing.genetic.evaluation.CachedFitnessFunction;
+import com.example.softcomputing.genetic.evaluation.EvaluationMode;
+import com.example.softcomputing.genetic.evaluation.FitnessEvaluator;
+import com.example.softcomputing.genetic.metrics.MetricsListener;
 import com.example.softcomputing.genetic.operators.crossover.CrossoverStrategy;
 import com.example.softcomputing.genetic.operators.mutation.MutationStrategy;
 import com.example.softcomputing.genetic.operators.replacement.Replacement;
 import com.example.softcomputing.genetic.operators.selection.SelectionStrategy;
+import com.example.softcomputing.genetic.random.RandomStreams;
+import com.example.softcomputing.genetic.termination.TerminationCriteria;
+import com.example.softcomputing.genetic.termination.TerminationCriterion;
 import com.example.softcomputing.utils.AppLogger;
 import com.example.softcomputing.utils.FitnessFunction;
 
@@ -19,14 +28,25 @@ public class GeneticAlgorithmBuilder<C extends Chromosome<?>> {
     int populationSize = 100;
     double mutationRate = 0.01;
     double crossoverRate = 0.7;
+    int parallelism = Runtime.getRuntime().availableProcessors();
+    EvaluationMode evaluationMode = EvaluationMode.SEQUENTIAL;
+    int fitnessCacheSize = 0;
 
     List<C> population = null;
+    // withPopulation() was called: the factory creates the population in validate()
+    boolean createPopulation = false;
     SelectionStrategy<C> selection;
     CrossoverStrategy<C> crossover;
     MutationStrategy<C> mutation;
     Replacement<C> replacement;
     ChromosomeFactory<?, C> chromosomeFactory;
     FitnessFunction<C> fitnessFunction;
+    FitnessEvaluator<C> evaluator;
+    final List<MetricsListener> metricsListeners = new ArrayList<>();
+    TerminationCriterion termination;
+    Path checkpointPath;
+    int checkpointInterval = 0;
+    Long seed;
 
     AppLogger logger = AppLogger.getLogger(GeneticAlgorithmBuilder.class);
 
@@ -37,6 +57,7 @@ public class GeneticAlgorithmBuilder<C extends Chromosome<?>> {
 
     public GeneticAlgorithmBuilder<C> withPopulation(List<C> population) {
         this.population = population;
+        this.createPopulation = false;
         return this;
     }
 
@@ -60,13 +81,67 @@ public class GeneticAlgorithmBuilder<C extends Chromosome<?>> {
         return this;
     }
 
+    public GeneticAlgorithmBuilder<C> withEvaluationMode(EvaluationMode mode) {
+        this.evaluationMode = mode;
+        return this;
+    }
+
+    public GeneticAlgorithmBuilder<C> withParallelism(int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    // overrides the evaluation mode and parallelism
+    public GeneticAlgorithmBuilder<C> withFitnessEvaluator(FitnessEvaluator<C> evaluator) {
+        this.evaluator = evaluator;
+        return this;
+    }
+
+    // 0 disables the cache
+    public GeneticAlgorithmBuilder<C> withFitnessCache(int maxEntries) {
+        this.fitnessCacheSize = maxEntries;
+        return this;
+    }
+
+    public GeneticAlgorithmBuilder<C> withMetricsListener(MetricsListener listener) {
+        this.metricsListeners.add(Objects.requireNonNull(listener, "metrics listener must not be null"));
+        return this;
+    }
+
+    // the run stops when any of the given criteria fires, or at maxGenerations
+    public GeneticAlgorithmBuilder<C> withTerminationCriterion(TerminationCriterion criterion) {
+        Objects.requireNonNull(criterion, "termination criterion must not be null");
+        this.termination = termination == null ? criterion : TerminationCriteria.anyOf(termination, criterion);
+        return this;
+    }
+
+    // run() saves a snapshot every `everyGenerations` generations and when it ends
+    public GeneticAlgorithmBuilder<C> withCheckpointing(Path file, int everyGenerations) {
+        Objects.requireNonNull(file, "checkpoint path must not be null");
+        if (everyGenerations <= 0) {
+            throw new IllegalArgumentException("checkpoint interval must be > 0");
+        }
+        this.checkpointPath = file;
+        this.checkpointInterval = everyGenerations;
+        return this;
+    }
+
+    // every Seedable factory and operator gets its own stream of this seed, so two runs
+    // with the same seed and configuration evolve identically (sequential evaluation only
+    // matters for stateful fitness functions)
+    public GeneticAlgorithmBuilder<C> withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    // the population is created when the engine is built, so the seed, population size
+    // and gene length apply whatever order they are set in
     public GeneticAlgorithmBuilder<C> withPopulation() {
         if (chromosomeFactory == null) {
             throw new IllegalStateException("Chromosome factory must be set before initializing population.");
         }
-
-        List<C> initialPopulation = chromosomeFactory.createPopulation(populationSize, geneLength);
-        this.population = initialPopulation;
+        this.population = null;
+        this.createPopulation = true;
         return this;
     }
 
@@ -101,16 +176,44 @@ public class GeneticAlgorithmBuilder<C extends Chromosome<?>> {
     }
 
     public GeneticAlgorithm<C> build() {
+        Objects.requireNonNull(chromosomeFactory, "chromosome factory is required");
+        validate();
+        return new GeneticAlgorithm<C>(this);
+    }
+
+    // checks the configuration shared by every engine and creates the evaluator
+    void validate() {
         Objects.requireNonNull(selection, "selection strategy is required");
         Objects.requireNonNull(crossover, "crossover strategy is required");
         Objects.requireNonNull(mutation, "mutation strategy is required");
         Objects.requireNonNull(replacement, "replacement strategy is required");
-        Objects.requireNonNull(chromosomeFactory, "chromosome factory is required");
         Objects.requireNonNull(fitnessFunction, "fitness function is required");
         if (populationSize <= 0) {
             throw new IllegalArgumentException("populationSize must be > 0");
         }
-
-        return new GeneticAlgorithm<C>(this);
+        if (fitnessCacheSize < 0) {
+            throw new IllegalArgumentException("fitnessCacheSize must be >= 0");
+        }
+        if (fitnessCacheSize > 0 && !(fitnessFunction instanceof CachedFitnessFunction)) {
+            fitnessFunction = new CachedFitnessFunction<>(fitnessFunction, fitnessCacheSize);
+        }
+        if (createPopulation) {
+            if (seed != null)
+                RandomStreams.seed(chromosomeFactory, seed, RandomStreams.FACTORY);
+            population = chromosomeFactory.createPopulation(populationSize, geneLength);
+        }
+        if (seed != null) {
+            RandomStreams.seed(selection, seed, RandomStreams.SELECTION);
+            RandomStreams.seed(crossover, seed, RandomStreams.CROSSOVER);
+            RandomStreams.seed(mutation, seed, RandomStreams.MUTATION);
+            RandomStreams.seed(replacement, seed, RandomStreams.REPLACEMENT);
+        }
+        if (evaluator == null) {
+            Objects.requireNonNull(evaluationMode, "evaluation mode is required");
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException("parallelism must be > 0");
+            }
+            evaluator = evaluationMode.create(parallelism);
+        }
     }
 }
@@ -0,0 +1,45 @@
+package com.example.softcomputing.genetic.core;
+
+// Pause and stop requests for a running engine, safe to call from any thread.
+// Engines check it between generations, so a request never interrupts one half-way.
+public class RunControl {
+
+    private boolean paused = false;
+    private volatile boolean stopRequested = false;
+
+    public synchronized void pause() {
+        paused = true;
+    }
+
+    public synchronized void resume() {
+        paused = false;
+        notifyAll();
+    }
+
+    public synchronized boolean isPaused() {
+        return paused;
+    }
+
+    // also releases a paused engine so it can finish
+    public synchronized void requestStop() {
+        stopRequested = true;
+        notifyAll();
+    }
+
+    public boolean isStopRequested() {
+        return stopRequested;
+    }
+
+    // blocks the engine thread while paused; returns false if it should stop instead
+    public synchronized boolean awaitIfPaused() {
+        while (paused && !stopRequested) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return !stopRequested;
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.softcomputing.genetic.evaluation;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.genetic.chromosome.GeneWords;
+import com.example.softcomputing.utils.FitnessFunction;
+
+// Memoizes a fitness function by genome content with least-recently-used eviction.
+// The wrapped function must be deterministic. The map is guarded by its own lock and
+// the wrapped function runs outside it, so parallel evaluators never wait on a slow
+// evaluation; two threads missing on the same genome may both compute it. Chromosomes
+// implementing GeneWords are looked up by their words read in place, so a hit copies
+// and boxes nothing; only a miss stores a snapshot of the words.
+public class CachedFitnessFunction<C extends Chromosome<?>> implements FitnessFunction<C> {
+
+    private final FitnessFunction<C> delegate;
+    private final int maxEntries;
+    private final Map<Object, Double> cache;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CachedFitnessFunction(FitnessFunction<C> delegate, int maxEntries) {
+        if (delegate == null) {
+            throw new NullPointerException("delegate is null");
+        }
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Cache size must be positive, got: %d", maxEntries));
+        }
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Double> eldest) {
+                if (size() > CachedFitnessFunction.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public double evaluate(C chromosome) {
+        Object probe = chromosome instanceof GeneWords ? new Probe(chromosome) : new GenomeKey(chromosome.toArray());
+
+        Double cached;
+        synchronized (cache) {
+            cached = cache.get(probe);
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        double fitness = delegate.evaluate(chromosome);
+        // the probe's hash is reused, the genome is only read again to copy its words
+        Object key = probe instanceof Probe ? new WordKey((Probe) probe) : probe;
+        synchronized (cache) {
+            cache.put(key, fitness);
+        }
+        return fitness;
+    }
+
+    public FitnessFunction<C> getDelegate() {
+        return delegate;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    private static int hash(Chromosome<?> c, GeneWords words) {
+        int h = 31 * c.getClass().hashCode() + c.length();
+        for (int i = 0, n = words.wordCount(); i < n; i++) {
+            h = 31 * h + Long.hashCode(words.getWord(i));
+        }
+        return h;
+    }
+
+    // a stored genome: its words, read once when the fitness was computed
+    private static final class WordKey {
+        private final Class<?> type;
+        private final int length;
+        private final long[] words;
+        private final int hash;
+
+        WordKey(Probe probe) {
+            GeneWords genes = probe.words;
+            this.type = probe.chromosome.getClass();
+            this.length = probe.chromosome.length();
+            this.words = new long[genes.wordCount()];
+            for (int i = 0; i < words.length; i++) {
+                words[i] = genes.getWord(i);
+            }
+            this.hash = probe.hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o instanceof Probe)
+                return o.equals(this);
+            if (!(o instanceof WordKey))
+                return false;
+            WordKey other = (WordKey) o;
+            return hash == other.hash && type == other.type && length == other.length
+                    && Arrays.equals(words, other.words);
+        }
+    }
+
+    // the genome being looked up, compared against stored keys by reading it in place
+    private static final class Probe {
+        private final Chromosome<?> chromosome;
+        private final GeneWords words;
+        private final int hash;
+
+        Probe(Chromosome<?> chromosome) {
+            this.chromosome = chromosome;
+            this.words = (GeneWords) chromosome;
+            this.hash = CachedFitnessFunction.hash(chromosome, words);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof WordKey))
+                return false;
+            WordKey key = (WordKey) o;
+            if (hash != key.hash || chromosome.getClass() != key.type || chromosome.length() != key.length
+                    || words.wordCount() != key.words.length)
+                return false;
+            for (int i = 0; i < key.words.length; i++) {
+                if (words.getWord(i) != key.words[i])
+                    return false;
+            }
+            return true;
+        }
+    }
+
+    // any other chromosome: owns a private copy of the genes, as some hand out their live array
+    private static final class GenomeKey {
+        private final Object[] genes;
+        private final int hash;
+
+        GenomeKey(Object[] genes) {
+            this.genes = genes.clone();
+            this.hash = Arrays.hashCode(this.genes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof GenomeKey))
+                return false;
+            GenomeKey other = (GenomeKey) o;
+            return hash == other.hash && Arrays.equals(genes, other.genes);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CachedFitnessFunction(size=%d/%d, hits=%d, misses=%d, evictions=%d)",
+                size(), maxEntries, getHitCount(), getMissCount(), getEvictionCount());
+    }
+}
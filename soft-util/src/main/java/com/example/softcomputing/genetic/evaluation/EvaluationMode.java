@@ -0,0 +1,20 @@
+package com.example.softcomputing.genetic.evaluation;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+
+public enum EvaluationMode {
+    SEQUENTIAL,
+    FORK_JOIN,
+    VIRTUAL_THREADS;
+
+    public <C extends Chromosome<?>> FitnessEvaluator<C> create(int parallelism) {
+        switch (this) {
+            case FORK_JOIN:
+                return new ForkJoinEvaluator<>(parallelism);
+            case VIRTUAL_THREADS:
+                return new VirtualThreadEvaluator<>(parallelism);
+            default:
+                return new SequentialEvaluator<>();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.softcomputing.genetic.evaluation;
+
+import java.util.List;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.utils.FitnessFunction;
+
+// Scores every individual of the list and stores the result with setFitness.
+// Each score depends only on its own individual, so the outcome is the same
+// whatever the number of threads used. Engines close their evaluator when a run ends;
+// evaluators that hold threads release them there and may be used again afterwards.
+public interface FitnessEvaluator<C extends Chromosome<?>> extends AutoCloseable {
+    void evaluate(List<C> individuals, FitnessFunction<C> fitnessFunction);
+
+    @Override
+    default void close() {
+    }
+}
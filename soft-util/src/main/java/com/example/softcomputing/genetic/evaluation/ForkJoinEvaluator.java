@@ -0,0 +1,100 @@
+package com.example.softcomputing.genetic.evaluation;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.utils.FitnessFunction;
+
+public class ForkJoinEvaluator<C extends Chromosome<?>> implements FitnessEvaluator<C> {
+
+    // below this many individuals a task is evaluated on the current worker
+    private static final int DEFAULT_GRAIN = 8;
+
+    // created on first use, so the evaluator can be used again after close()
+    private ForkJoinPool pool;
+    private final int parallelism;
+    private final int grain;
+
+    public ForkJoinEvaluator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ForkJoinEvaluator(int parallelism) {
+        this(parallelism, DEFAULT_GRAIN);
+    }
+
+    public ForkJoinEvaluator(int parallelism, int grain) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Parallelism must be positive, got: %d", parallelism));
+        }
+        if (grain <= 0) {
+            throw new IllegalArgumentException(String.format("Grain must be positive, got: %d", grain));
+        }
+        this.parallelism = parallelism;
+        this.grain = grain;
+    }
+
+    @Override
+    public void evaluate(List<C> individuals, FitnessFunction<C> fitnessFunction) {
+        if (individuals.isEmpty()) {
+            return;
+        }
+        pool().invoke(new EvaluateRange(individuals, fitnessFunction, 0, individuals.size()));
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    private synchronized ForkJoinPool pool() {
+        if (pool == null)
+            pool = new ForkJoinPool(parallelism);
+        return pool;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+
+    private class EvaluateRange extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<C> individuals;
+        private final FitnessFunction<C> fitnessFunction;
+        private final int from;
+        private final int to;
+
+        EvaluateRange(List<C> individuals, FitnessFunction<C> fitnessFunction, int from, int to) {
+            this.individuals = individuals;
+            this.fitnessFunction = fitnessFunction;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                for (int i = from; i < to; i++) {
+                    C individual = individuals.get(i);
+                    individual.setFitness(fitnessFunction.evaluate(individual));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new EvaluateRange(individuals, fitnessFunction, from, mid),
+                    new EvaluateRange(individuals, fitnessFunction, mid, to));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ForkJoinEvaluator(parallelism=%d, grain=%d)", parallelism, grain);
+    }
+}
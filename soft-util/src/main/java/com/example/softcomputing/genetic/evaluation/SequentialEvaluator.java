@@ -0,0 +1,21 @@
+package com.example.softcomputing.genetic.evaluation;
+
+import java.util.List;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.utils.FitnessFunction;
+
+public class SequentialEvaluator<C extends Chromosome<?>> implements FitnessEvaluator<C> {
+
+    @Override
+    public void evaluate(List<C> individuals, FitnessFunction<C> fitnessFunction) {
+        for (C individual : individuals) {
+            individual.setFitness(fitnessFunction.evaluate(individual));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SequentialEvaluator";
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.softcomputing.genetic.evaluation;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.utils.FitnessFunction;
+
+// One task per individual, with at most `parallelism` tasks in flight.
+// Uses virtual threads when the running JVM has them (21+), otherwise
+// falls back to a short-lived daemon platform thread per task.
+public class VirtualThreadEvaluator<C extends Chromosome<?>> implements FitnessEvaluator<C> {
+
+    private final Executor executor;
+    private final int parallelism;
+    private final boolean virtual;
+
+    public VirtualThreadEvaluator(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Parallelism must be positive, got: %d", parallelism));
+        }
+        this.parallelism = parallelism;
+        Executor virtualExecutor = createVirtualExecutor();
+        this.virtual = virtualExecutor != null;
+        this.executor = virtual ? virtualExecutor : task -> {
+            Thread thread = new Thread(task, "fitness-evaluator");
+            thread.setDaemon(true);
+            thread.start();
+        };
+    }
+
+    private static Executor createVirtualExecutor() {
+        try {
+            return (Executor) java.util.concurrent.Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException | SecurityException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void evaluate(List<C> individuals, FitnessFunction<C> fitnessFunction) {
+        int n = individuals.size();
+        if (n == 0) {
+            return;
+        }
+
+        Semaphore permits = new Semaphore(parallelism);
+        CountDownLatch done = new CountDownLatch(n);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        try {
+            for (int i = 0; i < n; i++) {
+                C individual = individuals.get(i);
+                permits.acquire();
+                executor.execute(() -> {
+                    try {
+                        individual.setFitness(fitnessFunction.evaluate(individual));
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                    } finally {
+                        permits.release();
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while evaluating fitness", e);
+        }
+
+        Throwable t = failure.get();
+        if (t != null) {
+            throw new IllegalStateException("Fitness evaluation failed", t);
+        }
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("VirtualThreadEvaluator(parallelism=%d, virtual=%s)", parallelism, virtual);
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.softcomputing.genetic.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.genetic.chromosome.Factories.ChromosomeFactory;
+
+// Snapshot of a GA run. Binary layout, big-endian:
+//   int    magic "GACK"
+//   short  format version
+//   long   generation, long evaluations, double best fitness
+//   int    population size, then each individual in ChromosomeCodec form
+//   byte   1 if a best individual follows, then that individual
+//   int    component state count, then per entry: UTF name, int length, bytes
+//   int    CRC32 of everything before it
+// Component states are the opaque Checkpointable bytes of operators, keyed by role; the
+// engine also stores its GenerationContext and a Checkpointable termination criterion there.
+public final class Checkpoint<C extends Chromosome<?>> {
+
+    public static final int MAGIC = 0x4741434B; // "GACK"
+    public static final short VERSION = 1;
+
+    private final long generation;
+    private final long evaluations;
+    private final double bestFitness;
+    private final List<C> population;
+    private final C best;
+    private final Map<String, byte[]> states;
+
+    public Checkpoint(long generation, long evaluations, double bestFitness, List<C> population, C best,
+            Map<String, byte[]> states) {
+        this.generation = generation;
+        this.evaluations = evaluations;
+        this.bestFitness = bestFitness;
+        this.population = Collections.unmodifiableList(new ArrayList<>(population));
+        this.best = best;
+        this.states = Collections.unmodifiableMap(new LinkedHashMap<>(states));
+    }
+
+    public byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeLong(generation);
+            out.writeLong(evaluations);
+            out.writeDouble(bestFitness);
+            out.writeInt(population.size());
+            for (C individual : population) {
+                ChromosomeCodec.write(individual, out);
+            }
+            out.writeByte(best == null ? 0 : 1);
+            if (best != null)
+                ChromosomeCodec.write(best, out);
+            out.writeInt(states.size());
+            for (Map.Entry<String, byte[]> state : states.entrySet()) {
+                out.writeUTF(state.getKey());
+                out.writeInt(state.getValue().length);
+                out.write(state.getValue());
+            }
+            CRC32 crc = new CRC32();
+            crc.update(bytes.toByteArray());
+            out.writeInt((int) crc.getValue());
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode checkpoint", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    // maps the file read-only and decodes straight from the mapping
+    public static <C extends Chromosome<?>> Checkpoint<C> read(Path file, ChromosomeFactory<?, C> factory)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Checkpoint too large: " + size + " bytes");
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return read(mapped, factory);
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static <C extends Chromosome<?>> Checkpoint<C> read(ByteBuffer buffer, ChromosomeFactory<?, C> factory)
+            throws IOException {
+        ByteBuffer data = buffer.duplicate();
+        int size = data.remaining();
+        if (size < 4 + 2 + 4) {
+            throw new IOException("Checkpoint truncated: " + size + " bytes");
+        }
+        int start = data.position();
+        ByteBuffer body = data.duplicate();
+        body.limit(start + size - 4);
+        CRC32 crc = new CRC32();
+        crc.update(body.duplicate());
+        if ((int) crc.getValue() != data.getInt(start + size - 4)) {
+            throw new IOException("Checkpoint checksum mismatch");
+        }
+
+        ByteBufferDataInput in = new ByteBufferDataInput(body);
+        int magic = in.readInt();
+        if (magic != MAGIC) {
+            throw new IOException(String.format("Not a checkpoint, magic: 0x%08X", magic));
+        }
+        short version = in.readShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported checkpoint version: " + version);
+        }
+
+        long generation = in.readLong();
+        long evaluations = in.readLong();
+        double bestFitness = in.readDouble();
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Bad population size: " + count);
+        }
+        ChromosomeFactory rawFactory = factory;
+        // no chromosome holds more genes than the checkpoint has bits
+        int maxGenes = (int) Math.min(Integer.MAX_VALUE, 8L * size);
+        List<C> population = new ArrayList<>(Math.min(count, size));
+        for (int i = 0; i < count; i++) {
+            population.add((C) ChromosomeCodec.read(in, rawFactory, maxGenes));
+        }
+        C best = in.readByte() != 0 ? (C) ChromosomeCodec.read(in, rawFactory, maxGenes) : null;
+
+        int stateCount = in.readInt();
+        Map<String, byte[]> states = new LinkedHashMap<>();
+        for (int i = 0; i < stateCount; i++) {
+            String name = in.readUTF();
+            int length = in.readInt();
+            if (length < 0) {
+                throw new IOException("Bad state length for " + name + ": " + length);
+            }
+            byte[] state = new byte[length];
+            in.readFully(state);
+            states.put(name, state);
+        }
+        return new Checkpoint<>(generation, evaluations, bestFitness, population, best, states);
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    public List<C> getPopulation() {
+        return population;
+    }
+
+    public C getBest() {
+        return best;
+    }
+
+    public Map<String, byte[]> getStates() {
+        return states;
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.softcomputing.genetic.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import com.example.softcomputing.utils.AppLogger;
+
+// Encodes and writes snapshots on a background thread. Each write goes to a temporary
+// sibling, is forced to disk and then moved over the target, so the target is always
+// either the previous or the new complete snapshot. If snapshots arrive faster than the
+// disk takes them, only the newest pending one is written. A submitted Checkpoint is
+// encoded on that thread too; its individuals must stay unchanged until isIdle().
+public class CheckpointWriter implements AutoCloseable {
+
+    private final Path target;
+    private final ExecutorService executor;
+    private final AtomicReference<Supplier<byte[]>> pending = new AtomicReference<>();
+    private volatile boolean encoding;
+    private volatile IOException lastError;
+    private final AppLogger logger = AppLogger.getLogger(CheckpointWriter.class);
+
+    public CheckpointWriter(Path target) {
+        if (target == null) {
+            throw new IllegalArgumentException("Checkpoint path must not be null");
+        }
+        this.target = target.toAbsolutePath();
+        this.executor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "checkpoint-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void submit(byte[] snapshot) {
+        submit(() -> snapshot);
+    }
+
+    public void submit(Checkpoint<?> checkpoint) {
+        submit(checkpoint::toBytes);
+    }
+
+    private void submit(Supplier<byte[]> snapshot) {
+        if (pending.getAndSet(snapshot) == null)
+            executor.execute(this::drain);
+    }
+
+    // true once every checkpoint submitted so far is encoded or superseded by a newer one;
+    // only meaningful on the submitting thread
+    public boolean isIdle() {
+        return pending.get() == null && !encoding;
+    }
+
+    // waits until every snapshot submitted so far is on disk
+    public void flush() {
+        try {
+            executor.submit(() -> {
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Checkpoint writer failed", e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+        executor.shutdown();
+    }
+
+    public Path getTarget() {
+        return target;
+    }
+
+    // the most recent write failure, if any
+    public IOException getLastError() {
+        return lastError;
+    }
+
+    private void drain() {
+        byte[] snapshot;
+        encoding = true;
+        try {
+            Supplier<byte[]> next = pending.getAndSet(null);
+            if (next == null)
+                return;
+            snapshot = next.get();
+        } catch (RuntimeException e) {
+            lastError = new IOException("Could not encode checkpoint", e);
+            logger.warn("Checkpoint for " + target + " could not be encoded: " + e.getMessage());
+            return;
+        } finally {
+            encoding = false;
+        }
+        try {
+            writeAtomically(target, snapshot);
+            lastError = null;
+        } catch (IOException e) {
+            lastError = e;
+            logger.warn("Checkpoint write to " + target + " failed: " + e.getMessage());
+        }
+    }
+
+    public static void writeAtomically(Path target, byte[] bytes) throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        if (parent != null)
+            Files.createDirectories(parent);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
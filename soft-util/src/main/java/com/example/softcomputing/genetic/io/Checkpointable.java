@@ -0,0 +1,15 @@
+package com.example.softcomputing.genetic.io;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+// Operators (or any run component) with state that must survive a checkpoint, such
+// as a generation counter or a random generator. readState() receives exactly the
+// bytes writeState() produced.
+public interface Checkpointable {
+
+    void writeState(DataOutput out) throws IOException;
+
+    void readState(DataInput in) throws IOException;
+}
@@ -0,0 +1,180 @@
+package com.example.softcomputing.genetic.io;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.chromosome.IntChromosome;
+import com.example.softcomputing.genetic.chromosome.PackedBinaryChromosome;
+import com.example.softcomputing.genetic.chromosome.Factories.ChromosomeFactory;
+
+// Compact binary form of one chromosome:
+//   byte  gene type (BITS, INTS or DOUBLES)
+//   byte  1 if the fitness below is current, 0 otherwise
+//   double fitness
+//   int   gene count
+//   genes: BITS packed 64 per long, INTS as int, DOUBLES as double
+// Genes of 0/1 Integer chromosomes travel as BITS. Decoding goes through a
+// ChromosomeFactory, so any chromosome with Integer or Double genes round-trips.
+// The gene count comes from the sender, so it is checked against a maximum and the
+// gene array grows with the data actually read rather than being sized up front.
+public final class ChromosomeCodec {
+
+    public static final byte BITS = 0;
+    public static final byte INTS = 1;
+    public static final byte DOUBLES = 2;
+    public static final int DEFAULT_MAX_GENES = 1 << 24;
+    private static final int CHUNK = 1 << 12;
+
+    private ChromosomeCodec() {
+    }
+
+    public static void write(Chromosome<?> chromosome, DataOutput out) throws IOException {
+        int length = chromosome.length();
+
+        if (chromosome instanceof PackedBinaryChromosome) {
+            PackedBinaryChromosome packed = (PackedBinaryChromosome) chromosome;
+            writeHeader(out, BITS, chromosome, length);
+            for (int w = 0; w < packed.wordCount(); w++)
+                out.writeLong(packed.getWord(w));
+            return;
+        }
+        if (chromosome instanceof DoubleChromosome) {
+            DoubleChromosome dc = (DoubleChromosome) chromosome;
+            writeHeader(out, DOUBLES, chromosome, length);
+            for (int i = 0; i < length; i++)
+                out.writeDouble(dc.getDouble(i));
+            return;
+        }
+        if (chromosome instanceof IntChromosome) {
+            IntChromosome ic = (IntChromosome) chromosome;
+            writeHeader(out, INTS, chromosome, length);
+            for (int i = 0; i < length; i++)
+                out.writeInt(ic.getInt(i));
+            return;
+        }
+
+        Object[] genes = chromosome.toArray();
+        byte type = geneType(genes);
+        writeHeader(out, type, chromosome, length);
+        switch (type) {
+            case BITS:
+                for (int w = 0; w < PackedBinaryChromosome.wordCount(length); w++) {
+                    long word = 0L;
+                    for (int b = 0, i = w << 6; b < 64 && i < length; b++, i++) {
+                        if (((Integer) genes[i]) != 0)
+                            word |= 1L << b;
+                    }
+                    out.writeLong(word);
+                }
+                break;
+            case INTS:
+                for (Object gene : genes)
+                    out.writeInt((Integer) gene);
+                break;
+            default:
+                for (Object gene : genes)
+                    out.writeDouble(((Number) gene).doubleValue());
+                break;
+        }
+    }
+
+    public static <G, C extends Chromosome<G>> C read(DataInput in, ChromosomeFactory<G, C> factory)
+            throws IOException {
+        return read(in, factory, DEFAULT_MAX_GENES);
+    }
+
+    // the gene type written by the sender must match the factory's gene type
+    @SuppressWarnings("unchecked")
+    public static <G, C extends Chromosome<G>> C read(DataInput in, ChromosomeFactory<G, C> factory, int maxGenes)
+            throws IOException {
+        byte type = in.readByte();
+        boolean evaluated = in.readByte() != 0;
+        double fitness = in.readDouble();
+        int length = in.readInt();
+        if (length < 0 || length > maxGenes) {
+            throw new IOException(String.format("Gene count %d outside [0, %d]", length, maxGenes));
+        }
+
+        Object[] genes;
+        switch (type) {
+            case BITS: {
+                Integer[] bits = new Integer[Math.min(length, CHUNK)];
+                for (int w = 0; w < PackedBinaryChromosome.wordCount(length); w++) {
+                    long word = in.readLong();
+                    for (int b = 0, i = w << 6; b < 64 && i < length; b++, i++) {
+                        if (i == bits.length)
+                            bits = grow(bits, length);
+                        bits[i] = (int) ((word >>> b) & 1L);
+                    }
+                }
+                genes = bits;
+                break;
+            }
+            case INTS: {
+                Integer[] ints = new Integer[Math.min(length, CHUNK)];
+                for (int i = 0; i < length; i++) {
+                    if (i == ints.length)
+                        ints = grow(ints, length);
+                    ints[i] = in.readInt();
+                }
+                genes = ints;
+                break;
+            }
+            case DOUBLES: {
+                Double[] doubles = new Double[Math.min(length, CHUNK)];
+                for (int i = 0; i < length; i++) {
+                    if (i == doubles.length)
+                        doubles = grow(doubles, length);
+                    doubles[i] = in.readDouble();
+                }
+                genes = doubles;
+                break;
+            }
+            default:
+                throw new IOException("Unknown gene type: " + type);
+        }
+
+        C chromosome;
+        try {
+            chromosome = factory.create((G[]) genes);
+        } catch (ClassCastException e) {
+            throw new IOException("Gene type " + type + " does not match the chromosome factory", e);
+        }
+        if (evaluated)
+            chromosome.setFitness(fitness);
+        return chromosome;
+    }
+
+    private static <T> T[] grow(T[] genes, int length) {
+        return Arrays.copyOf(genes, (int) Math.min(length, 2L * genes.length));
+    }
+
+    private static void writeHeader(DataOutput out, byte type, Chromosome<?> chromosome, int length)
+            throws IOException {
+        out.writeByte(type);
+        out.writeByte(chromosome.isEvaluated() ? 1 : 0);
+        out.writeDouble(chromosome.getFitness());
+        out.writeInt(length);
+    }
+
+    private static byte geneType(Object[] genes) {
+        boolean bits = true;
+        for (Object gene : genes) {
+            if (gene instanceof Integer) {
+                int v = (Integer) gene;
+                if (v != 0 && v != 1)
+                    bits = false;
+            } else if (gene instanceof Double || gene instanceof Float) {
+                return DOUBLES;
+            } else {
+                throw new IllegalArgumentException(
+                        "Unsupported gene type: " + (gene == null ? "null" : gene.getClass().getName()));
+            }
+        }
+        return bits ? BITS : INTS;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.softcomputing.genetic.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+import com.example.softcomputing.genetic.random.SplitMix64;
+
+// Saves a java.util.Random exactly, seed and cached Gaussian included, through its
+// serialized form. The restored instance continues the same sequence. Its fields are
+// private to java.base, hence serialization; reading is restricted by a filter to one
+// plain java.util.Random, so a crafted state cannot instantiate anything else.
+// writeGenerator/readGenerator add a tag so either a SplitMix64 (its state and gamma) or a
+// java.util.Random can be stored; other generators cannot be saved.
+public final class RandomState {
+
+    private static final byte SPLITMIX64 = 1;
+    private static final byte JAVA_UTIL_RANDOM = 2;
+    private static final ObjectInputFilter RANDOM_ONLY = ObjectInputFilter.Config
+            .createFilter("java.util.Random;maxdepth=1;maxrefs=1;maxarray=0;!*");
+
+    private RandomState() {
+    }
+
+    public static void write(Random random, DataOutput out) throws IOException {
+        if (random.getClass() != Random.class) {
+            throw new IOException("Only java.util.Random itself can be saved, not " + random.getClass().getName());
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream objects = new ObjectOutputStream(bytes)) {
+            objects.writeObject(random);
+        }
+        out.writeInt(bytes.size());
+        out.write(bytes.toByteArray());
+    }
+
+    public static Random read(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length <= 0 || length > 1 << 16) {
+            throw new IOException("Bad random state length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        try (ObjectInputStream objects = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            objects.setObjectInputFilter(RANDOM_ONLY);
+            Object random = objects.readObject();
+            if (!(random instanceof Random)) {
+                throw new IOException("Random state holds " + random.getClass().getName());
+            }
+            return (Random) random;
+        } catch (ClassNotFoundException | InvalidClassException e) {
+            throw new IOException("Unreadable random state", e);
+        }
+    }
+
+    public static boolean isSupported(RandomGenerator random) {
+        return random instanceof SplitMix64 || (random != null && random.getClass() == Random.class);
+    }
+
+    public static void writeGenerator(RandomGenerator random, DataOutput out) throws IOException {
+        if (random instanceof SplitMix64) {
+            out.writeByte(SPLITMIX64);
+            out.writeLong(((SplitMix64) random).getState());
+            out.writeLong(((SplitMix64) random).getGamma());
+        } else if (random != null && random.getClass() == Random.class) {
+            out.writeByte(JAVA_UTIL_RANDOM);
+            write((Random) random, out);
+        } else {
+            throw new IOException("Cannot save the state of " + (random == null ? "null" : random.getClass().getName()));
+        }
+    }
+
+    public static RandomGenerator readGenerator(DataInput in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case SPLITMIX64: {
+                long state = in.readLong();
+                long gamma = in.readLong();
+                if ((gamma & 1L) == 0)
+                    throw new IOException("Bad SplitMix64 gamma: " + gamma);
+                return new SplitMix64(state, gamma);
+            }
+            case JAVA_UTIL_RANDOM:
+                return read(in);
+            default:
+                throw new IOException("Unknown random state tag: " + tag);
+        }
+    }
+}
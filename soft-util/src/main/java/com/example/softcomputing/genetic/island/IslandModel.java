@@ -0,0 +1,202 @@
+package com.example.softcomputing.genetic.island;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.genetic.core.GeneticAlgorithm;
+import com.example.softcomputing.genetic.random.RandomStreams;
+import com.example.softcomputing.genetic.random.SplitMix64;
+import com.example.softcomputing.utils.AppLogger;
+
+// Runs several GeneticAlgorithm islands concurrently, one thread each, through their
+// own run(), so termination criteria, checkpoints, monitoring and evaluator shutdown
+// apply to every island. Every
+// `migrationInterval` generations an island sends copies of its best `migrantCount`
+// individuals, genes included, to its topology targets, then absorbs whatever has
+// arrived in its own inbox. Islands never wait for each other: an inbox holds at most
+// `inboxCapacity` batches and drops the oldest when an island falls behind its senders.
+public class IslandModel<C extends Chromosome<?>> {
+
+    private final List<GeneticAlgorithm<C>> islands;
+    private final MigrationTopology topology;
+    private final int migrationInterval;
+    private final int migrantCount;
+    private final List<BlockingQueue<List<C>>> inboxes;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Long seed;
+    private final AppLogger logger = AppLogger.getLogger(IslandModel.class);
+
+    public static final int DEFAULT_INBOX_CAPACITY = 16;
+
+    public IslandModel(List<GeneticAlgorithm<C>> islands, MigrationTopology topology, int migrationInterval,
+            int migrantCount) {
+        this(islands, topology, migrationInterval, migrantCount, DEFAULT_INBOX_CAPACITY, null);
+    }
+
+    // with a seed, island i draws its migration targets from stream i of that seed
+    public IslandModel(List<GeneticAlgorithm<C>> islands, MigrationTopology topology, int migrationInterval,
+            int migrantCount, long seed) {
+        this(islands, topology, migrationInterval, migrantCount, DEFAULT_INBOX_CAPACITY, Long.valueOf(seed));
+    }
+
+    public IslandModel(List<GeneticAlgorithm<C>> islands, MigrationTopology topology, int migrationInterval,
+            int migrantCount, int inboxCapacity, long seed) {
+        this(islands, topology, migrationInterval, migrantCount, inboxCapacity, Long.valueOf(seed));
+    }
+
+    private IslandModel(List<GeneticAlgorithm<C>> islands, MigrationTopology topology, int migrationInterval,
+            int migrantCount, int inboxCapacity, Long seed) {
+        if (islands == null || islands.isEmpty()) {
+            throw new IllegalArgumentException("At least one island is required");
+        }
+        if (migrationInterval <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Migration interval must be positive, got: %d", migrationInterval));
+        }
+        if (migrantCount < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Migrant count must not be negative, got: %d", migrantCount));
+        }
+        if (inboxCapacity <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Inbox capacity must be positive, got: %d", inboxCapacity));
+        }
+        this.islands = new ArrayList<>(islands);
+        this.topology = topology;
+        this.migrationInterval = migrationInterval;
+        this.migrantCount = migrantCount;
+        this.seed = seed;
+        this.inboxes = new ArrayList<>(islands.size());
+        for (int i = 0; i < islands.size(); i++) {
+            inboxes.add(new ArrayBlockingQueue<>(inboxCapacity));
+        }
+    }
+
+    // runs every island until its own run ends and returns the overall best
+    public C run() {
+        int n = islands.size();
+        ExecutorService executor = Executors.newFixedThreadPool(n, task -> {
+            Thread thread = new Thread(task, "island");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<?>> futures = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                int island = i;
+                futures.add(executor.submit(() -> evolve(island)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running islands", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Island failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        C best = getBest();
+        logger.info("Island model finished: islands=" + n + " bestFitness=" + getBestFitness() + " best=" + best);
+        return best;
+    }
+
+    private void evolve(int island) {
+        GeneticAlgorithm<C> ga = islands.get(island);
+        RandomGenerator random = seed != null ? RandomStreams.indexed(seed, island) : new SplitMix64();
+        C best = ga.run(g -> {
+            if (migrantCount > 0 && g.getGeneration() % migrationInterval == 0) {
+                emigrate(island, g, random);
+                immigrate(island, g);
+            }
+        });
+        if (best == null)
+            throw new IllegalStateException("Island " + island + " is not configured");
+
+        // batches that arrive once the island has stopped are never absorbed
+        List<C> batch;
+        while ((batch = inboxes.get(island).poll()) != null) {
+            ga.discard(batch);
+        }
+    }
+
+    private void emigrate(int island, GeneticAlgorithm<C> ga, RandomGenerator random) {
+        for (int target : topology.targets(island, islands.size(), random)) {
+            // each target gets its own deep copies, islands never share chromosomes or genes
+            BlockingQueue<List<C>> inbox = inboxes.get(target);
+            List<C> batch = ga.selectEmigrants(migrantCount);
+            while (!inbox.offer(batch)) {
+                List<C> oldest = inbox.poll();
+                if (oldest != null) {
+                    dropped.incrementAndGet();
+                    ga.discard(oldest);
+                }
+            }
+        }
+    }
+
+    private void immigrate(int island, GeneticAlgorithm<C> ga) {
+        BlockingQueue<List<C>> inbox = inboxes.get(island);
+        List<C> arrivals = null;
+        List<C> batch;
+        while ((batch = inbox.poll()) != null) {
+            if (arrivals == null)
+                arrivals = new ArrayList<>(batch);
+            else
+                arrivals.addAll(batch);
+        }
+        if (arrivals != null)
+            ga.acceptMigrants(arrivals);
+    }
+
+    public C getBest() {
+        C best = null;
+        double bestFitness = Double.NEGATIVE_INFINITY;
+        for (GeneticAlgorithm<C> ga : islands) {
+            if (ga.getBest() != null && (best == null || ga.getBestFitness() > bestFitness)) {
+                best = ga.getBest();
+                bestFitness = ga.getBestFitness();
+            }
+        }
+        return best;
+    }
+
+    public double getBestFitness() {
+        double bestFitness = Double.NEGATIVE_INFINITY;
+        for (GeneticAlgorithm<C> ga : islands) {
+            bestFitness = Math.max(bestFitness, ga.getBestFitness());
+        }
+        return bestFitness;
+    }
+
+    // batches dropped from full inboxes
+    public long getDroppedBatches() {
+        return dropped.get();
+    }
+
+    public List<GeneticAlgorithm<C>> getIslands() {
+        return islands;
+    }
+
+    public MigrationTopology getTopology() {
+        return topology;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("IslandModel(islands=%d, topology=%s, interval=%d, migrants=%d)",
+                islands.size(), topology, migrationInterval, migrantCount);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.softcomputing.genetic.island;
+
+import java.util.List;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+
+// Carries migrants between islands that do not share a population. Neither call
+// may block the island that makes it.
+public interface MigrationChannel<C extends Chromosome<?>> extends AutoCloseable {
+
+    // the migrants are not used after send returns
+    void send(List<C> migrants);
+
+    // everything that has arrived since the last poll, possibly empty
+    List<C> poll();
+
+    @Override
+    void close();
+}
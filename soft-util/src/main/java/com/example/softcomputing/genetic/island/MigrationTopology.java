@@ -0,0 +1,34 @@
+package com.example.softcomputing.genetic.island;
+
+import java.util.random.RandomGenerator;
+
+public enum MigrationTopology {
+    // island i sends to i + 1
+    RING,
+    // every island sends to every other island
+    FULLY_CONNECTED,
+    // each migration picks one other island at random
+    RANDOM;
+
+    public int[] targets(int island, int islandCount, RandomGenerator random) {
+        if (islandCount <= 1)
+            return new int[0];
+
+        switch (this) {
+            case FULLY_CONNECTED: {
+                int[] all = new int[islandCount - 1];
+                for (int i = 0, k = 0; i < islandCount; i++) {
+                    if (i != island)
+                        all[k++] = i;
+                }
+                return all;
+            }
+            case RANDOM: {
+                int target = random.nextInt(islandCount - 1);
+                return new int[] { target >= island ? target + 1 : target };
+            }
+            default:
+                return new int[] { (island + 1) % islandCount };
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.softcomputing.genetic.island;
+
+import java.util.List;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.genetic.core.GeneticAlgorithm;
+import com.example.softcomputing.utils.AppLogger;
+
+// A single island that exchanges migrants through a MigrationChannel, typically a
+// SocketMigrationChannel talking to islands in other JVMs. Same schedule as
+// IslandModel: every `migrationInterval` generations send the best `migrantCount`,
+// then absorb whatever has arrived.
+public class RemoteIsland<C extends Chromosome<?>> {
+
+    private final GeneticAlgorithm<C> island;
+    private final MigrationChannel<C> channel;
+    private final int migrationInterval;
+    private final int migrantCount;
+    private long immigrants = 0;
+    private final AppLogger logger = AppLogger.getLogger(RemoteIsland.class);
+
+    public RemoteIsland(GeneticAlgorithm<C> island, MigrationChannel<C> channel, int migrationInterval,
+            int migrantCount) {
+        if (island == null || channel == null) {
+            throw new IllegalArgumentException("Island and channel must not be null");
+        }
+        if (migrationInterval <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Migration interval must be positive, got: %d", migrationInterval));
+        }
+        if (migrantCount < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Migrant count must not be negative, got: %d", migrantCount));
+        }
+        this.island = island;
+        this.channel = channel;
+        this.migrationInterval = migrationInterval;
+        this.migrantCount = migrantCount;
+    }
+
+    // runs the island through its own run(), so its termination criteria, checkpoints
+    // and monitoring apply; the channel is left open for the caller to close
+    public C run() {
+        C best = island.run(ga -> {
+            if (ga.getGeneration() % migrationInterval == 0)
+                migrate(ga);
+        });
+        if (best == null)
+            throw new IllegalStateException("Island is not configured");
+
+        logger.info("Island finished: bestFitness=" + island.getBestFitness() + " immigrants=" + immigrants);
+        return island.getBest();
+    }
+
+    private void migrate(GeneticAlgorithm<C> ga) {
+        if (migrantCount > 0) {
+            List<C> emigrants = ga.selectEmigrants(migrantCount);
+            channel.send(emigrants);
+            ga.discard(emigrants);
+        }
+        List<C> arrived = channel.poll();
+        immigrants += arrived.size();
+        ga.acceptMigrants(arrived);
+    }
+
+    public GeneticAlgorithm<C> getIsland() {
+        return island;
+    }
+
+    public long getImmigrantCount() {
+        return immigrants;
+    }
+}
@@ -0,0 +1,323 @@
+package com.example.softcomputing.genetic.island;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.genetic.chromosome.Factories.ChromosomeFactory;
+import com.example.softcomputing.genetic.io.ChromosomeCodec;
+import com.example.softcomputing.utils.AppLogger;
+
+// Migration between processes over TCP. Each batch is one frame:
+//   int magic, int count, then `count` chromosomes in ChromosomeCodec form.
+// Every peer has its own sender thread and a bounded queue of encoded frames; when a
+// peer is slow or down the queue fills and the oldest frame is dropped, so send()
+// never blocks the island. Senders reconnect with a fixed back-off. Arriving batches
+// wait in a bounded inbox with the same drop-oldest policy until poll(). Incoming
+// chromosomes longer than maxGenes are refused and their connection dropped. close()
+// stops and joins every thread the channel started.
+public class SocketMigrationChannel<G, C extends Chromosome<G>> implements MigrationChannel<C> {
+
+    static final int MAGIC = 0x47414D31; // "GAM1"
+    private static final int MAX_BATCH = 1 << 16;
+
+    private final ChromosomeFactory<G, C> factory;
+    private final List<InetSocketAddress> peers;
+    private final int queueCapacity;
+    private final int connectTimeoutMillis;
+    private final int retryMillis;
+    private final int maxGenes;
+
+    private final BlockingQueue<List<C>> inbox;
+    // one per peer, published whole by start() so send() never sees a list being filled
+    private volatile List<BlockingQueue<byte[]>> outboxes = List.of();
+    private final List<Thread> threads = new CopyOnWriteArrayList<>();
+    private final List<Socket> sockets = new CopyOnWriteArrayList<>();
+    private ServerSocket server;
+    private volatile boolean closed = false;
+
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong received = new AtomicLong();
+    private final AppLogger logger = AppLogger.getLogger(SocketMigrationChannel.class);
+
+    public SocketMigrationChannel(ChromosomeFactory<G, C> factory, List<InetSocketAddress> peers) {
+        this(factory, peers, 8, 2000, 1000);
+    }
+
+    public SocketMigrationChannel(ChromosomeFactory<G, C> factory, List<InetSocketAddress> peers,
+            int queueCapacity, int connectTimeoutMillis, int retryMillis) {
+        this(factory, peers, queueCapacity, connectTimeoutMillis, retryMillis, ChromosomeCodec.DEFAULT_MAX_GENES);
+    }
+
+    public SocketMigrationChannel(ChromosomeFactory<G, C> factory, List<InetSocketAddress> peers,
+            int queueCapacity, int connectTimeoutMillis, int retryMillis, int maxGenes) {
+        if (factory == null) {
+            throw new IllegalArgumentException("Chromosome factory must not be null");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Queue capacity must be positive, got: %d", queueCapacity));
+        }
+        if (connectTimeoutMillis < 0 || retryMillis < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Timeouts must not be negative, got: %d, %d", connectTimeoutMillis, retryMillis));
+        }
+        if (maxGenes < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Maximum gene count must not be negative, got: %d", maxGenes));
+        }
+        this.factory = factory;
+        this.peers = new ArrayList<>(peers);
+        this.queueCapacity = queueCapacity;
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.retryMillis = retryMillis;
+        this.maxGenes = maxGenes;
+        this.inbox = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    // binds the listening port (0 picks a free one) and starts one sender per peer
+    public synchronized SocketMigrationChannel<G, C> start(int port) throws IOException {
+        if (server != null) {
+            throw new IllegalStateException("Channel already started");
+        }
+        server = new ServerSocket();
+        server.setReuseAddress(true);
+        server.bind(new InetSocketAddress(port));
+        startThread("migration-accept", this::acceptLoop);
+
+        List<BlockingQueue<byte[]>> queues = new ArrayList<>(peers.size());
+        for (InetSocketAddress peer : peers) {
+            BlockingQueue<byte[]> outbox = new ArrayBlockingQueue<>(queueCapacity);
+            queues.add(outbox);
+            startThread("migration-send-" + peer, () -> sendLoop(peer, outbox));
+        }
+        outboxes = List.copyOf(queues);
+        return this;
+    }
+
+    public int getLocalPort() {
+        if (server == null) {
+            throw new IllegalStateException("Channel not started");
+        }
+        return server.getLocalPort();
+    }
+
+    @Override
+    public void send(List<C> migrants) {
+        List<BlockingQueue<byte[]>> targets = outboxes;
+        if (closed || migrants.isEmpty() || targets.isEmpty())
+            return;
+
+        byte[] frame = encode(migrants);
+        for (BlockingQueue<byte[]> outbox : targets) {
+            offerDroppingOldest(outbox, frame);
+        }
+    }
+
+    @Override
+    public List<C> poll() {
+        List<List<C>> batches = new ArrayList<>();
+        inbox.drainTo(batches);
+        if (batches.isEmpty())
+            return List.of();
+
+        List<C> migrants = new ArrayList<>();
+        for (List<C> batch : batches) {
+            migrants.addAll(batch);
+        }
+        return migrants;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            if (server != null)
+                server.close();
+        } catch (IOException e) {
+            logger.debug("Closing server socket: " + e.getMessage());
+        }
+        for (Socket socket : sockets) {
+            closeQuietly(socket);
+        }
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+        // a sender may sit in connect() until its timeout
+        long deadline = System.currentTimeMillis() + connectTimeoutMillis + 1000;
+        for (Thread thread : threads) {
+            if (thread == Thread.currentThread())
+                continue;
+            try {
+                thread.join(Math.max(1, deadline - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (thread.isAlive())
+                logger.warn("Migration thread " + thread.getName() + " did not stop");
+        }
+        threads.clear();
+        sockets.clear();
+    }
+
+    private byte[] encode(List<C> migrants) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(migrants.size());
+            for (C migrant : migrants) {
+                ChromosomeCodec.write(migrant, out);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode migrants", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private <T> void offerDroppingOldest(BlockingQueue<T> queue, T item) {
+        while (!queue.offer(item)) {
+            if (queue.poll() != null)
+                dropped.incrementAndGet();
+        }
+    }
+
+    private void sendLoop(InetSocketAddress peer, BlockingQueue<byte[]> outbox) {
+        Socket socket = null;
+        DataOutputStream out = null;
+        byte[] frame = null;
+        while (!closed) {
+            try {
+                if (frame == null)
+                    frame = outbox.take();
+                if (socket == null) {
+                    socket = new Socket();
+                    socket.setTcpNoDelay(true);
+                    // registered first, so close() can abort the connect
+                    sockets.add(socket);
+                    socket.connect(peer, connectTimeoutMillis);
+                    out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+                }
+                out.write(frame);
+                out.flush();
+                sent.incrementAndGet();
+                frame = null;
+            } catch (InterruptedException e) {
+                break;
+            } catch (IOException e) {
+                // peer down or gone: this frame is lost, later ones wait in the bounded queue
+                if (!closed)
+                    logger.debug("Migration to " + peer + " failed: " + e.getMessage());
+                if (frame != null)
+                    dropped.incrementAndGet();
+                frame = null;
+                if (socket != null) {
+                    sockets.remove(socket);
+                    closeQuietly(socket);
+                }
+                socket = null;
+                out = null;
+                if (!sleep(retryMillis))
+                    break;
+            }
+        }
+        if (socket != null) {
+            sockets.remove(socket);
+            closeQuietly(socket);
+        }
+    }
+
+    private void acceptLoop() {
+        while (!closed) {
+            try {
+                Socket socket = server.accept();
+                sockets.add(socket);
+                startThread("migration-receive-" + socket.getRemoteSocketAddress(), () -> receiveLoop(socket));
+            } catch (IOException e) {
+                if (!closed)
+                    logger.warn("Migration listener failed: " + e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private void receiveLoop(Socket socket) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()))) {
+            while (!closed) {
+                int magic = in.readInt();
+                if (magic != MAGIC) {
+                    throw new IOException(String.format("Bad frame magic: 0x%08X", magic));
+                }
+                int count = in.readInt();
+                if (count < 0 || count > MAX_BATCH) {
+                    throw new IOException("Bad migrant count: " + count);
+                }
+                List<C> batch = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    batch.add(ChromosomeCodec.read(in, factory, maxGenes));
+                }
+                received.addAndGet(count);
+                offerDroppingOldest(inbox, batch);
+            }
+        } catch (IOException e) {
+            // end of stream or a broken peer; the peer reconnects on its own
+            if (!closed)
+                logger.debug("Migration connection closed: " + e.getMessage());
+        } finally {
+            sockets.remove(socket);
+            closeQuietly(socket);
+        }
+    }
+
+    private void startThread(String name, Runnable task) {
+        if (closed)
+            return;
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        threads.add(thread);
+        thread.start();
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    public long getSentFrames() {
+        return sent.get();
+    }
+
+    public long getDroppedFrames() {
+        return dropped.get();
+    }
+
+    public long getReceivedMigrants() {
+        return received.get();
+    }
+}
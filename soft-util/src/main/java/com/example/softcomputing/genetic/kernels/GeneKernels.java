@@ -0,0 +1,65 @@
+package com.example.softcomputing.genetic.kernels;
+
+import java.util.random.RandomGenerator;
+
+import com.example.softcomputing.genetic.random.PerThreadSplitMix64;
+import com.example.softcomputing.genetic.random.SplitMix64;
+
+// Bulk loops of the real-valued operators over primitive gene arrays: uniform crossover
+// is a masked blend, BLX-alpha a lane-wise blend plus clamp, tournaments a lane-wise max.
+// get() is chosen once at startup: the Vector API kernels when they were built (the
+// vector profile) and jdk.incubator.vector is in the boot layer (--add-modules
+// jdk.incubator.vector), the scalar loops otherwise.
+// -Dsoftcomputing.kernels=scalar forces the scalar ones. Both give identical results.
+public interface GeneKernels {
+
+    static GeneKernels get() {
+        return KernelSelection.INSTANCE;
+    }
+
+    static GeneKernels scalar() {
+        return ScalarGeneKernels.INSTANCE;
+    }
+
+    // out[offset + i] = the double of SplitMix64 state `state + (i + 1) * gamma`, the
+    // values nextDouble() would return one by one
+    void splitMix64Doubles(long state, long gamma, double[] out, int offset, int length);
+
+    // gene i of child1 is taken from b and of child2 from a where u[i] < ratio, the other way round elsewhere
+    void uniformSwap(double[] a, int aOffset, double[] b, int bOffset, double[] u, double ratio,
+            double[] child1, int child1Offset, double[] child2, int child2Offset, int length);
+
+    // child gene i is uniform in [min - alpha * d, max + alpha * d] of the parents'
+    // genes (d = max - min), picked by u[i] in [0, 1), then clamped to [lower, upper]
+    void blendAlpha(double[] a, int aOffset, double[] b, int bOffset, double[] u, double alpha,
+            double lower, double upper, double[] child, int childOffset, int length);
+
+    // winners[j] is the contestant of tournament j with the highest fitness, the earliest
+    // one on ties; contestants[r * count + j] is the one tournament j draws in round r
+    void tournament(double[] fitness, int[] contestants, int rounds, int[] winners, int count);
+
+    String name();
+
+    // fills out[offset, offset + length) with random.nextDouble(). A SplitMix64's draws
+    // are independent of each other, so they are computed a vector at a time from its
+    // state, which then moves past them as if drawn one by one.
+    static void uniforms(RandomGenerator random, double[] out, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > out.length - length) {
+            throw new IllegalArgumentException(
+                    String.format("Range [%d, %d) is outside an array of %d", offset, offset + length, out.length));
+        }
+        if (random instanceof PerThreadSplitMix64)
+            random = ((PerThreadSplitMix64) random).current();
+        if (random instanceof SplitMix64) {
+            SplitMix64 generator = (SplitMix64) random;
+            long start = generator.getState();
+            long gamma = generator.getGamma();
+            generator.setState(start + gamma * length);
+            get().splitMix64Doubles(start, gamma, out, offset, length);
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            out[offset + i] = random.nextDouble();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.softcomputing.genetic.kernels;
+
+// Per-thread working arrays for the kernels' random inputs, so the operators, which
+// async workers share, neither allocate per call nor share a buffer. A caller must be
+// done with the array before it asks for one again on the same thread.
+public final class KernelScratch {
+
+    private static final ThreadLocal<double[]> DOUBLES = ThreadLocal.withInitial(() -> new double[0]);
+
+    private KernelScratch() {
+    }
+
+    // an array of at least `length` doubles with unspecified contents
+    public static double[] doubles(int length) {
+        double[] values = DOUBLES.get();
+        if (values.length < length) {
+            values = new double[Math.max(length, values.length + (values.length >> 1))];
+            DOUBLES.set(values);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.softcomputing.genetic.kernels;
+
+import com.example.softcomputing.utils.AppLogger;
+
+// Picks the kernels once. The vector implementation is only built by the vector profile
+// and loaded by name after the module check, so nothing links against
+// jdk.incubator.vector when it is absent.
+final class KernelSelection {
+
+    private static final AppLogger log = AppLogger.getLogger(KernelSelection.class);
+
+    static final String PROPERTY = "softcomputing.kernels";
+    static final GeneKernels INSTANCE = select();
+
+    private KernelSelection() {
+    }
+
+    private static GeneKernels select() {
+        if ("scalar".equalsIgnoreCase(System.getProperty(PROPERTY, "")))
+            return ScalarGeneKernels.INSTANCE;
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty())
+            return ScalarGeneKernels.INSTANCE;
+        try {
+            GeneKernels kernels = (GeneKernels) Class
+                    .forName("com.example.softcomputing.genetic.kernels.VectorGeneKernels")
+                    .getDeclaredConstructor().newInstance();
+            log.debug("Using " + kernels.name() + " gene kernels");
+            return kernels;
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            log.warn("Vector gene kernels unavailable, using scalar ones: " + e);
+            return ScalarGeneKernels.INSTANCE;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.softcomputing.genetic.kernels;
+
+import com.example.softcomputing.genetic.random.SplitMix64;
+
+// The plain loops. The static forms run over genes [from, length), so the vector
+// kernels finish their tails with them.
+final class ScalarGeneKernels implements GeneKernels {
+
+    static final ScalarGeneKernels INSTANCE = new ScalarGeneKernels();
+
+    private ScalarGeneKernels() {
+    }
+
+    @Override
+    public void splitMix64Doubles(long state, long gamma, double[] out, int offset, int length) {
+        splitMix64Doubles(state, gamma, out, offset, 0, length);
+    }
+
+    static void splitMix64Doubles(long state, long gamma, double[] out, int offset, int from, int length) {
+        for (int i = from; i < length; i++) {
+            out[offset + i] = (SplitMix64.mix64(state + (i + 1) * gamma) >>> 11) * 0x1.0p-53;
+        }
+    }
+
+    @Override
+    public void uniformSwap(double[] a, int aOffset, double[] b, int bOffset, double[] u, double ratio,
+            double[] child1, int child1Offset, double[] child2, int child2Offset, int length) {
+        uniformSwap(a, aOffset, b, bOffset, u, ratio, child1, child1Offset, child2, child2Offset, 0, length);
+    }
+
+    static void uniformSwap(double[] a, int aOffset, double[] b, int bOffset, double[] u, double ratio,
+            double[] child1, int child1Offset, double[] child2, int child2Offset, int from, int length) {
+        for (int i = from; i < length; i++) {
+            double x = a[aOffset + i];
+            double y = b[bOffset + i];
+            boolean swap = u[i] < ratio;
+            child1[child1Offset + i] = swap ? y : x;
+            child2[child2Offset + i] = swap ? x : y;
+        }
+    }
+
+    @Override
+    public void blendAlpha(double[] a, int aOffset, double[] b, int bOffset, double[] u, double alpha,
+            double lower, double upper, double[] child, int childOffset, int length) {
+        blendAlpha(a, aOffset, b, bOffset, u, alpha, lower, upper, child, childOffset, 0, length);
+    }
+
+    static void blendAlpha(double[] a, int aOffset, double[] b, int bOffset, double[] u, double alpha,
+            double lower, double upper, double[] child, int childOffset, int from, int length) {
+        double spread = 1.0 + 2.0 * alpha;
+        for (int i = from; i < length; i++) {
+            double x = a[aOffset + i];
+            double y = b[bOffset + i];
+            double min = Math.min(x, y);
+            double d = Math.abs(x - y);
+            double value = min - alpha * d + u[i] * spread * d;
+            child[childOffset + i] = Math.min(upper, Math.max(lower, value));
+        }
+    }
+
+    @Override
+    public void tournament(double[] fitness, int[] contestants, int rounds, int[] winners, int count) {
+        tournament(fitness, contestants, rounds, winners, count, 0);
+    }
+
+    static void tournament(double[] fitness, int[] contestants, int rounds, int[] winners, int count, int from) {
+        for (int j = from; j < count; j++) {
+            int best = contestants[j];
+            double bestFitness = fitness[best];
+            for (int r = 1; r < rounds; r++) {
+                int candidate = contestants[r * count + j];
+                if (fitness[candidate] > bestFitness) {
+                    bestFitness = fitness[candidate];
+                    best = candidate;
+                }
+            }
+            winners[j] = best;
+        }
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
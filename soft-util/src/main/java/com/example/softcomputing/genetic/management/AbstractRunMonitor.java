@@ -0,0 +1,93 @@
+package com.example.softcomputing.genetic.management;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.example.softcomputing.genetic.core.RunControl;
+import com.example.softcomputing.genetic.metrics.MetricsSnapshot;
+import com.example.softcomputing.genetic.metrics.Phase;
+import com.example.softcomputing.genetic.operators.mutation.AdjustableMutationRate;
+
+// Shared part of the GA MBeans: everything that comes from the metrics snapshot,
+// the run control and the mutation operator.
+public abstract class AbstractRunMonitor implements GeneticAlgorithmMXBean {
+
+    protected abstract MetricsSnapshot metrics();
+
+    protected abstract RunControl control();
+
+    protected abstract Object mutation();
+
+    @Override
+    public long getEvaluationCount() {
+        return metrics().getEvaluations();
+    }
+
+    @Override
+    public double getEvaluationsPerSecond() {
+        return metrics().getEvaluationsPerSecond();
+    }
+
+    @Override
+    public Map<String, Double> getPhaseMillis() {
+        MetricsSnapshot snapshot = metrics();
+        Map<String, Double> millis = new LinkedHashMap<>();
+        for (Phase phase : Phase.values()) {
+            millis.put(phase.name(), snapshot.getPhaseNanos(phase) / 1e6);
+        }
+        return millis;
+    }
+
+    @Override
+    public double getLastGenerationMillis() {
+        return metrics().getLastGenerationNanos() / 1e6;
+    }
+
+    @Override
+    public long getLastGenerationAllocatedBytes() {
+        return metrics().getLastAllocatedBytes();
+    }
+
+    @Override
+    public boolean isPaused() {
+        return control().isPaused();
+    }
+
+    @Override
+    public boolean isStopRequested() {
+        return control().isStopRequested();
+    }
+
+    @Override
+    public double getMutationRate() {
+        Object mutation = mutation();
+        return mutation instanceof AdjustableMutationRate
+                ? ((AdjustableMutationRate) mutation).getMutationRate()
+                : Double.NaN;
+    }
+
+    @Override
+    public void setMutationRate(double rate) {
+        Object mutation = mutation();
+        if (!(mutation instanceof AdjustableMutationRate)) {
+            throw new UnsupportedOperationException(
+                    "Mutation rate of " + mutation.getClass().getSimpleName() + " cannot be changed");
+        }
+        ((AdjustableMutationRate) mutation).setMutationRate(rate);
+    }
+
+    @Override
+    public void pause() {
+        control().pause();
+    }
+
+    @Override
+    public void resume() {
+        control().resume();
+    }
+
+    @Override
+    public void stopAfterCurrentGeneration() {
+        control().requestStop();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.softcomputing.genetic.management;
+
+import java.util.Map;
+
+// Live view and controls of a running GA. Phase times are milliseconds keyed by
+// phase name; the mutation rate is NaN when the operator cannot change it.
+public interface GeneticAlgorithmMXBean {
+
+    long getGeneration();
+
+    double getBestFitness();
+
+    double getMeanFitness();
+
+    long getEvaluationCount();
+
+    double getEvaluationsPerSecond();
+
+    double getDiversity();
+
+    Map<String, Double> getPhaseMillis();
+
+    double getLastGenerationMillis();
+
+    long getLastGenerationAllocatedBytes();
+
+    boolean isPaused();
+
+    boolean isStopRequested();
+
+    double getMutationRate();
+
+    void setMutationRate(double rate);
+
+    void pause();
+
+    void resume();
+
+    void stopAfterCurrentGeneration();
+}
@@ -0,0 +1,61 @@
+package com.example.softcomputing.genetic.management;
+
+import java.util.List;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.genetic.core.GeneticAlgorithm;
+import com.example.softcomputing.genetic.core.RunControl;
+import com.example.softcomputing.genetic.metrics.MetricsSnapshot;
+import com.example.softcomputing.genetic.utils.PopulationDiversity;
+
+public class GeneticAlgorithmMonitor extends AbstractRunMonitor {
+
+    private final GeneticAlgorithm<?> algorithm;
+
+    public GeneticAlgorithmMonitor(GeneticAlgorithm<?> algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    @Override
+    public long getGeneration() {
+        return algorithm.getGeneration();
+    }
+
+    @Override
+    public double getBestFitness() {
+        return algorithm.getBestFitness();
+    }
+
+    @Override
+    public double getMeanFitness() {
+        List<? extends Chromosome<?>> population = algorithm.getPopulation();
+        if (population == null || population.isEmpty())
+            return Double.NaN;
+        double sum = 0.0;
+        for (Chromosome<?> individual : population) {
+            sum += individual.getFitness();
+        }
+        return sum / population.size();
+    }
+
+    @Override
+    public double getDiversity() {
+        List<? extends Chromosome<?>> population = algorithm.getPopulation();
+        return population == null ? 0.0 : PopulationDiversity.of(population);
+    }
+
+    @Override
+    protected MetricsSnapshot metrics() {
+        return algorithm.getMetrics();
+    }
+
+    @Override
+    protected RunControl control() {
+        return algorithm.getControl();
+    }
+
+    @Override
+    protected Object mutation() {
+        return algorithm.getMutationStrategy();
+    }
+}
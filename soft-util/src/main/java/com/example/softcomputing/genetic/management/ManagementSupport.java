@@ -0,0 +1,50 @@
+package com.example.softcomputing.genetic.management;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.example.softcomputing.utils.AppLogger;
+
+// Registers run MBeans with the platform server as
+// com.example.softcomputing:type=<type>,id=<n>. Failures are logged, never thrown:
+// monitoring must not stop a run.
+public final class ManagementSupport {
+
+    public static final String DOMAIN = "com.example.softcomputing";
+
+    private static final AtomicInteger IDS = new AtomicInteger();
+    private static final AppLogger logger = AppLogger.getLogger(ManagementSupport.class);
+
+    private ManagementSupport() {
+    }
+
+    // returns null when registration failed
+    public static ObjectName register(String type, Object mbean) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(DOMAIN + ":type=" + type + ",id="
+                    + IDS.incrementAndGet());
+            server.registerMBean(mbean, name);
+            return name;
+        } catch (JMException | RuntimeException e) {
+            logger.warn("Could not register MBean for " + type + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    public static void unregister(ObjectName name) {
+        if (name == null)
+            return;
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(name))
+                server.unregisterMBean(name);
+        } catch (JMException | RuntimeException e) {
+            logger.warn("Could not unregister MBean " + name + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.softcomputing.genetic.metrics;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.utils.FitnessFunction;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+// A single fitness call. Only calls slower than the threshold are recorded; the
+// default can be overridden in the recording settings.
+@Name("com.example.softcomputing.FitnessEvaluation")
+@Label("GA Fitness Evaluation")
+@Category({ "Soft Computing", "Genetic Algorithm" })
+@Threshold("1 ms")
+@StackTrace(false)
+public class FitnessEvaluationEvent extends Event {
+
+    @Label("Engine")
+    public String engine;
+
+    @Label("Genes")
+    public int genes;
+
+    @Label("Fitness")
+    public double fitness;
+
+    // costs a disabled-event check per call when nothing is recording
+    public static <C extends Chromosome<?>> FitnessFunction<C> recording(String engine,
+            FitnessFunction<C> fitnessFunction) {
+        return chromosome -> {
+            FitnessEvaluationEvent event = new FitnessEvaluationEvent();
+            event.begin();
+            double fitness = fitnessFunction.evaluate(chromosome);
+            // the threshold is checked against the duration, which end() fixes
+            event.end();
+            if (event.shouldCommit()) {
+                event.engine = engine;
+                event.genes = chromosome.length();
+                event.fitness = fitness;
+                event.commit();
+            }
+            return fitness;
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.softcomputing.genetic.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Spans one generation, from breeding to the end of replacement.
+@Name("com.example.softcomputing.Generation")
+@Label("GA Generation")
+@Category({ "Soft Computing", "Genetic Algorithm" })
+@StackTrace(false)
+public class GenerationEvent extends Event {
+
+    @Label("Engine")
+    public String engine;
+
+    @Label("Generation")
+    public long generation;
+
+    @Label("Population Size")
+    public int populationSize;
+
+    @Label("Evaluations")
+    @Description("Fitness evaluations performed in this generation")
+    public long evaluations;
+
+    @Label("Best Fitness")
+    public double bestFitness;
+
+    @Label("Mean Fitness")
+    public double meanFitness;
+}
@@ -0,0 +1,89 @@
+package com.example.softcomputing.genetic.metrics;
+
+import java.util.Arrays;
+
+// Power-of-two buckets over nanoseconds: bucket i counts values in [2^(i-1), 2^i).
+// Recording is a couple of integer ops and never allocates; percentiles are
+// reported as the upper edge of their bucket, so they are within a factor of two.
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final long[] counts;
+    private long count = 0;
+    private long sum = 0;
+    private long min = Long.MAX_VALUE;
+    private long max = 0;
+
+    public LatencyHistogram() {
+        this.counts = new long[BUCKETS];
+    }
+
+    private LatencyHistogram(LatencyHistogram other) {
+        this.counts = Arrays.copyOf(other.counts, BUCKETS);
+        this.count = other.count;
+        this.sum = other.sum;
+        this.min = other.min;
+        this.max = other.max;
+    }
+
+    public void record(long nanos) {
+        if (nanos < 0)
+            nanos = 0;
+        counts[Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos))]++;
+        count++;
+        sum += nanos;
+        if (nanos < min)
+            min = nanos;
+        if (nanos > max)
+            max = nanos;
+    }
+
+    // q in [0, 1]; 0 when nothing has been recorded
+    public long percentile(double q) {
+        if (q < 0.0 || q > 1.0) {
+            throw new IllegalArgumentException(String.format("Percentile must be in [0, 1], got: %.4f", q));
+        }
+        if (count == 0)
+            return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(q * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank)
+                return Math.min(max, i == 0 ? 0 : 1L << Math.min(62, i));
+        }
+        return max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    public long[] getBucketCounts() {
+        return Arrays.copyOf(counts, BUCKETS);
+    }
+
+    public LatencyHistogram copy() {
+        return new LatencyHistogram(this);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LatencyHistogram(count=%d, mean=%.0fns, p50<=%dns, p99<=%dns, max=%dns)",
+                count, getMean(), percentile(0.5), percentile(0.99), max);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.softcomputing.genetic.metrics;
+
+// Called on the engine thread after every generation; keep it short.
+@FunctionalInterface
+public interface MetricsListener {
+    void onGeneration(MetricsSnapshot snapshot);
+}
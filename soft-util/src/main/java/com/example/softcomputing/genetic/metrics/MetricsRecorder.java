@@ -0,0 +1,129 @@
+package com.example.softcomputing.genetic.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Accumulates per-phase times for one engine. All recording happens on the engine
+// thread and touches only primitive fields. endGeneration() publishes an immutable
+// snapshot that other threads may read at any time; building it copies the two phase
+// arrays and the latency histogram, so these are the recorder's allocations per generation.
+// Allocation is measured for the engine thread only, so work done by parallel
+// evaluators is not included.
+public class MetricsRecorder {
+
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = allocationBean();
+
+    private final long[] phaseNanos = new long[Phase.values().length];
+    private final long[] lastPhaseNanos = new long[Phase.values().length];
+    private final LatencyHistogram generationLatency = new LatencyHistogram();
+    private final List<MetricsListener> listeners = new CopyOnWriteArrayList<>();
+
+    private long startNanos = -1;
+    private long generation = 0;
+    private long evaluations = 0;
+    private long generationEvaluations = 0;
+    private long generationStart;
+    private long allocationStart;
+    private long allocatedBytes = 0;
+    private volatile MetricsSnapshot latest;
+
+    public MetricsRecorder() {
+        this.latest = snapshot(0, 0, ALLOCATION_BEAN == null ? -1 : 0);
+    }
+
+    public void addListener(MetricsListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener must not be null");
+        }
+        listeners.add(listener);
+    }
+
+    public void removeListener(MetricsListener listener) {
+        listeners.remove(listener);
+    }
+
+    public void startGeneration() {
+        long now = System.nanoTime();
+        if (startNanos < 0)
+            startNanos = now;
+        generationStart = now;
+        generationEvaluations = 0;
+        allocationStart = threadAllocatedBytes();
+        for (int i = 0; i < lastPhaseNanos.length; i++) {
+            lastPhaseNanos[i] = 0;
+        }
+    }
+
+    public void record(Phase phase, long nanos) {
+        phaseNanos[phase.ordinal()] += nanos;
+        lastPhaseNanos[phase.ordinal()] += nanos;
+    }
+
+    public void recordEvaluations(long count) {
+        evaluations += count;
+        generationEvaluations += count;
+    }
+
+    // evaluations outside a generation (the initial population); also starts the run clock
+    public void recordSetup(long evaluationNanos, long count) {
+        if (startNanos < 0)
+            startNanos = System.nanoTime() - evaluationNanos;
+        phaseNanos[Phase.EVALUATION.ordinal()] += evaluationNanos;
+        evaluations += count;
+    }
+
+    public void endGeneration() {
+        long elapsed = System.nanoTime() - generationStart;
+        generation++;
+        generationLatency.record(elapsed);
+
+        long lastAllocated = -1;
+        if (ALLOCATION_BEAN != null) {
+            lastAllocated = threadAllocatedBytes() - allocationStart;
+            allocatedBytes += lastAllocated;
+        }
+
+        MetricsSnapshot snapshot = snapshot(elapsed, lastAllocated, ALLOCATION_BEAN == null ? -1 : allocatedBytes);
+        latest = snapshot;
+        for (MetricsListener listener : listeners) {
+            listener.onGeneration(snapshot);
+        }
+    }
+
+    public MetricsSnapshot getSnapshot() {
+        return latest;
+    }
+
+    public static boolean isAllocationTrackingSupported() {
+        return ALLOCATION_BEAN != null;
+    }
+
+    private MetricsSnapshot snapshot(long lastGenerationNanos, long lastAllocated, long totalAllocated) {
+        long elapsed = startNanos < 0 ? 0 : System.nanoTime() - startNanos;
+        return new MetricsSnapshot(generation, evaluations, MetricsSnapshot.copy(phaseNanos),
+                MetricsSnapshot.copy(lastPhaseNanos), elapsed, lastGenerationNanos, generationEvaluations,
+                totalAllocated, lastAllocated, generationLatency.copy());
+    }
+
+    private static long threadAllocatedBytes() {
+        return ALLOCATION_BEAN == null ? 0 : ALLOCATION_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+                if (sunBean.isThreadAllocatedMemorySupported()) {
+                    sunBean.setThreadAllocatedMemoryEnabled(true);
+                    return sunBean;
+                }
+            }
+        } catch (LinkageError | UnsupportedOperationException | SecurityException e) {
+            // not a HotSpot-style JVM
+        }
+        return null;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.softcomputing.genetic.metrics;
+
+import java.util.Arrays;
+
+// Immutable view of a run's metrics after a generation. Phase times are nanoseconds
+// on the engine thread; allocation figures are -1 when the JVM cannot report them.
+public final class MetricsSnapshot {
+
+    private final long generation;
+    private final long evaluations;
+    private final long[] phaseNanos;
+    private final long[] lastPhaseNanos;
+    private final long elapsedNanos;
+    private final long lastGenerationNanos;
+    private final long lastGenerationEvaluations;
+    private final long allocatedBytes;
+    private final long lastAllocatedBytes;
+    private final LatencyHistogram generationLatency;
+
+    MetricsSnapshot(long generation, long evaluations, long[] phaseNanos, long[] lastPhaseNanos,
+            long elapsedNanos, long lastGenerationNanos, long lastGenerationEvaluations,
+            long allocatedBytes, long lastAllocatedBytes, LatencyHistogram generationLatency) {
+        this.generation = generation;
+        this.evaluations = evaluations;
+        this.phaseNanos = phaseNanos;
+        this.lastPhaseNanos = lastPhaseNanos;
+        this.elapsedNanos = elapsedNanos;
+        this.lastGenerationNanos = lastGenerationNanos;
+        this.lastGenerationEvaluations = lastGenerationEvaluations;
+        this.allocatedBytes = allocatedBytes;
+        this.lastAllocatedBytes = lastAllocatedBytes;
+        this.generationLatency = generationLatency;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    public long getPhaseNanos(Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    public long getLastPhaseNanos(Phase phase) {
+        return lastPhaseNanos[phase.ordinal()];
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getLastGenerationNanos() {
+        return lastGenerationNanos;
+    }
+
+    // over the whole run, wall clock
+    public double getEvaluationsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : evaluations * 1e9 / elapsedNanos;
+    }
+
+    public double getLastEvaluationsPerSecond() {
+        return lastGenerationNanos == 0 ? 0.0 : lastGenerationEvaluations * 1e9 / lastGenerationNanos;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public long getLastAllocatedBytes() {
+        return lastAllocatedBytes;
+    }
+
+    public LatencyHistogram getGenerationLatency() {
+        return generationLatency.copy();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("MetricsSnapshot(generation=%d, evaluations=%d, evals/s=%.1f",
+                generation, evaluations, getEvaluationsPerSecond()));
+        for (Phase phase : Phase.values()) {
+            sb.append(String.format(", %s=%.3fms", phase.name().toLowerCase(),
+                    phaseNanos[phase.ordinal()] / 1e6));
+        }
+        if (allocatedBytes >= 0)
+            sb.append(String.format(", allocated=%d bytes", allocatedBytes));
+        sb.append(", latency=").append(generationLatency).append(')');
+        return sb.toString();
+    }
+
+    static long[] copy(long[] values) {
+        return Arrays.copyOf(values, values.length);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.softcomputing.genetic.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+// One phase of a generation. Selection, crossover and mutation interleave per pair
+// of parents, so they share a single BREEDING event that carries their summed times.
+@Name("com.example.softcomputing.OperatorPhase")
+@Label("GA Operator Phase")
+@Category({ "Soft Computing", "Genetic Algorithm" })
+@StackTrace(false)
+public class OperatorPhaseEvent extends Event {
+
+    public static final String BREEDING = "BREEDING";
+
+    @Label("Engine")
+    public String engine;
+
+    @Label("Phase")
+    public String phase;
+
+    @Label("Generation")
+    public long generation;
+
+    @Label("Individuals")
+    @Description("Offspring bred or individuals evaluated in this phase")
+    public int individuals;
+
+    @Label("Selection Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long selectionTime;
+
+    @Label("Crossover Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long crossoverTime;
+
+    @Label("Mutation Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long mutationTime;
+}
@@ -0,0 +1,9 @@
+package com.example.softcomputing.genetic.metrics;
+
+public enum Phase {
+    SELECTION,
+    CROSSOVER,
+    MUTATION,
+    EVALUATION,
+    REPLACEMENT
+}
@@ -0,0 +1,29 @@
+package com.example.softcomputing.genetic.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.softcomputing.Replacement")
+@Label("GA Replacement")
+@Category({ "Soft Computing", "Genetic Algorithm" })
+@StackTrace(false)
+public class ReplacementEvent extends Event {
+
+    @Label("Engine")
+    public String engine;
+
+    @Label("Generation")
+    public long generation;
+
+    @Label("Policy")
+    public String policy;
+
+    @Label("Population Size")
+    public int populationSize;
+
+    @Label("Offspring")
+    public int offspring;
+}
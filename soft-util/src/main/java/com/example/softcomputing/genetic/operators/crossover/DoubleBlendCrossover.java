@@ -0,0 +1,57 @@
+package com.example.softcomputing.genetic.operators.crossover;
+
+
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.kernels.GeneKernels;
+import com.example.softcomputing.genetic.kernels.KernelScratch;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
+
+// Blend crossover (BLX-alpha): each child gene is drawn uniformly from the parents'
+// interval widened by alpha times its width on both sides, then clamped to the child's
+// bounds. alpha = 0 keeps children between the parents; 0.5 is the usual choice.
+public class DoubleBlendCrossover extends AbstractSeedable implements DoubleCrossover {
+    private final double crossoverProbability;
+    private final double alpha;
+
+    public DoubleBlendCrossover(double crossoverProbability) {
+        this(crossoverProbability, 0.5);
+    }
+
+    public DoubleBlendCrossover(double crossoverProbability, double alpha) {
+        if (!(alpha >= 0.0) || Double.isInfinite(alpha)) {
+            throw new IllegalArgumentException(String.format("alpha must be finite and >= 0, got %f", alpha));
+        }
+        this.crossoverProbability = crossoverProbability;
+        this.alpha = alpha;
+    }
+
+    @Override
+    public void crossoverInto(DoubleChromosome parent1, DoubleChromosome parent2,
+            DoubleChromosome child1, DoubleChromosome child2) {
+        InPlaceCrossover.requireSameLength(parent1, parent2, child1, child2);
+        int length = parent1.length();
+
+        if (random.nextDouble() > crossoverProbability) {
+            child1.copyFrom(parent1);
+            child2.copyFrom(parent2);
+            return;
+        }
+
+        // both children read the parents' genes, so a child may not be a parent's storage
+        GeneKernels kernels = GeneKernels.get();
+        double[] u = KernelScratch.doubles(length);
+        GeneKernels.uniforms(random, u, 0, length);
+        kernels.blendAlpha(parent1.rawGenes(), parent1.offset(), parent2.rawGenes(), parent2.offset(), u, alpha,
+                child1.getLowerBound(), child1.getUpperBound(), child1.rawGenes(), child1.offset(), length);
+        GeneKernels.uniforms(random, u, 0, length);
+        kernels.blendAlpha(parent1.rawGenes(), parent1.offset(), parent2.rawGenes(), parent2.offset(), u, alpha,
+                child2.getLowerBound(), child2.getUpperBound(), child2.rawGenes(), child2.offset(), length);
+        child1.invalidateFitness();
+        child2.invalidateFitness();
+        DoubleChromosome.inheritFromParents(parent1, parent2, child1, child2);
+    }
+
+    public double getAlpha() {
+        return alpha;
+    }
+}
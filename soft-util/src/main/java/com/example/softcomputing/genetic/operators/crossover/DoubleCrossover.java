@@ -0,0 +1,19 @@
+package com.example.softcomputing.genetic.operators.crossover;
+
+import java.util.List;
+
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+
+// Crossover on primitive genes. Implementations write both children into the given
+// chromosomes; when no crossover happens the children become copies of the parents.
+public interface DoubleCrossover extends InPlaceCrossover<DoubleChromosome> {
+
+    @Override
+    void crossoverInto(DoubleChromosome parent1, DoubleChromosome parent2,
+            DoubleChromosome child1, DoubleChromosome child2);
+
+    @Override
+    default List<DoubleChromosome> crossover(DoubleChromosome parent1, DoubleChromosome parent2) {
+        return InPlaceCrossover.intoNew(this, parent1, parent2, parent1.newBlank(), parent2.newBlank());
+    }
+}
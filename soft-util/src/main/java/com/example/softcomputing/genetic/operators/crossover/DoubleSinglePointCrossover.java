@@ -0,0 +1,33 @@
+package com.example.softcomputing.genetic.operators.crossover;
+
+
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
+
+public class DoubleSinglePointCrossover extends AbstractSeedable implements DoubleCrossover {
+    private final double crossoverProbability;
+
+    public DoubleSinglePointCrossover(double crossoverProbability) {
+        this.crossoverProbability = crossoverProbability;
+    }
+
+    @Override
+    public void crossoverInto(DoubleChromosome parent1, DoubleChromosome parent2,
+            DoubleChromosome child1, DoubleChromosome child2) {
+        InPlaceCrossover.requireSameLength(parent1, parent2, child1, child2);
+        int length = parent1.length();
+
+        child1.copyFrom(parent1);
+        child2.copyFrom(parent2);
+        if (length < 2 || random.nextDouble() > crossoverProbability) {
+            return;
+        }
+
+        int crossoverPoint = 1 + random.nextInt(length - 1);
+        for (int i = crossoverPoint; i < length; i++) {
+            child1.setDouble(i, parent2.getDouble(i));
+            child2.setDouble(i, parent1.getDouble(i));
+        }
+        DoubleChromosome.inheritFromParents(parent1, parent2, child1, child2);
+    }
+}
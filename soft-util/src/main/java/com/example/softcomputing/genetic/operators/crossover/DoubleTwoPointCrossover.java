@@ -0,0 +1,43 @@
+package com.example.softcomputing.genetic.operators.crossover;
+
+
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
+
+public class DoubleTwoPointCrossover extends AbstractSeedable implements DoubleCrossover {
+    private final double crossoverProbability;
+
+    public DoubleTwoPointCrossover(double crossoverProbability) {
+        this.crossoverProbability = crossoverProbability;
+    }
+
+    @Override
+    public void crossoverInto(DoubleChromosome parent1, DoubleChromosome parent2,
+            DoubleChromosome child1, DoubleChromosome child2) {
+        InPlaceCrossover.requireSameLength(parent1, parent2, child1, child2);
+        int len = parent1.length();
+
+        child1.copyFrom(parent1);
+        child2.copyFrom(parent2);
+        if (random.nextDouble() > crossoverProbability) {
+            return;
+        }
+
+        int point1 = random.nextInt(len);
+        int point2 = random.nextInt(len);
+        if (point1 > point2) {
+            int temp = point1;
+            point1 = point2;
+            point2 = temp;
+        }
+        if (point1 == point2) {
+            return;
+        }
+
+        for (int i = point1; i < point2; i++) {
+            child1.setDouble(i, parent2.getDouble(i));
+            child2.setDouble(i, parent1.getDouble(i));
+        }
+        DoubleChromosome.inheritFromParents(parent1, parent2, child1, child2);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.softcomputing.genetic.operators.crossover;
+
+
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.kernels.GeneKernels;
+import com.example.softcomputing.genetic.kernels.KernelScratch;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
+
+public class DoubleUniformCrossover extends AbstractSeedable implements DoubleCrossover {
+	private final double mixingRatio;
+	private final double crossoverRate;
+
+	public DoubleUniformCrossover() {
+		this(0.7, 0.5);
+	}
+
+	public DoubleUniformCrossover(double crossoverRate, double mixingRatio) {
+		if (mixingRatio < 0.0 || mixingRatio > 1.0)
+			throw new IllegalArgumentException("mixingRatio must be in [0,1]");
+		this.mixingRatio = mixingRatio;
+		this.crossoverRate = crossoverRate;
+	}
+
+	@Override
+	public void crossoverInto(DoubleChromosome parent1, DoubleChromosome parent2,
+			DoubleChromosome child1, DoubleChromosome child2) {
+		InPlaceCrossover.requireSameLength(parent1, parent2, child1, child2);
+		int length = parent1.length();
+
+		if (random.nextDouble() > crossoverRate) {
+			child1.copyFrom(parent1);
+			child2.copyFrom(parent2);
+			return;
+		}
+
+		// one uniform per gene as before, drawn in bulk, then a masked blend
+		double[] u = KernelScratch.doubles(length);
+		GeneKernels.uniforms(random, u, 0, length);
+		GeneKernels.get().uniformSwap(parent1.rawGenes(), parent1.offset(), parent2.rawGenes(), parent2.offset(),
+				u, mixingRatio, child1.rawGenes(), child1.offset(), child2.rawGenes(), child2.offset(), length);
+		child1.invalidateFitness();
+		child2.invalidateFitness();
+		DoubleChromosome.inheritFromParents(parent1, parent2, child1, child2);
+	}
+}
@@ -0,0 +1,43 @@
+package com.example.softcomputing.genetic.operators.crossover;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+
+// Crossover that writes both children into chromosomes the caller owns and reuses,
+// instead of allocating them. The children must have the parents' length; when no
+// crossover happens they become copies of the parents, fitness included.
+public interface InPlaceCrossover<C> extends CrossoverStrategy<C> {
+
+    void crossoverInto(C parent1, C parent2, C child1, C child2);
+
+    // crossover() of the primitive families: both children written into new blank chromosomes
+    static <C> List<C> intoNew(InPlaceCrossover<C> crossover, C parent1, C parent2, C child1, C child2) {
+        crossover.crossoverInto(parent1, parent2, child1, child2);
+        List<C> children = new ArrayList<>(2);
+        children.add(child1);
+        children.add(child2);
+        return children;
+    }
+
+    // the check every crossoverInto makes before writing into the children
+    static void requireSameLength(Chromosome<?> parent1, Chromosome<?> parent2, Chromosome<?> child1,
+            Chromosome<?> child2) {
+        int length = parent1.length();
+        if (length != parent2.length() || length != child1.length() || length != child2.length()) {
+            throw new IllegalArgumentException("Parents and children must have the same length");
+        }
+    }
+
+    // genes, and the fitness if it is known, of `source` into `target`
+    static <G> void copy(Chromosome<G> source, Chromosome<G> target) {
+        for (int i = 0; i < source.length(); i++) {
+            target.setGene(i, source.getGene(i));
+        }
+        if (source.isEvaluated())
+            target.setFitness(source.getFitness());
+        else
+            target.invalidateFitness();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.softcomputing.genetic.operators.crossover;
+
+import java.util.List;
+
+import com.example.softcomputing.genetic.chromosome.IntChromosome;
+
+// Crossover on primitive genes. Implementations write both children into the given
+// chromosomes; when no crossover happens the children become copies of the parents.
+public interface IntCrossover extends InPlaceCrossover<IntChromosome> {
+
+    @Override
+    void crossoverInto(IntChromosome parent1, IntChromosome parent2,
+            IntChromosome child1, IntChromosome child2);
+
+    @Override
+    default List<IntChromosome> crossover(IntChromosome parent1, IntChromosome parent2) {
+        return InPlaceCrossover.intoNew(this, parent1, parent2, parent1.newBlank(), parent2.newBlank());
+    }
+}
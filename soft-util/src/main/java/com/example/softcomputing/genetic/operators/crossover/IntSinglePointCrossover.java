@@ -0,0 +1,32 @@
+package com.example.softcomputing.genetic.operators.crossover;
+
+
+import com.example.softcomputing.genetic.chromosome.IntChromosome;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
+
+public class IntSinglePointCrossover extends AbstractSeedable implements IntCrossover {
+    private final double crossoverProbability;
+
+    public IntSinglePointCrossover(double crossoverProbability) {
+        this.crossoverProbability = crossoverProbability;
+    }
+
+    @Override
+    public void crossoverInto(IntChromosome parent1, IntChromosome parent2,
+            IntChromosome child1, IntChromosome child2) {
+        InPlaceCrossover.requireSameLength(parent1, parent2, child1, child2);
+        int length = parent1.length();
+
+        child1.copyFrom(parent1);
+        child2.copyFrom(parent2);
+        if (length < 2 || random.nextDouble() > crossoverProbability) {
+            return;
+        }
+
+        int crossoverPoint = 1 + random.nextInt(length - 1);
+        for (int i = crossoverPoint; i < length; i++) {
+            child1.setInt(i, parent2.getInt(i));
+            child2.setInt(i, parent1.getInt(i));
+        }
+    }
+}
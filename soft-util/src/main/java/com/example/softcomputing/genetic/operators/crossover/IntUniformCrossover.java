@@ -0,0 +1,46 @@
+package com.example.softcomputing.genetic.operators.crossover;
+
+
+import com.example.softcomputing.genetic.chromosome.IntChromosome;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
+
+public class IntUniformCrossover extends AbstractSeedable implements IntCrossover {
+	private final double mixingRatio;
+	private final double crossoverRate;
+
+	public IntUniformCrossover() {
+		this(0.7, 0.5);
+	}
+
+	public IntUniformCrossover(double crossoverRate, double mixingRatio) {
+		if (mixingRatio < 0.0 || mixingRatio > 1.0)
+			throw new IllegalArgumentException("mixingRatio must be in [0,1]");
+		this.mixingRatio = mixingRatio;
+		this.crossoverRate = crossoverRate;
+	}
+
+	@Override
+	public void crossoverInto(IntChromosome parent1, IntChromosome parent2,
+			IntChromosome child1, IntChromosome child2) {
+		InPlaceCrossover.requireSameLength(parent1, parent2, child1, child2);
+		int length = parent1.length();
+
+		if (random.nextDouble() > crossoverRate) {
+			child1.copyFrom(parent1);
+			child2.copyFrom(parent2);
+			return;
+		}
+
+		for (int i = 0; i < length; i++) {
+			int a = parent1.getInt(i);
+			int b = parent2.getInt(i);
+			if (random.nextDouble() < mixingRatio) {
+				child1.setInt(i, b);
+				child2.setInt(i, a);
+			} else {
+				child1.setInt(i, a);
+				child2.setInt(i, b);
+			}
+		}
+	}
+}
@@ -0,0 +1,124 @@
+package com.example.softcomputing.genetic.operators.crossover;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.softcomputing.genetic.chromosome.PackedBinaryChromosome;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
+
+// Word-level crossover for packed binary chromosomes. Every variant is a mask splice:
+// for each word, child1 takes parent2's bits where the mask is set and child2 the opposite.
+// crossoverInto writes the spliced words straight into reused children.
+public class PackedBinaryCrossover extends AbstractSeedable implements InPlaceCrossover<PackedBinaryChromosome> {
+
+    public enum Mode {
+        SINGLE_POINT,
+        TWO_POINT,
+        UNIFORM
+    }
+
+    private final double crossoverProbability;
+    private final Mode mode;
+
+    public PackedBinaryCrossover(double crossoverProbability) {
+        this(crossoverProbability, Mode.SINGLE_POINT);
+    }
+
+    public PackedBinaryCrossover(double crossoverProbability, Mode mode) {
+        if (crossoverProbability < 0.0 || crossoverProbability > 1.0) {
+            throw new IllegalArgumentException(
+                    String.format("Crossover probability must be in [0.0, 1.0], got: %.4f", crossoverProbability));
+        }
+        this.crossoverProbability = crossoverProbability;
+        this.mode = mode;
+    }
+
+    @Override
+    public List<PackedBinaryChromosome> crossover(PackedBinaryChromosome parent1, PackedBinaryChromosome parent2) {
+        requireSameLength(parent1, parent2);
+        List<PackedBinaryChromosome> children = new ArrayList<>(2);
+        if (!crosses(parent1.length())) {
+            children.add(parent1);
+            children.add(parent2);
+            return children;
+        }
+        PackedBinaryChromosome child1 = new PackedBinaryChromosome(parent1.length());
+        PackedBinaryChromosome child2 = new PackedBinaryChromosome(parent2.length());
+        splice(parent1, parent2, child1, child2);
+        children.add(child1);
+        children.add(child2);
+        return children;
+    }
+
+    @Override
+    public void crossoverInto(PackedBinaryChromosome parent1, PackedBinaryChromosome parent2,
+            PackedBinaryChromosome child1, PackedBinaryChromosome child2) {
+        InPlaceCrossover.requireSameLength(parent1, parent2, child1, child2);
+        if (!crosses(parent1.length())) {
+            child1.copyFrom(parent1);
+            child2.copyFrom(parent2);
+            return;
+        }
+        splice(parent1, parent2, child1, child2);
+    }
+
+    private static void requireSameLength(PackedBinaryChromosome parent1, PackedBinaryChromosome parent2) {
+        if (parent1.length() != parent2.length()) {
+            throw new IllegalArgumentException("Parents must have the same length");
+        }
+    }
+
+    private boolean crosses(int length) {
+        return length >= 2 && random.nextDouble() <= crossoverProbability;
+    }
+
+    // writes every word of both children once, straight from the parents' words
+    private void splice(PackedBinaryChromosome parent1, PackedBinaryChromosome parent2,
+            PackedBinaryChromosome child1, PackedBinaryChromosome child2) {
+        int length = parent1.length();
+        int from = 0;
+        int to = 0;
+        switch (mode) {
+            case TWO_POINT: {
+                int p1 = random.nextInt(length);
+                int p2 = random.nextInt(length);
+                from = Math.min(p1, p2);
+                to = Math.max(p1, p2);
+                break;
+            }
+            case UNIFORM:
+                break;
+            default:
+                from = 1 + random.nextInt(length - 1);
+                to = length;
+                break;
+        }
+        for (int w = 0; w < parent1.wordCount(); w++) {
+            long mask = mode == Mode.UNIFORM ? random.nextLong() : rangeMask(w, from, to);
+            long a = parent1.getWord(w);
+            long b = parent2.getWord(w);
+            long diff = (a ^ b) & mask;
+            child1.setWord(w, a ^ diff);
+            child2.setWord(w, b ^ diff);
+        }
+    }
+
+    // the bits of word w that hold genes [from, to)
+    private static long rangeMask(int w, int from, int to) {
+        int low = Math.max(from - (w << 6), 0);
+        int high = Math.min(to - (w << 6), 64);
+        if (low >= high)
+            return 0L;
+        long below = high == 64 ? -1L : (1L << high) - 1;
+        return below & (-1L << low);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PackedBinaryCrossover(probability=%.4f, mode=%s)", crossoverProbability, mode);
+    }
+}
@@ -2,15 +2,14 @@ package com.example.softcomputing.genetic.operators.crossover;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 import com.example.softcomputing.genetic.chromosome.Chromosome;
 import com.example.softcomputing.genetic.chromosome.Factories.ChromosomeFactory;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
 
-public class SinglePointCrossover<G, C extends Chromosome<G>> implements CrossoverStrategy<C> {
+public class SinglePointCrossover<G, C extends Chromosome<G>> extends AbstractSeedable implements InPlaceCrossover<C> {
     private final ChromosomeFactory<G, C> _factory;
     private double _crossoverProbability = 0.7;
-    private final Random _random = new Random();
 
     public SinglePointCrossover(double crossoverProbability, ChromosomeFactory<G, C> factory) {
         this._crossoverProbability = crossoverProbability;
@@ -26,15 +25,14 @@ public class SinglePointCrossover<G, C extends Chromosome<G>> implements Crossov
             throw new IllegalArgumentException("Parents must have the same length");
         }
 
-        Random DoCrossover = new Random();
-        if (DoCrossover.nextDouble() > _crossoverProbability) {
+        if (random.nextDouble() > _crossoverProbability) {
             children.add(parent1);
             children.add(parent2);
             return children;
         }
 
         // random crossover point
-        int crossoverPoint = 1 + _random.nextInt(length - 1);
+        int crossoverPoint = 1 + random.nextInt(length - 1);
 
         G[] p1Genes = parent1.toArray();
         G[] p2Genes = parent2.toArray();
@@ -52,4 +50,26 @@ public class SinglePointCrossover<G, C extends Chromosome<G>> implements Crossov
 
         return children;
     }
+
+    @Override
+    public void crossoverInto(C parent1, C parent2, C child1, C child2) {
+        InPlaceCrossover.requireSameLength(parent1, parent2, child1, child2);
+        int length = parent1.length();
+
+        if (random.nextDouble() > _crossoverProbability || length < 2) {
+            InPlaceCrossover.copy(parent1, child1);
+            InPlaceCrossover.copy(parent2, child2);
+            return;
+        }
+
+        int crossoverPoint = 1 + random.nextInt(length - 1);
+        for (int i = 0; i < crossoverPoint; i++) {
+            child1.setGene(i, parent1.getGene(i));
+            child2.setGene(i, parent2.getGene(i));
+        }
+        for (int i = crossoverPoint; i < length; i++) {
+            child1.setGene(i, parent2.getGene(i));
+            child2.setGene(i, parent1.getGene(i));
+        }
+    }
 }
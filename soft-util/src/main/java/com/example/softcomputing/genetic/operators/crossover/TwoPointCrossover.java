@@ -2,15 +2,14 @@ package com.example.softcomputing.genetic.operators.crossover;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 import com.example.softcomputing.genetic.chromosome.Chromosome;
 import com.example.softcomputing.genetic.chromosome.Factories.ChromosomeFactory;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
 
-public class TwoPointCrossover<G, C extends Chromosome<G>> implements CrossoverStrategy<C> {
+public class TwoPointCrossover<G, C extends Chromosome<G>> extends AbstractSeedable implements InPlaceCrossover<C> {
     private final double crossoverProbability;
     private final ChromosomeFactory<G, C> factory;
-    private final Random random = new Random();
 
     public TwoPointCrossover(double probability, ChromosomeFactory<G, C> factory) {
         this.crossoverProbability = probability;
@@ -21,7 +20,7 @@ public class TwoPointCrossover<G, C extends Chromosome<G>> implements CrossoverS
     public List<C> crossover(C parent1, C parent2) {
         List<C> children = new ArrayList<>();
 
-        if (random.nextDouble() < crossoverProbability) {
+        if (random.nextDouble() > crossoverProbability) {
             children.add(parent1);
             children.add(parent2);
             return children;
@@ -58,4 +57,30 @@ public class TwoPointCrossover<G, C extends Chromosome<G>> implements CrossoverS
         children.add(child2);
         return children;
     }
+
+    @Override
+    public void crossoverInto(C parent1, C parent2, C child1, C child2) {
+        InPlaceCrossover.requireSameLength(parent1, parent2, child1, child2);
+        int len = parent1.length();
+
+        if (random.nextDouble() > crossoverProbability) {
+            InPlaceCrossover.copy(parent1, child1);
+            InPlaceCrossover.copy(parent2, child2);
+            return;
+        }
+
+        int point1 = random.nextInt(len);
+        int point2 = random.nextInt(len);
+        if (point1 > point2) {
+            int temp = point1;
+            point1 = point2;
+            point2 = temp;
+        }
+
+        for (int i = 0; i < len; i++) {
+            boolean swapped = i >= point1 && i < point2;
+            child1.setGene(i, swapped ? parent2.getGene(i) : parent1.getGene(i));
+            child2.setGene(i, swapped ? parent1.getGene(i) : parent2.getGene(i));
+        }
+    }
 }
@@ -2,13 +2,12 @@ package com.example.softcomputing.genetic.operators.crossover;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 import com.example.softcomputing.genetic.chromosome.Chromosome;
 import com.example.softcomputing.genetic.chromosome.Factories.ChromosomeFactory;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
 
-public class UniformCrossover<T, C extends Chromosome<T>> implements CrossoverStrategy<C> {
-	private static final Random rand = new Random();
+public class UniformCrossover<T, C extends Chromosome<T>> extends AbstractSeedable implements InPlaceCrossover<C> {
 	private final double mixingRatio;
 	private final double crossoverRate;
 	private final ChromosomeFactory<T, C> factory;
@@ -31,7 +30,7 @@ public class UniformCrossover<T, C extends Chromosome<T>> implements CrossoverSt
 		if (length != parent2.length())
 			throw new IllegalArgumentException("Parents must have the same length");
 
-		if (rand.nextDouble() > crossoverRate) {
+		if (random.nextDouble() > crossoverRate) {
 			List<C> offspring = new ArrayList<>();
 			offspring.add(parent1);
 			offspring.add(parent2);
@@ -42,7 +41,7 @@ public class UniformCrossover<T, C extends Chromosome<T>> implements CrossoverSt
 		T[] child2Genes = parent2.toArray();
 
 		for (int i = 0; i < length; i++) {
-			double r = rand.nextDouble();
+			double r = random.nextDouble();
 			if (r < mixingRatio) {
 				child1Genes[i] = parent2.getGene(i);
 				child2Genes[i] = parent1.getGene(i);
@@ -56,4 +55,26 @@ public class UniformCrossover<T, C extends Chromosome<T>> implements CrossoverSt
 		offspring.add(factory.create(child2Genes));
 		return offspring;
 	}
+
+	@Override
+	public void crossoverInto(C parent1, C parent2, C child1, C child2) {
+		InPlaceCrossover.requireSameLength(parent1, parent2, child1, child2);
+		int length = parent1.length();
+
+		if (random.nextDouble() > crossoverRate) {
+			InPlaceCrossover.copy(parent1, child1);
+			InPlaceCrossover.copy(parent2, child2);
+			return;
+		}
+
+		for (int i = 0; i < length; i++) {
+			if (random.nextDouble() < mixingRatio) {
+				child1.setGene(i, parent2.getGene(i));
+				child2.setGene(i, parent1.getGene(i));
+			} else {
+				child1.setGene(i, parent1.getGene(i));
+				child2.setGene(i, parent2.getGene(i));
+			}
+		}
+	}
 }
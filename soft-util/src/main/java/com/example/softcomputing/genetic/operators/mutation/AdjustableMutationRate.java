@@ -0,0 +1,17 @@
+package com.example.softcomputing.genetic.operators.mutation;
+
+// Mutation operators whose rate may be changed while a run is in progress, from any
+// thread; the new rate applies to the next individual mutated.
+public interface AdjustableMutationRate {
+
+    double getMutationRate();
+
+    void setMutationRate(double rate);
+
+    static void checkRate(double rate) {
+        if (!(rate >= 0.0 && rate <= 1.0)) {
+            throw new IllegalArgumentException(
+                    String.format("Mutation rate must be in [0.0, 1.0], got: %.4f", rate));
+        }
+    }
+}
@@ -1,26 +1,47 @@
 package com.example.softcomputing.genetic.operators.mutation;
 
 import com.example.softcomputing.genetic.chromosome.BinaryChromosome;
-import java.util.Random;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
+import com.example.softcomputing.genetic.random.SplitMix64;
+import java.util.random.RandomGenerator;
 
-public class BinaryMutation implements MutationStrategy<BinaryChromosome> {
-    private final double mutationProbability;
-    private final Random random;
+// ONE_GENE flips one random gene with the given probability. PER_GENE flips every
+// gene independently with it, visiting only the flipped ones (see GeometricSkip), and
+// returns the individual itself when none flips.
+public class BinaryMutation extends AbstractSeedable implements MutationStrategy<BinaryChromosome>, AdjustableMutationRate {
+
+    public enum Mode {
+        ONE_GENE,
+        PER_GENE
+    }
+
+    private volatile double mutationProbability;
+    private final Mode mode;
 
     public BinaryMutation(double mutationProbability) {
         this(mutationProbability, false);
     }
 
     public BinaryMutation(double mutationProbability, boolean adaptive) {
-        validateMutationProbability(mutationProbability);
-        this.mutationProbability = mutationProbability;
-        this.random = new Random();
+        this(mutationProbability, Mode.ONE_GENE);
+    }
+
+    public BinaryMutation(double mutationProbability, Mode mode) {
+        this(mutationProbability, mode, new SplitMix64());
     }
 
-    public BinaryMutation(double mutationProbability, Random random) {
+    public BinaryMutation(double mutationProbability, RandomGenerator random) {
+        this(mutationProbability, Mode.ONE_GENE, random);
+    }
+
+    public BinaryMutation(double mutationProbability, Mode mode, RandomGenerator random) {
+        super(random);
         validateMutationProbability(mutationProbability);
+        if (mode == null) {
+            throw new IllegalArgumentException("Mutation mode must not be null");
+        }
         this.mutationProbability = mutationProbability;
-        this.random = random;
+        this.mode = mode;
     }
 
     private void validateMutationProbability(double probability) {
@@ -37,6 +58,9 @@ public class BinaryMutation implements MutationStrategy<BinaryChromosome> {
         if (length == 0) {
             return new BinaryChromosome(new int[0]);
         }
+        if (mode == Mode.PER_GENE) {
+            return mutatePerGene(individual);
+        }
 
         Integer[] originalGenes = individual.toArray();
         int[] mutatedGenes = new int[length];
@@ -46,12 +70,34 @@ public class BinaryMutation implements MutationStrategy<BinaryChromosome> {
             mutatedGenes[i] = originalGenes[i];
         }
         
+        boolean flipped = false;
         if (random.nextDouble() < mutationProbability) {
             // (0 -> 1, 1 -> 0)
             mutatedGenes[mutateIndex] = 1 - mutatedGenes[mutateIndex];
+            flipped = true;
         }
 
-        return new BinaryChromosome(mutatedGenes);
+        BinaryChromosome mutated = new BinaryChromosome(mutatedGenes);
+        // unchanged copy keeps the parent's score
+        if (!flipped && individual.isEvaluated()) {
+            mutated.setFitness(individual.getFitness());
+        }
+        return mutated;
+    }
+
+    // copied at the first flip, so a genome nothing flips in costs no copy and is
+    // returned as it is, score included
+    private BinaryChromosome mutatePerGene(BinaryChromosome individual) {
+        int length = individual.length();
+        BinaryChromosome mutated = individual;
+        GeometricSkip skip = new GeometricSkip(mutationProbability);
+        for (int i = skip.next(random, 0, length); i < length;
+                i = skip.next(random, i + 1, length)) {
+            if (mutated == individual)
+                mutated = individual.copy();
+            mutated.flip(i);
+        }
+        return mutated;
     }
 
     public double getMutationProbability() {
@@ -59,6 +105,10 @@ public class BinaryMutation implements MutationStrategy<BinaryChromosome> {
     }
 
 
+    public Mode getMode() {
+        return mode;
+    }
+
     public static BinaryMutation withStandardRate(int chromosomeLength) {
         if (chromosomeLength <= 0) {
             throw new IllegalArgumentException("Chromosome length must be positive");
@@ -66,8 +116,19 @@ public class BinaryMutation implements MutationStrategy<BinaryChromosome> {
         return new BinaryMutation(1.0 / chromosomeLength);
     }
 
+    @Override
+    public double getMutationRate() {
+        return mutationProbability;
+    }
+
+    @Override
+    public void setMutationRate(double rate) {
+        AdjustableMutationRate.checkRate(rate);
+        this.mutationProbability = rate;
+    }
+
     @Override
     public String toString() {
-        return String.format("BinaryMutation(probability=%.4f)", mutationProbability);
+        return String.format("BinaryMutation(probability=%.4f, mode=%s)", mutationProbability, mode);
     }
 }
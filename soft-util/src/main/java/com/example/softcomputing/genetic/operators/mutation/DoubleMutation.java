@@ -0,0 +1,15 @@
+package com.example.softcomputing.genetic.operators.mutation;
+
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+
+// Mutation on primitive genes, always in place.
+public interface DoubleMutation extends MutationStrategy<DoubleChromosome> {
+
+    void mutateInPlace(DoubleChromosome individual);
+
+    @Override
+    default DoubleChromosome mutate(DoubleChromosome individual) {
+        mutateInPlace(individual);
+        return individual;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.softcomputing.genetic.operators.mutation;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.core.GenerationAware;
+import com.example.softcomputing.genetic.core.GenerationContext;
+import com.example.softcomputing.genetic.io.Checkpointable;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
+
+public class DoubleNonUniformMutation extends AbstractSeedable
+        implements DoubleMutation, AdjustableMutationRate, Checkpointable, GenerationAware {
+
+    private volatile double mutationRate;
+    private final int maxGenerations;
+    private final double dependencyFactor;
+    private volatile int currentGeneration;
+
+    public DoubleNonUniformMutation(double mutationRate, int maxGenerations, double dependencyFactor) {
+        this.mutationRate = mutationRate;
+        this.maxGenerations = maxGenerations;
+        this.dependencyFactor = dependencyFactor;
+        this.currentGeneration = 0;
+    }
+
+    public void setCurrentGeneration(int generation) {
+        this.currentGeneration = generation;
+    }
+
+    // the engine moves the annealing schedule on every generation; the context is the
+    // generation just finished, the children about to be mutated belong to the next one
+    @Override
+    public void onGeneration(GenerationContext context) {
+        setCurrentGeneration((int) Math.min(context.getGeneration() + 1, Integer.MAX_VALUE));
+    }
+
+    @Override
+    public void mutateInPlace(DoubleChromosome individual) {
+        int length = individual.length();
+        GeometricSkip skip = new GeometricSkip(mutationRate);
+        int i = skip.next(random, 0, length);
+        // an untouched individual keeps its cached fitness
+        if (i >= length)
+            return;
+
+        double[] genes = individual.rawGenes();
+        int offset = individual.offset();
+        double lowerBound = individual.getLowerBound();
+        double upperBound = individual.getUpperBound();
+
+        // the annealing exponent only changes between generations
+        double ratio = Math.max(0.0, 1.0 - ((double) currentGeneration / maxGenerations));
+        double exponent = Math.pow(ratio, dependencyFactor);
+
+        for (; i < length; i = skip.next(random, i + 1, length)) {
+            double xi = genes[offset + i];
+            double r11 = random.nextDouble();
+            double r = random.nextDouble();
+
+            double y = r11 <= 0.5 ? xi - lowerBound : upperBound - xi;
+            double delta = y * (1.0 - Math.pow(r, exponent));
+            double step = r11 <= 0.5 ? -delta : delta;
+            genes[offset + i] = individual.clamp(xi + step);
+        }
+        individual.invalidateFitness();
+    }
+
+    @Override
+    public double getMutationRate() {
+        return mutationRate;
+    }
+
+    @Override
+    public void setMutationRate(double rate) {
+        AdjustableMutationRate.checkRate(rate);
+        this.mutationRate = rate;
+    }
+
+    @Override
+    public void writeState(DataOutput out) throws IOException {
+        out.writeInt(currentGeneration);
+        out.writeDouble(mutationRate);
+    }
+
+    @Override
+    public void readState(DataInput in) throws IOException {
+        currentGeneration = in.readInt();
+        mutationRate = in.readDouble();
+    }
+}
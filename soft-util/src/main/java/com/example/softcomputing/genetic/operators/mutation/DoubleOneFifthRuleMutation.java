@@ -0,0 +1,174 @@
+package com.example.softcomputing.genetic.operators.mutation;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.core.EvaluationAware;
+import com.example.softcomputing.genetic.core.GenerationAware;
+import com.example.softcomputing.genetic.core.GenerationContext;
+import com.example.softcomputing.genetic.io.Checkpointable;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
+
+// Gaussian mutation whose step size follows Rechenberg's 1/5th success rule. A
+// mutation succeeds when the child comes out fitter than the parent it was made from:
+// its own fitness when it is an evaluated copy, else the parent fitness a crossover
+// gave it. Children with neither are not trials. A trial is settled when the engine
+// reports the child evaluated, before replacement can overwrite it. Each generation
+// with at least MIN_TRIALS trials since the last adjustment, the step size is divided
+// by `factor` when more than a fifth of them succeeded and multiplied by it when fewer
+// did, within [minStepSize, maxStepSize]. Under an engine that reports no evaluations
+// the step size stays fixed; unsettled trials are dropped past MAX_PENDING.
+public class DoubleOneFifthRuleMutation extends AbstractSeedable
+        implements DoubleMutation, AdjustableMutationRate, Checkpointable, EvaluationAware, GenerationAware {
+
+    private static final double TARGET_SUCCESS = 0.2;
+    static final int MIN_TRIALS = 10;
+    static final int MAX_PENDING = 1 << 16;
+
+    private volatile double mutationRate;
+    private volatile double stepSize;
+    private final double factor;
+    private final double minStepSize;
+    private final double maxStepSize;
+
+    // guarded by itself: the mutated individuals until the engine reports them evaluated,
+    // each holding the fitness it is judged against, then the trials counted since the
+    // last adjustment. An identity set stores no entry objects, so adding one allocates nothing
+    private final Set<DoubleChromosome> pending = Collections.newSetFromMap(new IdentityHashMap<>());
+    private int trials;
+    private int successes;
+    private volatile double lastSuccessRate = Double.NaN;
+
+    public DoubleOneFifthRuleMutation(double mutationRate, double initialStepSize) {
+        this(mutationRate, initialStepSize, 0.85, 1e-12, Double.POSITIVE_INFINITY);
+    }
+
+    public DoubleOneFifthRuleMutation(double mutationRate, double initialStepSize, double factor,
+            double minStepSize, double maxStepSize) {
+        AdjustableMutationRate.checkRate(mutationRate);
+        if (!(factor > 0.0 && factor < 1.0)) {
+            throw new IllegalArgumentException(String.format("Factor must be in (0, 1), got: %f", factor));
+        }
+        if (!(minStepSize > 0.0 && minStepSize <= initialStepSize && initialStepSize <= maxStepSize)) {
+            throw new IllegalArgumentException(String.format(
+                    "Step sizes must satisfy 0 < min <= initial <= max, got: %f, %f, %f",
+                    minStepSize, initialStepSize, maxStepSize));
+        }
+        this.mutationRate = mutationRate;
+        this.stepSize = initialStepSize;
+        this.factor = factor;
+        this.minStepSize = minStepSize;
+        this.maxStepSize = maxStepSize;
+    }
+
+    @Override
+    public void mutateInPlace(DoubleChromosome individual) {
+        int length = individual.length();
+        GeometricSkip skip = new GeometricSkip(mutationRate);
+        int i = skip.next(random, 0, length);
+        if (i >= length)
+            return;
+
+        double before = individual.isEvaluated() ? individual.getFitness() : individual.getParentFitness();
+        double[] genes = individual.rawGenes();
+        int offset = individual.offset();
+        double sigma = stepSize;
+        for (; i < length; i = skip.next(random, i + 1, length)) {
+            genes[offset + i] = individual.clamp(genes[offset + i] + sigma * random.nextGaussian());
+        }
+        individual.invalidateFitness();
+        if (Double.isNaN(before))
+            return;
+        individual.setParentFitness(before);
+        synchronized (pending) {
+            if (pending.size() >= MAX_PENDING)
+                pending.clear();
+            pending.add(individual);
+        }
+    }
+
+    @Override
+    public void onEvaluated(List<? extends Chromosome<?>> offspring) {
+        synchronized (pending) {
+            if (pending.isEmpty())
+                return;
+            for (int i = 0; i < offspring.size(); i++) {
+                Chromosome<?> individual = offspring.get(i);
+                if (!pending.remove(individual) || !individual.isEvaluated())
+                    continue;
+                trials++;
+                if (individual.getFitness() > ((DoubleChromosome) individual).getParentFitness())
+                    successes++;
+            }
+        }
+    }
+
+    @Override
+    public void onGeneration(GenerationContext context) {
+        synchronized (pending) {
+            if (trials < MIN_TRIALS)
+                return;
+            double rate = (double) successes / trials;
+            trials = 0;
+            successes = 0;
+            lastSuccessRate = rate;
+            if (rate > TARGET_SUCCESS)
+                stepSize = Math.min(maxStepSize, stepSize / factor);
+            else if (rate < TARGET_SUCCESS)
+                stepSize = Math.max(minStepSize, stepSize * factor);
+        }
+    }
+
+    public double getStepSize() {
+        return stepSize;
+    }
+
+    // share of successful trials at the last adjustment, NaN before the first
+    public double getLastSuccessRate() {
+        return lastSuccessRate;
+    }
+
+    @Override
+    public double getMutationRate() {
+        return mutationRate;
+    }
+
+    @Override
+    public void setMutationRate(double rate) {
+        AdjustableMutationRate.checkRate(rate);
+        this.mutationRate = rate;
+    }
+
+    @Override
+    public void writeState(DataOutput out) throws IOException {
+        out.writeDouble(stepSize);
+        out.writeDouble(mutationRate);
+        synchronized (pending) {
+            out.writeInt(trials);
+            out.writeInt(successes);
+        }
+    }
+
+    @Override
+    public void readState(DataInput in) throws IOException {
+        stepSize = in.readDouble();
+        mutationRate = in.readDouble();
+        synchronized (pending) {
+            trials = in.readInt();
+            successes = in.readInt();
+            pending.clear();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DoubleOneFifthRuleMutation(rate=%.4f, stepSize=%.6g)", mutationRate, stepSize);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.softcomputing.genetic.operators.mutation;
+
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
+
+// Self-adaptive Gaussian mutation as in evolution strategies: every individual carries
+// its own step size (DoubleChromosome.getStepSize), which is mutated log-normally,
+// sigma' = sigma * exp(tau * N(0, 1)), before it moves the genes. Selection then
+// favours individuals whose step size suits the landscape; crossovers pass the
+// parents' geometric mean on. Individuals without one start at initialStepSize.
+// tau defaults to 1 / sqrt(length).
+public class DoubleSelfAdaptiveMutation extends AbstractSeedable implements DoubleMutation, AdjustableMutationRate {
+
+    private volatile double mutationRate;
+    private final double initialStepSize;
+    private final double minStepSize;
+    private final double tau;
+
+    public DoubleSelfAdaptiveMutation(double initialStepSize) {
+        this(1.0, initialStepSize, 1e-12, Double.NaN);
+    }
+
+    // a NaN tau means 1 / sqrt(length)
+    public DoubleSelfAdaptiveMutation(double mutationRate, double initialStepSize, double minStepSize, double tau) {
+        AdjustableMutationRate.checkRate(mutationRate);
+        if (!(minStepSize > 0.0 && minStepSize <= initialStepSize) || Double.isInfinite(initialStepSize)) {
+            throw new IllegalArgumentException(String.format(
+                    "Step sizes must satisfy 0 < min <= initial < infinity, got: %f, %f", minStepSize, initialStepSize));
+        }
+        if (tau < 0.0) {
+            throw new IllegalArgumentException(String.format("tau must not be negative, got: %f", tau));
+        }
+        this.mutationRate = mutationRate;
+        this.initialStepSize = initialStepSize;
+        this.minStepSize = minStepSize;
+        this.tau = tau;
+    }
+
+    @Override
+    public void mutateInPlace(DoubleChromosome individual) {
+        int length = individual.length();
+        if (length == 0)
+            return;
+
+        double sigma = individual.getStepSize();
+        if (Double.isNaN(sigma))
+            sigma = initialStepSize;
+        double learningRate = Double.isNaN(tau) ? 1.0 / Math.sqrt(length) : tau;
+        double range = individual.getUpperBound() - individual.getLowerBound();
+        sigma = Math.max(minStepSize, Math.min(range, sigma * Math.exp(learningRate * random.nextGaussian())));
+        individual.setStepSize(sigma);
+
+        double[] genes = individual.rawGenes();
+        int offset = individual.offset();
+        GeometricSkip skip = new GeometricSkip(mutationRate);
+        int i = skip.next(random, 0, length);
+        // fitness depends on the genes only, an individual with none mutated keeps it
+        if (i >= length)
+            return;
+        for (; i < length; i = skip.next(random, i + 1, length)) {
+            genes[offset + i] = individual.clamp(genes[offset + i] + sigma * random.nextGaussian());
+        }
+        individual.invalidateFitness();
+    }
+
+    public double getInitialStepSize() {
+        return initialStepSize;
+    }
+
+    @Override
+    public double getMutationRate() {
+        return mutationRate;
+    }
+
+    @Override
+    public void setMutationRate(double rate) {
+        AdjustableMutationRate.checkRate(rate);
+        this.mutationRate = rate;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DoubleSelfAdaptiveMutation(rate=%.4f, initialStepSize=%.6g)", mutationRate,
+                initialStepSize);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.softcomputing.genetic.operators.mutation;
+
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
+
+public class DoubleUniformMutation extends AbstractSeedable implements DoubleMutation, AdjustableMutationRate {
+
+    private volatile double mutationRate;
+
+    public DoubleUniformMutation(double mutationRate) {
+        this.mutationRate = mutationRate;
+    }
+
+    @Override
+    public void mutateInPlace(DoubleChromosome individual) {
+        int length = individual.length();
+        GeometricSkip skip = new GeometricSkip(mutationRate);
+        int i = skip.next(random, 0, length);
+        // an untouched individual keeps its cached fitness
+        if (i >= length)
+            return;
+
+        // only the mutated genes are touched, each clamped as it is stepped
+        double[] genes = individual.rawGenes();
+        int offset = individual.offset();
+        for (; i < length; i = skip.next(random, i + 1, length)) {
+            double r1 = random.nextDouble();
+            double r2 = random.nextDouble();
+            double step = r1 <= 0.5 ? -r2 : r2;
+            genes[offset + i] = individual.clamp(genes[offset + i] + step);
+        }
+        individual.invalidateFitness();
+    }
+
+    @Override
+    public double getMutationRate() {
+        return mutationRate;
+    }
+
+    @Override
+    public void setMutationRate(double rate) {
+        AdjustableMutationRate.checkRate(rate);
+        this.mutationRate = rate;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.softcomputing.genetic.operators.mutation;
+
+import java.util.random.RandomGenerator;
+
+// Sparse per-gene sampling. Flipping a coin of probability p for every gene marks
+// the same genes, in distribution, as jumping over a Geometric(p) number of unmarked
+// genes between marks: gap = floor(ln U / ln(1 - p)) for U uniform in (0, 1]. That is
+// one uniform and one log per marked gene instead of one uniform per gene; from
+// DENSE_RATE on the log costs more than it saves and the coins are flipped as before.
+final class GeometricSkip {
+
+    static final double DENSE_RATE = 0.25;
+
+    private final double rate;
+    private final double logComplement;
+
+    GeometricSkip(double rate) {
+        this.rate = rate;
+        this.logComplement = rate > 0.0 && rate < 1.0 ? Math.log1p(-rate) : 0.0;
+    }
+
+    // the next marked gene in [from, length), or length when there is none
+    int next(RandomGenerator random, int from, int length) {
+        if (from >= length || !(rate > 0.0))
+            return length;
+        if (rate >= 1.0)
+            return from;
+        if (rate >= DENSE_RATE) {
+            while (from < length && !(random.nextDouble() < rate))
+                from++;
+            return from;
+        }
+        double gap = Math.floor(Math.log(1.0 - random.nextDouble()) / logComplement);
+        return gap < length - from ? from + (int) gap : length;
+    }
+}
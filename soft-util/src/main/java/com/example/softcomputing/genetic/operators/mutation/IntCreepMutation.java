@@ -0,0 +1,59 @@
+package com.example.softcomputing.genetic.operators.mutation;
+
+import com.example.softcomputing.genetic.chromosome.IntChromosome;
+import com.example.softcomputing.genetic.chromosome.IntGeneDomain;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
+
+// Moves each selected gene by a non-zero step in [-maxStep, maxStep], clamped to its domain.
+public class IntCreepMutation extends AbstractSeedable implements IntMutation, AdjustableMutationRate {
+
+    private volatile double mutationRate;
+    private final int maxStep;
+
+    public IntCreepMutation(double mutationRate, int maxStep) {
+        if (mutationRate < 0.0 || mutationRate > 1.0) {
+            throw new IllegalArgumentException("mutationRate must be in [0,1]");
+        }
+        if (maxStep <= 0) {
+            throw new IllegalArgumentException(String.format("maxStep must be positive, got: %d", maxStep));
+        }
+        this.mutationRate = mutationRate;
+        this.maxStep = maxStep;
+    }
+
+    @Override
+    public void mutateInPlace(IntChromosome individual) {
+        IntGeneDomain domain = individual.getDomain();
+        int length = individual.length();
+
+        for (int i = 0; i < length; i++) {
+            if (random.nextDouble() < mutationRate) {
+                int step = 1 + random.nextInt(maxStep);
+                if (random.nextBoolean())
+                    step = -step;
+                long moved = (long) individual.getInt(i) + step;
+                individual.setInt(i, (int) Math.max(domain.min(i), Math.min(domain.max(i), moved)));
+            }
+        }
+    }
+
+    @Override
+    public double getMutationRate() {
+        return mutationRate;
+    }
+
+    public int getMaxStep() {
+        return maxStep;
+    }
+
+    @Override
+    public void setMutationRate(double rate) {
+        AdjustableMutationRate.checkRate(rate);
+        this.mutationRate = rate;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("IntCreepMutation(rate=%.4f, maxStep=%d)", mutationRate, maxStep);
+    }
+}
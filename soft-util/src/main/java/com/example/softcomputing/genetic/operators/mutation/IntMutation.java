@@ -0,0 +1,15 @@
+package com.example.softcomputing.genetic.operators.mutation;
+
+import com.example.softcomputing.genetic.chromosome.IntChromosome;
+
+// Mutation on primitive genes, always in place.
+public interface IntMutation extends MutationStrategy<IntChromosome> {
+
+    void mutateInPlace(IntChromosome individual);
+
+    @Override
+    default IntChromosome mutate(IntChromosome individual) {
+        mutateInPlace(individual);
+        return individual;
+    }
+}
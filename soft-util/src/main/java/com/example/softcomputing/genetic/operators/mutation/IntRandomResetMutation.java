@@ -0,0 +1,47 @@
+package com.example.softcomputing.genetic.operators.mutation;
+
+
+import com.example.softcomputing.genetic.chromosome.IntChromosome;
+import com.example.softcomputing.genetic.chromosome.IntGeneDomain;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
+
+// Replaces each selected gene with a uniform value from its domain.
+public class IntRandomResetMutation extends AbstractSeedable implements IntMutation, AdjustableMutationRate {
+
+    private volatile double mutationRate;
+
+    public IntRandomResetMutation(double mutationRate) {
+        if (mutationRate < 0.0 || mutationRate > 1.0) {
+            throw new IllegalArgumentException("mutationRate must be in [0,1]");
+        }
+        this.mutationRate = mutationRate;
+    }
+
+    @Override
+    public void mutateInPlace(IntChromosome individual) {
+        IntGeneDomain domain = individual.getDomain();
+        int length = individual.length();
+
+        for (int i = 0; i < length; i++) {
+            if (random.nextDouble() < mutationRate) {
+                individual.setInt(i, (int) (domain.min(i) + (long) (random.nextDouble() * domain.size(i))));
+            }
+        }
+    }
+
+    @Override
+    public double getMutationRate() {
+        return mutationRate;
+    }
+
+    @Override
+    public void setMutationRate(double rate) {
+        AdjustableMutationRate.checkRate(rate);
+        this.mutationRate = rate;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("IntRandomResetMutation(rate=%.4f)", mutationRate);
+    }
+}
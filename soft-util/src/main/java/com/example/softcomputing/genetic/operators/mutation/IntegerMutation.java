@@ -1,13 +1,12 @@
 package com.example.softcomputing.genetic.operators.mutation;
 
-import java.util.Random;
 
 import com.example.softcomputing.genetic.chromosome.IntegerChromosome;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
 
-public class IntegerMutation implements MutationStrategy<IntegerChromosome> {
+public class IntegerMutation extends AbstractSeedable implements MutationStrategy<IntegerChromosome>, AdjustableMutationRate {
 
-    private final double mutationRate;
-    private final Random random = new Random();
+    private volatile double mutationRate;
 
     public IntegerMutation(double mutationRate) {
         if (mutationRate < 0.0 || mutationRate > 1.0) {
@@ -31,4 +30,15 @@ public class IntegerMutation implements MutationStrategy<IntegerChromosome> {
         }
         return individual;
     }
-}
\ No newline at end of file
+
+    @Override
+    public double getMutationRate() {
+        return mutationRate;
+    }
+
+    @Override
+    public void setMutationRate(double rate) {
+        AdjustableMutationRate.checkRate(rate);
+        this.mutationRate = rate;
+    }
+}
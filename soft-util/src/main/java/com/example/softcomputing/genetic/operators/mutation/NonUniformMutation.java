@@ -1,16 +1,22 @@
 package com.example.softcomputing.genetic.operators.mutation;
 
-import java.util.Random;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 import com.example.softcomputing.genetic.chromosome.FloatingPointChromosome;
+import com.example.softcomputing.genetic.core.GenerationAware;
+import com.example.softcomputing.genetic.core.GenerationContext;
+import com.example.softcomputing.genetic.io.Checkpointable;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
 
-public class NonUniformMutation implements MutationStrategy<FloatingPointChromosome> {
+public class NonUniformMutation extends AbstractSeedable
+        implements MutationStrategy<FloatingPointChromosome>, AdjustableMutationRate, Checkpointable, GenerationAware {
 
-    private final Double mutationRate;
-    private final Random random = new Random();
+    private volatile double mutationRate;
     private final int maxGenerations;
     private final double dependencyFactor;
-    private int currentGeneration;
+    private volatile int currentGeneration;
 
     public NonUniformMutation(Double mutationRate, int maxGenerations, double dependencyFactor) {
         this.mutationRate = mutationRate;
@@ -23,45 +29,76 @@ public class NonUniformMutation implements MutationStrategy<FloatingPointChromos
         this.currentGeneration = generation;
     }
 
+    // the engine moves the annealing schedule on every generation; the context is the
+    // generation just finished, the children about to be mutated belong to the next one
+    @Override
+    public void onGeneration(GenerationContext context) {
+        setCurrentGeneration((int) Math.min(context.getGeneration() + 1, Integer.MAX_VALUE));
+    }
+
     @Override
     public FloatingPointChromosome mutate(FloatingPointChromosome individual) {
         int length = individual.length();
-        Double[] genes = individual.toArray();
         Double lowerBound = individual.getLowerBound();
         Double upperBound = individual.getUpperBound();
 
-        for (int i = 0; i < length; i++) {
-            if (random.nextDouble() < mutationRate) {
-                Double xi = genes[i];
-                Double r11 = random.nextDouble();
-                Double r = random.nextDouble();
-                
-                Double deltaL = xi - lowerBound;
-                Double deltaU = upperBound - xi;
-
-                Double y;
-                if (r11 <= 0.5) {
-                    y = deltaL;
-                } else {
-                    y = deltaU;
-                }
-                
-                double ratio = 1.0 - ((double) currentGeneration / maxGenerations);
-                double exponent = Math.pow(ratio, dependencyFactor);
-                double delta = y * (1.0 - Math.pow(r, exponent));
-                
-                Double newValue;
-                if (r11 <= 0.5) {
-                    newValue = xi - delta;
-                } else {
-                    newValue = xi + delta;
-                }
-                
-                newValue = Math.max(lowerBound, Math.min(upperBound, newValue));
-                individual.setGene(i, newValue);
+        double ratio = Math.max(0.0, 1.0 - ((double) currentGeneration / maxGenerations));
+        double exponent = Math.pow(ratio, dependencyFactor);
+
+        // only the mutated genes are visited, see GeometricSkip
+        GeometricSkip skip = new GeometricSkip(mutationRate);
+        for (int i = skip.next(random, 0, length); i < length;
+                i = skip.next(random, i + 1, length)) {
+            Double xi = individual.getGene(i);
+            Double r11 = random.nextDouble();
+            Double r = random.nextDouble();
+            
+            Double deltaL = xi - lowerBound;
+            Double deltaU = upperBound - xi;
+
+            Double y;
+            if (r11 <= 0.5) {
+                y = deltaL;
+            } else {
+                y = deltaU;
             }
+            
+            double delta = y * (1.0 - Math.pow(r, exponent));
+            
+            Double newValue;
+            if (r11 <= 0.5) {
+                newValue = xi - delta;
+            } else {
+                newValue = xi + delta;
+            }
+            
+            newValue = Math.max(lowerBound, Math.min(upperBound, newValue));
+            individual.setGene(i, newValue);
         }
 
         return individual;
     }
-}
\ No newline at end of file
+
+    @Override
+    public double getMutationRate() {
+        return mutationRate;
+    }
+
+    @Override
+    public void setMutationRate(double rate) {
+        AdjustableMutationRate.checkRate(rate);
+        this.mutationRate = rate;
+    }
+
+    @Override
+    public void writeState(DataOutput out) throws IOException {
+        out.writeInt(currentGeneration);
+        out.writeDouble(mutationRate);
+    }
+
+    @Override
+    public void readState(DataInput in) throws IOException {
+        currentGeneration = in.readInt();
+        mutationRate = in.readDouble();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.softcomputing.genetic.operators.mutation;
+
+import java.util.random.RandomGenerator;
+
+import com.example.softcomputing.genetic.chromosome.PackedBinaryChromosome;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
+import com.example.softcomputing.genetic.random.SplitMix64;
+
+// Flips each gene independently with the given probability. Only the flipped
+// positions are sampled (see GeometricSkip) and applied as one XOR mask per word.
+// The individual may be a parent that crossover passed through, so the flips go into a
+// copy made at the first flip; with no flip the individual itself is returned.
+public class PackedBinaryMutation extends AbstractSeedable implements MutationStrategy<PackedBinaryChromosome>, AdjustableMutationRate {
+    private volatile double mutationProbability;
+
+    public PackedBinaryMutation(double mutationProbability) {
+        this(mutationProbability, new SplitMix64());
+    }
+
+    public PackedBinaryMutation(double mutationProbability, RandomGenerator random) {
+        super(random);
+        if (mutationProbability < 0.0 || mutationProbability > 1.0) {
+            throw new IllegalArgumentException(
+                    String.format("Mutation probability must be in [0.0, 1.0], got: %.4f", mutationProbability));
+        }
+        this.mutationProbability = mutationProbability;
+    }
+
+    @Override
+    public PackedBinaryChromosome mutate(PackedBinaryChromosome individual) {
+        if (mutationProbability == 0.0 || individual.length() == 0) {
+            return individual;
+        }
+
+        int length = individual.length();
+        GeometricSkip skip = new GeometricSkip(mutationProbability);
+        PackedBinaryChromosome mutated = null;
+        int word = -1;
+        long mask = 0L;
+        for (int i = skip.next(random, 0, length); i < length;
+                i = skip.next(random, i + 1, length)) {
+            if (i >>> 6 != word) {
+                if (mask != 0L)
+                    mutated = apply(individual, mutated, word, mask);
+                word = i >>> 6;
+                mask = 0L;
+            }
+            mask |= 1L << i;
+        }
+        if (mask != 0L)
+            mutated = apply(individual, mutated, word, mask);
+        return mutated == null ? individual : mutated;
+    }
+
+    private static PackedBinaryChromosome apply(PackedBinaryChromosome individual, PackedBinaryChromosome mutated,
+            int word, long mask) {
+        if (mutated == null)
+            mutated = individual.copy();
+        mutated.xorWord(word, mask);
+        return mutated;
+    }
+
+    public double getMutationProbability() {
+        return mutationProbability;
+    }
+
+    public static PackedBinaryMutation withStandardRate(int chromosomeLength) {
+        if (chromosomeLength <= 0) {
+            throw new IllegalArgumentException("Chromosome length must be positive");
+        }
+        return new PackedBinaryMutation(1.0 / chromosomeLength);
+    }
+
+    @Override
+    public double getMutationRate() {
+        return mutationProbability;
+    }
+
+    @Override
+    public void setMutationRate(double rate) {
+        AdjustableMutationRate.checkRate(rate);
+        this.mutationProbability = rate;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PackedBinaryMutation(probability=%.4f)", mutationProbability);
+    }
+}
@@ -1,13 +1,12 @@
 package com.example.softcomputing.genetic.operators.mutation;
 
-import java.util.Random;
 
 import com.example.softcomputing.genetic.chromosome.FloatingPointChromosome;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
 
-public class UniformMutation implements MutationStrategy<FloatingPointChromosome> {
+public class UniformMutation extends AbstractSeedable implements MutationStrategy<FloatingPointChromosome>, AdjustableMutationRate {
 
-    private final Double mutationRate;
-    private final Random random = new Random();
+    private volatile double mutationRate;
 
     public UniformMutation(Double mutationRate) {
         this.mutationRate = mutationRate;
@@ -16,28 +15,39 @@ public class UniformMutation implements MutationStrategy<FloatingPointChromosome
     @Override
     public FloatingPointChromosome mutate(FloatingPointChromosome individual) {
         int length = individual.length();
-        Double[] genes = individual.toArray();
         Double lowerBound = individual.getLowerBound();
         Double upperBound = individual.getUpperBound();
 
-        for (int i = 0; i < length; i++) {
-            if (random.nextDouble() < mutationRate) {
-                Double xi = genes[i];
-                Double r1 = random.nextDouble(); 
-                Double newValue;
-                double r2 = random.nextDouble();
-
-                if (r1 <= 0.5) { // move left
-                    newValue = xi - r2;
-                } else { // move right
-                    newValue = xi + r2;
-                }
-
-                newValue = Math.max(lowerBound, Math.min(upperBound, newValue));
-                individual.setGene(i, newValue);
+        // only the mutated genes are visited, see GeometricSkip
+        GeometricSkip skip = new GeometricSkip(mutationRate);
+        for (int i = skip.next(random, 0, length); i < length;
+                i = skip.next(random, i + 1, length)) {
+            Double xi = individual.getGene(i);
+            Double r1 = random.nextDouble(); 
+            Double newValue;
+            double r2 = random.nextDouble();
+
+            if (r1 <= 0.5) { // move left
+                newValue = xi - r2;
+            } else { // move right
+                newValue = xi + r2;
             }
+
+            newValue = Math.max(lowerBound, Math.min(upperBound, newValue));
+            individual.setGene(i, newValue);
         }
 
         return individual;
     }
+
+    @Override
+    public double getMutationRate() {
+        return mutationRate;
+    }
+
+    @Override
+    public void setMutationRate(double rate) {
+        AdjustableMutationRate.checkRate(rate);
+        this.mutationRate = rate;
+    }
 }
@@ -1,11 +1,10 @@
 package com.example.softcomputing.genetic.operators.replacement;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.genetic.utils.TopK;
 
 public class ElitismReplacement<C extends Chromosome<?>> implements Replacement<C> {
 
@@ -51,41 +50,21 @@ public class ElitismReplacement<C extends Chromosome<?>> implements Replacement<
 
         int populationSize = currentPopulation.size();
         int actualEliteCount = Math.min(eliteCount, populationSize);
+        int remainingSlots = populationSize - actualEliteCount;
+        int offspringToAdd = Math.min(remainingSlots, newIndividuals.size());
+        // the current best fill the elite slots and, if offspring run short, the slots after them
+        int fromCurrent = populationSize - offspringToAdd;
 
-        List<IndividualWithFitness<C>> currentWithFitness = currentPopulation.stream()
-                .map(ind -> new IndividualWithFitness<>(ind, ind.getFitness()))
-                .collect(Collectors.toList());
-
-        currentWithFitness.sort(Comparator.comparingDouble(IndividualWithFitness<C>::getFitness).reversed());
-
-        List<C> elite = new ArrayList<>(actualEliteCount);
+        int[] best = TopK.largest(TopK.fitnessOf(currentPopulation), fromCurrent);
+        List<C> newPopulation = new ArrayList<>(populationSize);
         for (int i = 0; i < actualEliteCount; i++) {
-            elite.add(currentWithFitness.get(i).getIndividual());
+            newPopulation.add(currentPopulation.get(best[i]));
         }
 
-        List<IndividualWithFitness<C>> offspringWithFitness = newIndividuals.stream()
-                .map(ind -> new IndividualWithFitness<>(ind, ind.getFitness()))
-                .collect(Collectors.toList());
-
-        offspringWithFitness.sort(Comparator.comparingDouble(IndividualWithFitness<C>::getFitness).reversed());
-
-        List<C> newPopulation = new ArrayList<>(populationSize);
-
-        newPopulation.addAll(elite);
-
-        int remainingSlots = populationSize - actualEliteCount;
-        int offspringToAdd = Math.min(remainingSlots, offspringWithFitness.size());
-
-        for (int i = 0; i < offspringToAdd; i++) {
-            newPopulation.add(offspringWithFitness.get(i).getIndividual());
-        }
+        TopK.addFittest(newIndividuals, offspringToAdd, newPopulation);
 
-        if (newPopulation.size() < populationSize) {
-            int needed = populationSize - newPopulation.size();
-            for (int i = actualEliteCount; i < currentWithFitness.size() && needed > 0; i++) {
-                newPopulation.add(currentWithFitness.get(i).getIndividual());
-                needed--;
-            }
+        for (int i = actualEliteCount; i < fromCurrent; i++) {
+            newPopulation.add(currentPopulation.get(best[i]));
         }
 
         return newPopulation;
@@ -95,24 +74,6 @@ public class ElitismReplacement<C extends Chromosome<?>> implements Replacement<
         return eliteCount;
     }
 
-    private static class IndividualWithFitness<C extends Chromosome<?>> {
-        private final C individual;
-        private final double fitness;
-
-        public IndividualWithFitness(C individual, double fitness) {
-            this.individual = individual;
-            this.fitness = fitness;
-        }
-
-        public C getIndividual() {
-            return individual;
-        }
-
-        public double getFitness() {
-            return fitness;
-        }
-    }
-
     @Override
     public String toString() {
         return String.format("ElitismReplacement(eliteCount=%d)", eliteCount);
@@ -0,0 +1,256 @@
+package com.example.softcomputing.genetic.operators.replacement;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.genetic.utils.GenotypeDistance;
+
+// Steady-state replacement that keeps the population in an indexed min-heap on
+// fitness, so the worst individual is always at the root and replacing it costs
+// O(log n) instead of a sort. A child takes the place of its target only if it is at
+// least as fit, which keeps the best individual. Targets by policy:
+//   WORST        the least fit individual
+//   PARENT       the given parent, if it is still in the population, else the worst
+//   MOST_SIMILAR the individual nearest in genotype (crowding), an O(n) scan
+// replacePopulation inserts each new individual in turn and returns a new list, as
+// every Replacement does; handing that list back as the next currentPopulation reuses
+// the heap, any other list is re-indexed in O(n). track adopts the caller's list
+// instead, and insert then updates that list in place, for steady-state engines that
+// own their population.
+// Indexed fitness values are a snapshot: replacePopulation re-reads every member, and
+// insert re-reads its target before comparing, so a member re-evaluated in place is
+// put back in order rather than trusted. A child that already is a member is rejected.
+// All methods are synchronized, so concurrent inserters can share one instance.
+public class HeapReplacement<C extends Chromosome<?>> implements Replacement<C> {
+
+    public enum Policy {
+        WORST,
+        PARENT,
+        MOST_SIMILAR
+    }
+
+    private final Policy policy;
+
+    private List<C> members = new ArrayList<>();
+    // the list replacePopulation last returned, with the same contents as members
+    private List<C> published = null;
+    private double[] fitness = new double[0];
+    // heap[position] = slot in members, position[slot] = where that slot sits in heap
+    private int[] heap = new int[0];
+    private int[] position = new int[0];
+    private final Map<C, Integer> slots = new IdentityHashMap<>();
+    private long replaced = 0;
+    private long rejected = 0;
+
+    public HeapReplacement() {
+        this(Policy.WORST);
+    }
+
+    public HeapReplacement(Policy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Replacement policy must not be null");
+        }
+        this.policy = policy;
+    }
+
+    @Override
+    public synchronized List<C> replacePopulation(List<C> currentPopulation, List<C> newIndividuals) {
+        if (currentPopulation == null || currentPopulation.isEmpty())
+            return new ArrayList<>();
+        if (currentPopulation == published && fitness.length == members.size())
+            resync();
+        else
+            index(new ArrayList<>(currentPopulation));
+        if (newIndividuals != null) {
+            for (C child : newIndividuals) {
+                insert(child, null);
+            }
+        }
+        published = new ArrayList<>(members);
+        return published;
+    }
+
+    // adopts `population`, which later inserts update in place; re-indexes the heap
+    // unless it is the list already tracked
+    public synchronized void track(List<C> population) {
+        if (population == members && fitness.length == members.size())
+            return;
+        index(population);
+    }
+
+    private void index(List<C> population) {
+        int n = population.size();
+        members = population;
+        published = null;
+        fitness = new double[n];
+        heap = new int[n];
+        position = new int[n];
+        slots.clear();
+        for (int slot = 0; slot < n; slot++) {
+            C individual = members.get(slot);
+            fitness[slot] = individual.getFitness();
+            heap[slot] = slot;
+            position[slot] = slot;
+            slots.put(individual, slot);
+        }
+        heapify();
+    }
+
+    // re-reads the fitness of every member, restoring heap order if any changed
+    private void resync() {
+        boolean changed = false;
+        for (int slot = 0; slot < fitness.length; slot++) {
+            double current = members.get(slot).getFitness();
+            if (Double.compare(current, fitness[slot]) != 0) {
+                fitness[slot] = current;
+                changed = true;
+            }
+        }
+        if (changed)
+            heapify();
+    }
+
+    private void heapify() {
+        for (int i = heap.length / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    public synchronized C insert(C child) {
+        return insert(child, null);
+    }
+
+    // replaces the target chosen by the policy (`parent` for PARENT) and returns the
+    // individual that left, or null if the child was not fit enough to enter
+    public synchronized C insert(C child, C parent) {
+        if (child == null) {
+            throw new IllegalArgumentException("Child must not be null");
+        }
+        if (members.isEmpty()) {
+            throw new IllegalStateException("No population is tracked yet");
+        }
+        if (slots.containsKey(child)) {
+            throw new IllegalArgumentException("Child is already a member of the population; insert a copy");
+        }
+        int slot = target(child, parent);
+        double current = members.get(slot).getFitness();
+        while (Double.compare(current, fitness[slot]) != 0) {
+            // the target changed since it was indexed; reorder it and look again
+            fitness[slot] = current;
+            siftUp(position[slot]);
+            siftDown(position[slot]);
+            slot = target(child, parent);
+            current = members.get(slot).getFitness();
+        }
+        double childFitness = child.getFitness();
+        if (!(childFitness >= fitness[slot])) {
+            rejected++;
+            return null;
+        }
+
+        C leaving = members.set(slot, child);
+        published = null;
+        slots.remove(leaving);
+        slots.put(child, slot);
+        double previous = fitness[slot];
+        fitness[slot] = childFitness;
+        // the fitness only grew, so the slot can only move away from the root
+        if (childFitness != previous)
+            siftDown(position[slot]);
+        replaced++;
+        return leaving;
+    }
+
+    private int target(C child, C parent) {
+        switch (policy) {
+            case PARENT:
+                Integer slot = parent == null ? null : slots.get(parent);
+                return slot != null ? slot : heap[0];
+            case MOST_SIMILAR:
+                int nearest = heap[0];
+                double nearestDistance = Double.POSITIVE_INFINITY;
+                for (int s = 0; s < members.size(); s++) {
+                    double d = GenotypeDistance.between(child, members.get(s));
+                    if (d < nearestDistance) {
+                        nearestDistance = d;
+                        nearest = s;
+                    }
+                }
+                return nearest;
+            default:
+                return heap[0];
+        }
+    }
+
+    private void siftUp(int i) {
+        int slot = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (!(fitness[slot] < fitness[heap[parent]]))
+                break;
+            heap[i] = heap[parent];
+            position[heap[i]] = i;
+            i = parent;
+        }
+        heap[i] = slot;
+        position[slot] = i;
+    }
+
+    private void siftDown(int i) {
+        int n = heap.length;
+        int slot = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n)
+                break;
+            if (child + 1 < n && fitness[heap[child + 1]] < fitness[heap[child]])
+                child++;
+            if (!(fitness[heap[child]] < fitness[slot]))
+                break;
+            heap[i] = heap[child];
+            position[heap[i]] = i;
+            i = child;
+        }
+        heap[i] = slot;
+        position[slot] = i;
+    }
+
+    // the index of `individual` in the maintained list, or -1 if it is not a member
+    public synchronized int indexOf(C individual) {
+        Integer slot = slots.get(individual);
+        return slot == null ? -1 : slot;
+    }
+
+    public synchronized C peekWorst() {
+        return members.isEmpty() ? null : members.get(heap[0]);
+    }
+
+    public synchronized double getWorstFitness() {
+        return members.isEmpty() ? Double.NaN : fitness[heap[0]];
+    }
+
+    // a copy of the population as currently maintained
+    public synchronized List<C> getPopulation() {
+        return new ArrayList<>(members);
+    }
+
+    public synchronized long getReplacedCount() {
+        return replaced;
+    }
+
+    public synchronized long getRejectedCount() {
+        return rejected;
+    }
+
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("HeapReplacement(policy=%s)", policy);
+    }
+}
@@ -1,11 +1,10 @@
 package com.example.softcomputing.genetic.operators.replacement;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.genetic.utils.TopK;
 
 public class SteadyStateReplacement<C extends Chromosome<?>> implements Replacement<C> {
 
@@ -73,30 +72,14 @@ public class SteadyStateReplacement<C extends Chromosome<?>> implements Replacem
     private List<C> replaceFitnessBased(List<C> currentPopulation, List<C> offspring,
             int populationSize, int actualReplacementCount) {
 
-        // parents
-        List<IndividualWithFitness<C>> currentWithFitness = currentPopulation.stream()
-                .map(ind -> new IndividualWithFitness<>(ind, ind.getFitness()))
-                .collect(Collectors.toList());
-
-        currentWithFitness.sort(Comparator.comparingDouble(IndividualWithFitness<C>::getFitness).reversed());
-
-        // offsprings
-        List<IndividualWithFitness<C>> offspringWithFitness = offspring.stream()
-                .map(ind -> new IndividualWithFitness<>(ind, ind.getFitness()))
-                .collect(Collectors.toList());
-
-        offspringWithFitness.sort(Comparator.comparingDouble(IndividualWithFitness<C>::getFitness).reversed());
-
         List<C> newPopulation = new ArrayList<>(populationSize);
 
+        // parents: only the worst are looked for, the survivors keep their order
         int keepCount = populationSize - actualReplacementCount;
-        for (int i = 0; i < keepCount; i++) {
-            newPopulation.add(currentWithFitness.get(i).getIndividual());
-        }
+        TopK.addFittest(currentPopulation, keepCount, newPopulation);
 
-        for (int i = 0; i < actualReplacementCount; i++) {
-            newPopulation.add(offspringWithFitness.get(i).getIndividual());
-        }
+        // offsprings
+        TopK.addFittest(offspring, actualReplacementCount, newPopulation);
 
         return newPopulation;
     }
@@ -113,24 +96,6 @@ public class SteadyStateReplacement<C extends Chromosome<?>> implements Replacem
         return allowParentReplacement;
     }
 
-    private static class IndividualWithFitness<C extends Chromosome<?>> {
-        private final C individual;
-        private final double fitness;
-
-        public IndividualWithFitness(C individual, double fitness) {
-            this.individual = individual;
-            this.fitness = fitness;
-        }
-
-        public C getIndividual() {
-            return individual;
-        }
-
-        public double getFitness() {
-            return fitness;
-        }
-    }
-
     @Override
     public String toString() {
         return String.format("SteadyStateReplacement(count=%d, mode=%s, allowParentReplacement=%s)",
@@ -0,0 +1,119 @@
+package com.example.softcomputing.genetic.operators.selection;
+
+import java.util.List;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
+
+// Fitness-proportional selection over a Fenwick (binary indexed) tree of weights, for
+// steady-state engines where one individual changes at a time: update(index, fitness)
+// and every pick are O(log n), prepare is O(n). The negative-fitness shift is fixed at
+// prepare; an update below it gets weight zero until the next prepare. The caller keeps
+// the tree in step with the population, a pick only rebuilds when the size changes.
+// AsyncSteadyStateGeneticAlgorithm with a HeapReplacement does this, updating the slot
+// each child enters. Not thread-safe: picks and updates must share one lock, as they do
+// in that engine.
+public class FenwickRouletteSelection<C extends Chromosome<?>> extends AbstractSeedable implements SelectionStrategy<C> {
+
+
+    private double[] tree = new double[1];
+    private double[] weights = new double[0];
+    private double offset;
+    private double total;
+    private int highestBit;
+    // updates accumulate rounding in the sums, so the tree is rebuilt every n updates
+    private int updatesSinceBuild;
+
+    @Override
+    public void prepare(List<C> population) {
+        if (population == null || population.isEmpty()) {
+            throw new IllegalArgumentException("Population must not be null or empty");
+        }
+        int n = population.size();
+        if (weights.length != n) {
+            weights = new double[n];
+            tree = new double[n + 1];
+            highestBit = Integer.highestOneBit(n);
+        }
+        offset = FitnessWeights.offset(population);
+        for (int i = 0; i < n; i++) {
+            weights[i] = FitnessWeights.weight(population.get(i).getFitness(), offset);
+        }
+        build();
+    }
+
+    private void build() {
+        int n = weights.length;
+        System.arraycopy(weights, 0, tree, 1, n);
+        for (int i = 1; i <= n; i++) {
+            int parent = i + (i & -i);
+            if (parent <= n)
+                tree[parent] += tree[i];
+        }
+        total = n > 0 ? prefixSum(n) : 0.0;
+        updatesSinceBuild = 0;
+    }
+
+    // the individual at `index` now has `fitness`
+    public void update(int index, double fitness) {
+        if (index < 0 || index >= weights.length) {
+            throw new IllegalArgumentException(
+                    String.format("Index %d is outside a wheel of %d individuals", index, weights.length));
+        }
+        if (Double.isNaN(fitness)) {
+            throw new IllegalArgumentException("Fitness must not be NaN");
+        }
+        double weight = FitnessWeights.weight(fitness, offset);
+        double delta = weight - weights[index];
+        weights[index] = weight;
+        if (++updatesSinceBuild >= weights.length) {
+            build();
+            return;
+        }
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+        total += delta;
+    }
+
+    private double prefixSum(int count) {
+        double sum = 0.0;
+        for (int i = count; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public C selectIndividual(List<C> population) {
+        if (population == null || population.isEmpty()) {
+            throw new IllegalArgumentException("Population must not be null or empty");
+        }
+        if (weights.length != population.size()) {
+            prepare(population);
+        }
+        return population.get(sampleIndex());
+    }
+
+    int sampleIndex() {
+        int n = weights.length;
+        if (!(total > 0) || Double.isInfinite(total))
+            return random.nextInt(n);
+
+        // descend to the last position whose prefix sum is <= target
+        double target = random.nextDouble() * total;
+        int position = 0;
+        for (int step = highestBit; step > 0; step >>= 1) {
+            int next = position + step;
+            if (next <= n && tree[next] <= target) {
+                position = next;
+                target -= tree[next];
+            }
+        }
+        return Math.min(position, n - 1);
+    }
+
+    public double getTotalWeight() {
+        return total;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.softcomputing.genetic.operators.selection;
+
+import java.util.List;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+
+// Turns fitness values into non-negative roulette weights. When the lowest fitness is
+// negative every value is shifted by it, so the worst individual gets weight zero and
+// the order is kept; otherwise fitness is the weight as is.
+final class FitnessWeights {
+
+    private FitnessWeights() {
+    }
+
+    static double offset(List<? extends Chromosome<?>> population) {
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < population.size(); i++) {
+            double fitness = population.get(i).getFitness();
+            if (Double.isNaN(fitness)) {
+                throw new IllegalArgumentException(
+                        String.format("Fitness of individual %d is NaN", i));
+            }
+            min = Math.min(min, fitness);
+        }
+        return min < 0 ? -min : 0.0;
+    }
+
+    static double weight(double fitness, double offset) {
+        double w = fitness + offset;
+        return w > 0 ? w : 0.0;
+    }
+
+    // fills `weights` and returns their sum
+    static double fill(List<? extends Chromosome<?>> population, double[] weights) {
+        double offset = offset(population);
+        double total = 0.0;
+        for (int i = 0; i < population.size(); i++) {
+            weights[i] = weight(population.get(i).getFitness(), offset);
+            total += weights[i];
+        }
+        return total;
+    }
+}
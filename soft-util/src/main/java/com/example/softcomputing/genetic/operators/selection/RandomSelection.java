@@ -1,15 +1,14 @@
 package com.example.softcomputing.genetic.operators.selection;
 
 import java.util.List;
-import java.util.Random;
 import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
 
-public class RandomSelection<C extends Chromosome<?>> implements SelectionStrategy<C> {
-    private final Random rnd = new Random();
+public class RandomSelection<C extends Chromosome<?>> extends AbstractSeedable implements SelectionStrategy<C> {
 
     @Override
     public C selectIndividual(List<C> population) {
         if (population == null || population.isEmpty()) return null;
-        return population.get(rnd.nextInt(population.size()));
+        return population.get(random.nextInt(population.size()));
     }
 }
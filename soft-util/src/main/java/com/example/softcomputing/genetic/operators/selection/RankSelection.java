@@ -3,11 +3,11 @@ package com.example.softcomputing.genetic.operators.selection;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Random;
 
 import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
 
-public class RankSelection<C extends Chromosome<?>> implements SelectionStrategy<C> {
+public class RankSelection<C extends Chromosome<?>> extends AbstractSeedable implements SelectionStrategy<C> {
 
     public enum RankingMode {
         LINEAR,
@@ -16,12 +16,12 @@ public class RankSelection<C extends Chromosome<?>> implements SelectionStrategy
 
     private final double selectionPressure;
     private final RankingMode rankingMode;
-    private final Random random;
     private final boolean maximization;
 
     private List<C> cachedPopulation;
     private List<RankedIndividual<C>> rankedPopulation;
     private double[] cumulativeProbabilities;
+    private int[] indices = new int[0];
 
     public RankSelection() {
         this(1.5, RankingMode.LINEAR, true);
@@ -39,7 +39,15 @@ public class RankSelection<C extends Chromosome<?>> implements SelectionStrategy
         this.selectionPressure = selectionPressure;
         this.rankingMode = rankingMode;
         this.maximization = maximization;
-        this.random = new Random();
+    }
+
+    @Override
+    public void prepare(List<C> population) {
+        if (population == null || population.isEmpty()) {
+            throw new IllegalArgumentException("Population must not be null or empty");
+        }
+        buildRanking(population);
+        cachedPopulation = population;
     }
 
     @Override
@@ -54,16 +62,35 @@ public class RankSelection<C extends Chromosome<?>> implements SelectionStrategy
             cachedPopulation = population;
         }
 
-        double randomValue = random.nextDouble();
+        int n = cumulativeProbabilities.length;
+        double randomValue = random.nextDouble() * cumulativeProbabilities[n - 1];
+        return rankedPopulation.get(UniversalSampling.pick(cumulativeProbabilities, n, randomValue)).individual;
+    }
 
-        for (int i = 0; i < cumulativeProbabilities.length; i++) {
-            if (randomValue <= cumulativeProbabilities[i]) {
-                return rankedPopulation.get(i).individual;
-            }
+    // one SUS sweep over the rank wheel
+    @Override
+    public List<C> selectParents(List<C> population, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Parent count must not be negative, got: %d", count));
+        }
+        if (population == null || population.isEmpty()) {
+            throw new IllegalArgumentException("Population must not be null or empty");
+        }
+        if (cachedPopulation != population || rankedPopulation == null) {
+            buildRanking(population);
+            cachedPopulation = population;
         }
 
-        // best individual (should rarely happen due to floating point)
-        return rankedPopulation.get(rankedPopulation.size() - 1).individual;
+        if (indices.length < count) {
+            indices = new int[count];
+        }
+        UniversalSampling.sample(cumulativeProbabilities, cumulativeProbabilities.length, indices, count, random);
+        List<C> parents = new ArrayList<>(count);
+        for (int j = 0; j < count; j++) {
+            parents.add(rankedPopulation.get(indices[j]).individual);
+        }
+        return parents;
     }
 
     private void buildRanking(List<C> population) {
@@ -1,63 +1,109 @@
 package com.example.softcomputing.genetic.operators.selection;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 
 import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
 
-public class RouletteWheelSelection<C extends Chromosome<?>> implements SelectionStrategy<C> {
+// Fitness-proportional selection through Vose's alias method: the wheel is rebuilt in
+// O(n) once per generation (prepare) and every pick is O(1), one uniform index and one
+// coin flip. Negative fitness is shifted so the worst individual sits at zero; if every
+// weight is zero the pick is uniform.
+public class RouletteWheelSelection<C extends Chromosome<?>> extends AbstractSeedable implements SelectionStrategy<C> {
 
-    private Map<C, Pair<Double, Double>> wheel;
+
+    private List<C> cachedPopulation;
+    private double[] probability = new double[0];
+    private int[] alias = new int[0];
+    // scratch reused across rebuilds
+    private double[] weights = new double[0];
+    private int[] small = new int[0];
+    private int[] large = new int[0];
+    private boolean uniform;
 
     public RouletteWheelSelection() {
-        this.wheel = new HashMap<>();
     }
 
     public RouletteWheelSelection(List<C> population) {
         createWheel(population);
     }
 
+    @Override
+    public void prepare(List<C> population) {
+        createWheel(population);
+    }
+
     public void createWheel(List<C> population) {
         if (population == null || population.isEmpty()) {
             throw new IllegalArgumentException("Population must not be null or empty");
         }
-        wheel = new HashMap<>();
-        Double lowerBound = 0.0, upperBound = 0.0;
-        Double currentFitness = 0.0, totalFitness = 0.0;
-
-        Map<C, Double> fitnessMap = new HashMap<>();
-        wheel = new HashMap<>();
+        int n = population.size();
+        if (probability.length != n) {
+            probability = new double[n];
+            alias = new int[n];
+            weights = new double[n];
+            small = new int[n];
+            large = new int[n];
+        }
 
-        for (C individual : population) {
-            currentFitness = individual.getFitness();
-            totalFitness += currentFitness;
-            fitnessMap.put(individual, currentFitness);
+        double total = FitnessWeights.fill(population, weights);
+        uniform = !(total > 0) || Double.isInfinite(total);
+        if (!uniform) {
+            buildAliasTable(n, total);
         }
+        cachedPopulation = population;
+    }
 
-        for (Map.Entry<C, Double> entry : fitnessMap.entrySet()) {
-            C individual = entry.getKey();
-            Double fitness = entry.getValue();
+    // Vose: scale weights to mean 1, pair each under-full column with an over-full one
+    private void buildAliasTable(int n, double total) {
+        double scale = n / total;
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            weights[i] *= scale;
+            if (weights[i] < 1.0)
+                small[smallCount++] = i;
+            else
+                large[largeCount++] = i;
+        }
 
-            upperBound = lowerBound + (fitness / totalFitness);
-            lowerBound = upperBound;
-            wheel.put(individual, new Pair<>(lowerBound, upperBound));
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = weights[less];
+            alias[less] = more;
+            weights[more] = (weights[more] + weights[less]) - 1.0;
+            if (weights[more] < 1.0)
+                small[smallCount++] = more;
+            else
+                large[largeCount++] = more;
+        }
+        // whatever is left is 1 up to rounding
+        while (largeCount > 0) {
+            int i = large[--largeCount];
+            probability[i] = 1.0;
+            alias[i] = i;
+        }
+        while (smallCount > 0) {
+            int i = small[--smallCount];
+            probability[i] = 1.0;
+            alias[i] = i;
         }
     }
 
     @Override
     public C selectIndividual(List<C> population) {
-        if (wheel == null || wheel.isEmpty()) {
+        // rebuilt when handed a different list, as the wheel would select from stale members
+        if (cachedPopulation != population || probability.length != population.size()) {
             createWheel(population);
         }
-        Double randomValue = Math.random();
-        for (Entry<C, Pair<Double, Double>> entry : wheel.entrySet()) {
-            Pair<Double, Double> bounds = entry.getValue();
-            if (randomValue >= bounds.getFirst() && randomValue < bounds.getSecond()) {
-                return entry.getKey();
-            }
-        }
-        return population.get((int) (Math.random() * population.size()));
+        return population.get(sampleIndex());
+    }
+
+    int sampleIndex() {
+        int column = random.nextInt(probability.length);
+        if (uniform)
+            return column;
+        return random.nextDouble() < probability[column] ? column : alias[column];
     }
 }
@@ -1,9 +1,29 @@
 package com.example.softcomputing.genetic.operators.selection;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import com.example.softcomputing.genetic.chromosome.Chromosome;
 
 public interface SelectionStrategy <C extends Chromosome<?>> {
 	 C selectIndividual(List<C> population);
+
+	 // called once per generation before any selection, even when the same list
+	 // instance is reused with new contents
+	 default void prepare(List<C> population) {
+	 }
+
+	 // `count` parents for one generation, consecutive pairs are mated; called after
+	 // prepare. Strategies with a cheaper batch form (SUS, primitive tournaments) override it
+	 default List<C> selectParents(List<C> population, int count) {
+		 if (count < 0) {
+			 throw new IllegalArgumentException(
+					 String.format("Parent count must not be negative, got: %d", count));
+		 }
+		 List<C> parents = new ArrayList<>(count);
+		 for (int i = 0; i < count; i++) {
+			 parents.add(selectIndividual(population));
+		 }
+		 return parents;
+	 }
 }
@@ -0,0 +1,77 @@
+package com.example.softcomputing.genetic.operators.selection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
+
+// Fitness-proportional selection like RouletteWheelSelection, but a generation's parents
+// are drawn in one SUS sweep (selectParents, O(n + k)), so the number of copies of each
+// individual stays within one of its expected value. Single picks binary search the
+// cumulative weights. Weights follow the same negative-fitness shift as the roulette.
+public class StochasticUniversalSampling<C extends Chromosome<?>> extends AbstractSeedable implements SelectionStrategy<C> {
+
+
+    private List<C> cachedPopulation;
+    private double[] cumulative = new double[0];
+    private int[] indices = new int[0];
+    private boolean uniform;
+
+    @Override
+    public void prepare(List<C> population) {
+        if (population == null || population.isEmpty()) {
+            throw new IllegalArgumentException("Population must not be null or empty");
+        }
+        int n = population.size();
+        if (cumulative.length != n) {
+            cumulative = new double[n];
+        }
+        double total = FitnessWeights.fill(population, cumulative);
+        for (int i = 1; i < n; i++) {
+            cumulative[i] += cumulative[i - 1];
+        }
+        uniform = !(total > 0) || Double.isInfinite(total);
+        cachedPopulation = population;
+    }
+
+    @Override
+    public C selectIndividual(List<C> population) {
+        ensurePrepared(population);
+        int n = cumulative.length;
+        if (uniform)
+            return population.get(random.nextInt(n));
+        return population.get(UniversalSampling.pick(cumulative, n, random.nextDouble() * cumulative[n - 1]));
+    }
+
+    @Override
+    public List<C> selectParents(List<C> population, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Parent count must not be negative, got: %d", count));
+        }
+        ensurePrepared(population);
+        int n = cumulative.length;
+        List<C> parents = new ArrayList<>(count);
+        if (uniform) {
+            for (int j = 0; j < count; j++) {
+                parents.add(population.get(random.nextInt(n)));
+            }
+            return parents;
+        }
+        if (indices.length < count) {
+            indices = new int[count];
+        }
+        UniversalSampling.sample(cumulative, n, indices, count, random);
+        for (int j = 0; j < count; j++) {
+            parents.add(population.get(indices[j]));
+        }
+        return parents;
+    }
+
+    private void ensurePrepared(List<C> population) {
+        if (cachedPopulation != population || cumulative.length != population.size()) {
+            prepare(population);
+        }
+    }
+}
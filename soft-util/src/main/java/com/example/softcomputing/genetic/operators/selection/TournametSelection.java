@@ -1,18 +1,28 @@
 package com.example.softcomputing.genetic.operators.selection;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.genetic.kernels.GeneKernels;
+import com.example.softcomputing.genetic.kernels.KernelScratch;
+import com.example.softcomputing.genetic.random.AbstractSeedable;
 
-public class TournametSelection<C extends Chromosome<?>> implements SelectionStrategy<C> {
+public class TournametSelection<C extends Chromosome<?>> extends AbstractSeedable implements SelectionStrategy<C> {
 
     private final int tournamentSize;
-    private final Random random;
+    // fitness snapshot for batch selection, so tournaments compare primitives
+    private double[] fitness = new double[0];
+    // contestants[r * count + j] is tournament j's round r draw; winners[j] its winner
+    private int[] contestants = new int[0];
+    private int[] winners = new int[0];
 
     public TournametSelection(int tournamentSize) {
+        if (tournamentSize <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Tournament size must be positive, got: %d", tournamentSize));
+        }
         this.tournamentSize = tournamentSize;
-        this.random = new Random();
     }
 
     @Override
@@ -38,4 +48,50 @@ public class TournametSelection<C extends Chromosome<?>> implements SelectionStr
 
         return best;
     }
-}
\ No newline at end of file
+
+    // the population's fitness is copied once into a primitive array, every contestant of
+    // the batch is drawn in one bulk fill, and the tournaments run side by side in the
+    // gene kernels, a vector of tournaments per step
+    @Override
+    public List<C> selectParents(List<C> population, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Parent count must not be negative, got: %d", count));
+        }
+        if (population == null || population.isEmpty()) {
+            throw new IllegalArgumentException("Population must not be null or empty");
+        }
+        if ((long) count * tournamentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    String.format("%d tournaments of %d are too many for one batch", count, tournamentSize));
+        }
+        int n = population.size();
+        if (fitness.length != n) {
+            fitness = new double[n];
+        }
+        for (int i = 0; i < n; i++) {
+            fitness[i] = population.get(i).getFitness();
+        }
+
+        int draws = count * tournamentSize;
+        if (contestants.length < draws) {
+            contestants = new int[draws];
+        }
+        if (winners.length < count) {
+            winners = new int[count];
+        }
+        double[] u = KernelScratch.doubles(draws);
+        GeneKernels.uniforms(random, u, 0, draws);
+        for (int i = 0; i < draws; i++) {
+            // u < 1, so the index is below n
+            contestants[i] = (int) (u[i] * n);
+        }
+        GeneKernels.get().tournament(fitness, contestants, tournamentSize, winners, count);
+
+        List<C> parents = new ArrayList<>(count);
+        for (int j = 0; j < count; j++) {
+            parents.add(population.get(winners[j]));
+        }
+        return parents;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.softcomputing.genetic.operators.selection;
+
+import java.util.random.RandomGenerator;
+
+// Sampling over cumulative weights c[0..n), c[i] being the sum of the first i + 1
+// weights. pick() is one binary search; sample() is stochastic universal sampling, one
+// random offset and `count` evenly spaced pointers swept in a single pass, so each
+// individual is chosen within one of its expected count.
+final class UniversalSampling {
+
+    private UniversalSampling() {
+    }
+
+    // smallest index whose cumulative weight exceeds `value`
+    static int pick(double[] cumulative, int n, double value) {
+        int low = 0;
+        int high = n - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] > value)
+                high = mid;
+            else
+                low = mid + 1;
+        }
+        return low;
+    }
+
+    // fills `indices[0..count)`, shuffled so that consecutive pairs are not neighbours on the wheel
+    static void sample(double[] cumulative, int n, int[] indices, int count, RandomGenerator random) {
+        if (count == 0)
+            return;
+        double step = cumulative[n - 1] / count;
+        double pointer = random.nextDouble() * step;
+        int i = 0;
+        for (int j = 0; j < count; j++, pointer += step) {
+            while (i < n - 1 && cumulative[i] <= pointer) {
+                i++;
+            }
+            indices[j] = i;
+        }
+        for (int j = count - 1; j > 0; j--) {
+            int k = random.nextInt(j + 1);
+            int swap = indices[j];
+            indices[j] = indices[k];
+            indices[k] = swap;
+        }
+    }
+}
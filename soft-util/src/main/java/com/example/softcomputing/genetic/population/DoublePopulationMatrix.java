@@ -0,0 +1,188 @@
+package com.example.softcomputing.genetic.population;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+
+// Structure-of-arrays store for a whole generation of real-valued genomes.
+// Each buffer holds every genome in one double[] (row i at i * geneLength) plus a
+// parallel fitness array. Two buffers alternate between parents and offspring, and
+// the row views handed to operators are created once, so swapping allocates nothing.
+public class DoublePopulationMatrix {
+
+    private final int populationSize;
+    private final int geneLength;
+    private final double lowerBound;
+    private final double upperBound;
+
+    private final double[][] genes = new double[2][];
+    private final double[][] fitness = new double[2][];
+    private final boolean[][] evaluated = new boolean[2][];
+    private final List<List<DoubleChromosome>> rows = new ArrayList<>(2);
+    private int current = 0;
+
+    public DoublePopulationMatrix(int populationSize, int geneLength, double lowerBound, double upperBound) {
+        if (populationSize <= 0) {
+            throw new IllegalArgumentException("Population size must be positive");
+        }
+        if (geneLength <= 0) {
+            throw new IllegalArgumentException("Gene length must be positive");
+        }
+        if ((long) populationSize * geneLength > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException(String.format(
+                    "%d x %d genes do not fit in one array", populationSize, geneLength));
+        }
+        this.populationSize = populationSize;
+        this.geneLength = geneLength;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+
+        for (int b = 0; b < 2; b++) {
+            genes[b] = new double[populationSize * geneLength];
+            fitness[b] = new double[populationSize];
+            evaluated[b] = new boolean[populationSize];
+            List<DoubleChromosome> views = new ArrayList<>(populationSize);
+            for (int r = 0; r < populationSize; r++) {
+                views.add(new Row(b, r));
+            }
+            rows.add(Collections.unmodifiableList(views));
+        }
+    }
+
+    // parents of the generation being bred
+    public List<DoubleChromosome> current() {
+        return rows.get(current);
+    }
+
+    // write targets for the offspring of the generation being bred
+    public List<DoubleChromosome> offspring() {
+        return rows.get(1 - current);
+    }
+
+    // offspring become the current generation
+    public void swap() {
+        current = 1 - current;
+    }
+
+    public double[] currentGenes() {
+        return genes[current];
+    }
+
+    public double[] currentFitness() {
+        return fitness[current];
+    }
+
+    public boolean isCurrent(DoubleChromosome chromosome) {
+        return chromosome instanceof Row && ((Row) chromosome).owner() == this
+                && ((Row) chromosome).buffer == current;
+    }
+
+    public boolean isOffspring(DoubleChromosome chromosome) {
+        return chromosome instanceof Row && ((Row) chromosome).owner() == this
+                && ((Row) chromosome).buffer != current;
+    }
+
+    // row index of a view created by this matrix, -1 otherwise
+    public int rowOf(DoubleChromosome chromosome) {
+        if (chromosome instanceof Row && ((Row) chromosome).owner() == this)
+            return ((Row) chromosome).row;
+        return -1;
+    }
+
+    public void randomize(RandomGenerator random) {
+        double[] g = genes[current];
+        double range = upperBound - lowerBound;
+        for (int i = 0; i < g.length; i++) {
+            g[i] = lowerBound + random.nextDouble() * range;
+        }
+        Arrays.fill(evaluated[current], false);
+    }
+
+    // copies an existing population into the current buffer
+    public void load(List<? extends Chromosome<Double>> population) {
+        if (population.size() != populationSize) {
+            throw new IllegalArgumentException(String.format(
+                    "Expected %d individuals, got: %d", populationSize, population.size()));
+        }
+        List<DoubleChromosome> target = current();
+        for (int r = 0; r < populationSize; r++) {
+            Chromosome<Double> source = population.get(r);
+            if (source.length() != geneLength) {
+                throw new IllegalArgumentException(String.format(
+                        "Expected %d genes, individual %d has %d", geneLength, r, source.length()));
+            }
+            DoubleChromosome row = target.get(r);
+            if (source instanceof DoubleChromosome) {
+                row.copyFrom((DoubleChromosome) source);
+                continue;
+            }
+            for (int i = 0; i < geneLength; i++) {
+                row.setDouble(i, source.getGene(i));
+            }
+            if (source.isEvaluated())
+                row.setFitness(source.getFitness());
+        }
+    }
+
+    public int getPopulationSize() {
+        return populationSize;
+    }
+
+    public int getGeneLength() {
+        return geneLength;
+    }
+
+    public double getLowerBound() {
+        return lowerBound;
+    }
+
+    public double getUpperBound() {
+        return upperBound;
+    }
+
+    private final class Row extends DoubleChromosome {
+        private final int buffer;
+        private final int row;
+
+        Row(int buffer, int row) {
+            super(genes[buffer], row * geneLength, geneLength, lowerBound, upperBound);
+            this.buffer = buffer;
+            this.row = row;
+        }
+
+        DoublePopulationMatrix owner() {
+            return DoublePopulationMatrix.this;
+        }
+
+        @Override
+        public double getFitness() {
+            return fitness[buffer][row];
+        }
+
+        @Override
+        public void setFitness(double value) {
+            fitness[buffer][row] = value;
+            evaluated[buffer][row] = true;
+        }
+
+        @Override
+        public boolean isEvaluated() {
+            return evaluated[buffer][row];
+        }
+
+        @Override
+        public void invalidateFitness() {
+            evaluated[buffer][row] = false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DoublePopulationMatrix(populationSize=%d, geneLength=%d)", populationSize, geneLength);
+    }
+}
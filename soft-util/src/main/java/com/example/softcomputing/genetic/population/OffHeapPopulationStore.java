@@ -0,0 +1,209 @@
+package com.example.softcomputing.genetic.population;
+
+import java.io.IOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Fixed-size pool of genome slots kept outside the Java heap, either in direct
+// memory or in a memory-mapped file. Each slot holds [fitness][evaluated flag][genes],
+// all as 8-byte native-order values. Slots are handed out by allocate() and come back
+// either through release() or automatically once the owning handle is garbage collected.
+// Releasing a slot that is already free is an error, so a slot is never handed out twice.
+public class OffHeapPopulationStore implements AutoCloseable {
+
+    // keep every chunk well under the 2 GB ByteBuffer limit
+    private static final long MAX_CHUNK_BYTES = 1L << 30;
+    private static final int HEADER_BYTES = 16;
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final int capacity;
+    private final int geneLength;
+    private final int slotBytes;
+    private final int slotsPerChunk;
+    private final ByteBuffer[] chunks;
+    private final FileChannel channel;
+
+    private final int[] freeSlots;
+    private final boolean[] allocated;
+    private int freeCount;
+
+    private OffHeapPopulationStore(int capacity, int geneLength, FileChannel channel) throws IOException {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (geneLength <= 0) {
+            throw new IllegalArgumentException("Gene length must be positive");
+        }
+        long bytes = HEADER_BYTES + 8L * geneLength;
+        if (bytes > MAX_CHUNK_BYTES) {
+            throw new IllegalArgumentException("Gene length too large for one slot: " + geneLength);
+        }
+        this.capacity = capacity;
+        this.geneLength = geneLength;
+        this.slotBytes = (int) bytes;
+        this.slotsPerChunk = (int) Math.min(capacity, MAX_CHUNK_BYTES / slotBytes);
+        this.channel = channel;
+
+        int chunkCount = (capacity + slotsPerChunk - 1) / slotsPerChunk;
+        this.chunks = new ByteBuffer[chunkCount];
+        for (int c = 0; c < chunkCount; c++) {
+            int slots = Math.min(slotsPerChunk, capacity - c * slotsPerChunk);
+            long size = (long) slots * slotBytes;
+            ByteBuffer chunk = channel == null
+                    ? ByteBuffer.allocateDirect((int) size)
+                    : channel.map(FileChannel.MapMode.READ_WRITE, (long) c * slotsPerChunk * slotBytes, size);
+            chunks[c] = chunk.order(ByteOrder.nativeOrder());
+        }
+
+        this.freeSlots = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
+            freeSlots[i] = capacity - 1 - i;
+        }
+        this.allocated = new boolean[capacity];
+        this.freeCount = capacity;
+    }
+
+    public static OffHeapPopulationStore direct(int capacity, int geneLength) {
+        try {
+            return new OffHeapPopulationStore(capacity, geneLength, null);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // the file is created or grown as needed; its content is not read back as a population
+    public static OffHeapPopulationStore mapped(Path file, int capacity, int geneLength) throws IOException {
+        FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            return new OffHeapPopulationStore(capacity, geneLength, ch);
+        } catch (IOException | RuntimeException e) {
+            ch.close();
+            throw e;
+        }
+    }
+
+    // returns a free slot; slots of unreachable handles come back only as the GC finds
+    // them, so a store without headroom fails here rather than forcing a collection
+    public synchronized int allocate() {
+        if (freeCount == 0) {
+            throw new IllegalStateException(String.format(
+                    "Off-heap store is full (%d slots in use); add headroom or release() unused handles",
+                    capacity));
+        }
+        int slot = freeSlots[--freeCount];
+        allocated[slot] = true;
+        setEvaluated(slot, false);
+        return slot;
+    }
+
+    public synchronized void release(int slot) {
+        checkSlot(slot);
+        if (!allocated[slot]) {
+            throw new IllegalStateException("Slot " + slot + " is already free");
+        }
+        allocated[slot] = false;
+        freeSlots[freeCount++] = slot;
+    }
+
+    // releases the slot when owner becomes unreachable; the returned handle releases it early
+    public Cleaner.Cleanable releaseWhenUnreachable(Object owner, int slot) {
+        return CLEANER.register(owner, () -> release(slot));
+    }
+
+    public double getGene(int slot, int index) {
+        return chunk(slot).getDouble(geneOffset(slot, index));
+    }
+
+    public void setGene(int slot, int index, double value) {
+        chunk(slot).putDouble(geneOffset(slot, index), value);
+    }
+
+    public void copyGenes(int fromSlot, int toSlot) {
+        for (int i = 0; i < geneLength; i++) {
+            setGene(toSlot, i, getGene(fromSlot, i));
+        }
+    }
+
+    public double getFitness(int slot) {
+        return chunk(slot).getDouble(slotOffset(slot));
+    }
+
+    public void setFitness(int slot, double fitness) {
+        ByteBuffer chunk = chunk(slot);
+        int base = slotOffset(slot);
+        chunk.putDouble(base, fitness);
+        chunk.putLong(base + 8, 1L);
+    }
+
+    public boolean isEvaluated(int slot) {
+        return chunk(slot).getLong(slotOffset(slot) + 8) != 0L;
+    }
+
+    public void setEvaluated(int slot, boolean evaluated) {
+        chunk(slot).putLong(slotOffset(slot) + 8, evaluated ? 1L : 0L);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getGeneLength() {
+        return geneLength;
+    }
+
+    public synchronized int getFreeCount() {
+        return freeCount;
+    }
+
+    public boolean isMapped() {
+        return channel != null;
+    }
+
+    // flushes a mapped store to its file; no-op for direct memory
+    public void force() {
+        if (channel == null)
+            return;
+        for (ByteBuffer chunk : chunks) {
+            ((MappedByteBuffer) chunk).force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            force();
+            channel.close();
+        }
+    }
+
+    private ByteBuffer chunk(int slot) {
+        return chunks[slot / slotsPerChunk];
+    }
+
+    private int slotOffset(int slot) {
+        return (slot % slotsPerChunk) * slotBytes;
+    }
+
+    private int geneOffset(int slot, int index) {
+        if (index < 0 || index >= geneLength)
+            throw new IndexOutOfBoundsException("Gene index " + index + " out of bounds for length " + geneLength);
+        return slotOffset(slot) + HEADER_BYTES + 8 * index;
+    }
+
+    private void checkSlot(int slot) {
+        if (slot < 0 || slot >= capacity)
+            throw new IndexOutOfBoundsException("Slot " + slot + " out of bounds for capacity " + capacity);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("OffHeapPopulationStore(capacity=%d, geneLength=%d, free=%d, mapped=%s)",
+                capacity, geneLength, getFreeCount(), isMapped());
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.softcomputing.genetic.random;
+
+import java.util.random.RandomGenerator;
+
+// Holds the generator of a Seedable operator or factory. Until the engine seeds it the
+// component draws from its own SplitMix64 stream, so unseeded components never share
+// one generator.
+public abstract class AbstractSeedable implements Seedable {
+
+    protected RandomGenerator random;
+
+    protected AbstractSeedable() {
+        this.random = new SplitMix64();
+    }
+
+    protected AbstractSeedable(RandomGenerator random) {
+        this.random = requireGenerator(random);
+    }
+
+    @Override
+    public RandomGenerator getRandom() {
+        return random;
+    }
+
+    @Override
+    public void setRandom(RandomGenerator random) {
+        this.random = requireGenerator(random);
+    }
+
+    private static RandomGenerator requireGenerator(RandomGenerator random) {
+        if (random == null) {
+            throw new IllegalArgumentException("Random generator must not be null");
+        }
+        return random;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.softcomputing.genetic.random;
+
+import java.util.random.RandomGenerator;
+
+// A generator several threads draw from at once: each thread gets its own stream, split
+// from the root on its first draw, so draws cost a ThreadLocal lookup instead of
+// contending on one state. Which thread gets which stream depends on scheduling, so
+// runs that share one are not reproducible draw for draw.
+public final class PerThreadSplitMix64 implements RandomGenerator {
+
+    private final SplitMix64 root;
+    private final ThreadLocal<SplitMix64> streams = ThreadLocal.withInitial(this::nextStream);
+
+    public PerThreadSplitMix64(SplitMix64 root) {
+        if (root == null) {
+            throw new IllegalArgumentException("Root generator must not be null");
+        }
+        this.root = root;
+    }
+
+    // the calling thread's stream, e.g. for bulk draws
+    public SplitMix64 current() {
+        return streams.get();
+    }
+
+    @Override
+    public long nextLong() {
+        return streams.get().nextLong();
+    }
+
+    @Override
+    public double nextDouble() {
+        return streams.get().nextDouble();
+    }
+
+    private synchronized SplitMix64 nextStream() {
+        return root.split();
+    }
+}
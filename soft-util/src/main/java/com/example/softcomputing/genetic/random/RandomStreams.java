@@ -0,0 +1,34 @@
+package com.example.softcomputing.genetic.random;
+
+// Fixed stream ids under a run seed, so a component's stream does not depend on the
+// order in which components are configured.
+public final class RandomStreams {
+
+    public static final long FACTORY = 1;
+    public static final long SELECTION = 2;
+    public static final long CROSSOVER = 3;
+    public static final long MUTATION = 4;
+    public static final long REPLACEMENT = 5;
+    public static final long MIGRATION = 6;
+    // islands, workers and other per-index streams start here
+    public static final long INDEXED = 1L << 32;
+
+    private RandomStreams() {
+    }
+
+    public static SplitMix64 of(long seed, long streamId) {
+        return SplitMix64.derive(seed, streamId);
+    }
+
+    public static SplitMix64 indexed(long seed, long index) {
+        return SplitMix64.derive(seed, INDEXED + index);
+    }
+
+    // hands `component` its stream if it is Seedable; returns whether it was
+    public static boolean seed(Object component, long seed, long streamId) {
+        if (!(component instanceof Seedable))
+            return false;
+        ((Seedable) component).setRandom(of(seed, streamId));
+        return true;
+    }
+}
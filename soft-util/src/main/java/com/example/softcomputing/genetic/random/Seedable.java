@@ -0,0 +1,12 @@
+package com.example.softcomputing.genetic.random;
+
+import java.util.random.RandomGenerator;
+
+// Components that draw random numbers. The engine replaces their generator with a
+// stream derived from the run seed, and saves and restores its state in checkpoints.
+public interface Seedable {
+
+    RandomGenerator getRandom();
+
+    void setRandom(RandomGenerator random);
+}
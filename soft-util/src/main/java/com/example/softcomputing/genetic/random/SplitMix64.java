@@ -0,0 +1,90 @@
+package com.example.softcomputing.genetic.random;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+// SplitMix64 (Steele, Lea and Flood). The state is two longs, a position and the odd
+// gamma it advances by per draw, so it can be saved and restored exactly. split()
+// derives statistically independent streams for threads, islands or individuals: like
+// SplittableRandom it gives each new generator its own gamma, so split streams are not
+// offsets into one sequence. An instance is not thread-safe: advancing the state
+// is a plain add, so each thread draws from its own split() stream (PerThreadSplitMix64
+// does this for a generator several threads share) and never contends on the state.
+public final class SplitMix64 implements RandomGenerator {
+
+    // the gamma of every generator that is not split from another
+    public static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    // only touched when an unseeded instance is created
+    private static final AtomicLong SEEDS = new AtomicLong(mix64(System.currentTimeMillis())
+            ^ mix64(System.nanoTime()));
+
+    private long state;
+    private final long gamma;
+
+    public SplitMix64(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    // gamma must be odd, as split() makes it
+    public SplitMix64(long seed, long gamma) {
+        if ((gamma & 1L) == 0) {
+            throw new IllegalArgumentException(String.format("Gamma must be odd, got: %016x", gamma));
+        }
+        this.state = seed;
+        this.gamma = gamma;
+    }
+
+    // seeded from a process-wide sequence, distinct from every other unseeded instance
+    public SplitMix64() {
+        this(mix64(SEEDS.addAndGet(GOLDEN_GAMMA)));
+    }
+
+    // stream `streamId` of a run seeded with `seed`; the same pair always gives the same stream
+    public static SplitMix64 derive(long seed, long streamId) {
+        return new SplitMix64(mix64(seed ^ mix64(streamId * GOLDEN_GAMMA + GOLDEN_GAMMA)));
+    }
+
+    @Override
+    public long nextLong() {
+        return mix64(state += gamma);
+    }
+
+    // a new generator with its own seed and gamma, both drawn from this one
+    public SplitMix64 split() {
+        long seed = nextLong();
+        return new SplitMix64(seed, mixGamma(state += gamma));
+    }
+
+    // the state after the last draw; draw k from here uses state + k * gamma, so bulk
+    // fills (GeneKernels.uniforms) compute a run of draws and move the state past it
+    public long getState() {
+        return state;
+    }
+
+    public long getGamma() {
+        return gamma;
+    }
+
+    public void setState(long state) {
+        this.state = state;
+    }
+
+    public static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // SplittableRandom's gamma mix: odd, with enough bit transitions to scatter the draws
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        return Long.bitCount(z ^ (z >>> 1)) < 24 ? z ^ 0xAAAAAAAAAAAAAAAAL : z;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SplitMix64(state=%016x, gamma=%016x)", state, gamma);
+    }
+}
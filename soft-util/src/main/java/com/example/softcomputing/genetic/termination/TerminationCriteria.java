@@ -0,0 +1,190 @@
+package com.example.softcomputing.genetic.termination;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.example.softcomputing.genetic.core.GenerationContext;
+import com.example.softcomputing.genetic.io.Checkpointable;
+
+public final class TerminationCriteria {
+
+    private TerminationCriteria() {
+    }
+
+    // stops once the best fitness reaches `target` (maximisation)
+    public static TerminationCriterion targetFitness(double target) {
+        return named("targetFitness(" + target + ")",
+                context -> context.getOverallBestFitness() >= target);
+    }
+
+    // stops after `generations` generations without a new overall best
+    public static TerminationCriterion stagnation(int generations) {
+        if (generations <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Stagnation window must be positive, got: %d", generations));
+        }
+        return named("stagnation(" + generations + ")",
+                context -> context.getGenerationsWithoutImprovement() >= generations);
+    }
+
+    // like stagnation(generations), but gains smaller than `minImprovement` do not count
+    public static TerminationCriterion stagnation(int generations, double minImprovement) {
+        if (generations <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Stagnation window must be positive, got: %d", generations));
+        }
+        if (minImprovement < 0.0) {
+            throw new IllegalArgumentException(
+                    String.format("Minimum improvement must not be negative, got: %.4f", minImprovement));
+        }
+        return new Stateful() {
+            private double reference = Double.NEGATIVE_INFINITY;
+            private long since = 0;
+
+            @Override
+            public boolean shouldTerminate(GenerationContext context) {
+                double best = context.getOverallBestFitness();
+                if (best > reference + minImprovement || reference == Double.NEGATIVE_INFINITY) {
+                    reference = best;
+                    since = context.getGeneration();
+                }
+                return context.getGeneration() - since >= generations;
+            }
+
+            @Override
+            public void writeState(DataOutput out) throws IOException {
+                out.writeDouble(reference);
+                out.writeLong(since);
+            }
+
+            @Override
+            public void readState(DataInput in) throws IOException {
+                reference = in.readDouble();
+                since = in.readLong();
+            }
+
+            @Override
+            public String toString() {
+                return "stagnation(" + generations + ", " + minImprovement + ")";
+            }
+        };
+    }
+
+    // stops when the population's mean per-gene standard deviation drops below `threshold`
+    public static TerminationCriterion diversityBelow(double threshold) {
+        return named("diversityBelow(" + threshold + ")",
+                context -> context.getDiversity() < threshold);
+    }
+
+    public static TerminationCriterion maxEvaluations(long evaluations) {
+        if (evaluations <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Evaluation budget must be positive, got: %d", evaluations));
+        }
+        return named("maxEvaluations(" + evaluations + ")",
+                context -> context.getEvaluations() >= evaluations);
+    }
+
+    // checked between generations, so a run may overshoot by one generation
+    public static TerminationCriterion wallClock(Duration budget) {
+        if (budget == null || budget.isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("Wall-clock budget must be positive, got: " + budget);
+        }
+        long nanos = budget.toNanos();
+        return named("wallClock(" + budget + ")", context -> context.getElapsedNanos() >= nanos);
+    }
+
+    public static TerminationCriterion maxGenerations(long generations) {
+        return named("maxGenerations(" + generations + ")",
+                context -> context.getGeneration() >= generations);
+    }
+
+    public static TerminationCriterion anyOf(TerminationCriterion... criteria) {
+        return new Combination("anyOf", copy(criteria), false);
+    }
+
+    public static TerminationCriterion allOf(TerminationCriterion... criteria) {
+        return new Combination("allOf", copy(criteria), true);
+    }
+
+    private static List<TerminationCriterion> copy(TerminationCriterion... criteria) {
+        if (criteria == null || criteria.length == 0) {
+            throw new IllegalArgumentException("At least one criterion is required");
+        }
+        for (TerminationCriterion criterion : criteria) {
+            if (criterion == null) {
+                throw new IllegalArgumentException("Criteria must not be null");
+            }
+        }
+        return new ArrayList<>(Arrays.asList(criteria));
+    }
+
+    private interface Stateful extends TerminationCriterion, Checkpointable {
+    }
+
+    // the state of a combination is that of its Checkpointable members, in order
+    private static final class Combination implements Stateful {
+        private final String name;
+        private final List<TerminationCriterion> criteria;
+        private final boolean all;
+
+        Combination(String name, List<TerminationCriterion> criteria, boolean all) {
+            this.name = name;
+            this.criteria = criteria;
+            this.all = all;
+        }
+
+        @Override
+        public boolean shouldTerminate(GenerationContext context) {
+            // every criterion sees every generation, so stateful ones stay in step
+            boolean terminate = all;
+            for (TerminationCriterion criterion : criteria) {
+                if (all)
+                    terminate &= criterion.shouldTerminate(context);
+                else
+                    terminate |= criterion.shouldTerminate(context);
+            }
+            return terminate;
+        }
+
+        @Override
+        public void writeState(DataOutput out) throws IOException {
+            for (TerminationCriterion criterion : criteria) {
+                if (criterion instanceof Checkpointable)
+                    ((Checkpointable) criterion).writeState(out);
+            }
+        }
+
+        @Override
+        public void readState(DataInput in) throws IOException {
+            for (TerminationCriterion criterion : criteria) {
+                if (criterion instanceof Checkpointable)
+                    ((Checkpointable) criterion).readState(in);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return name + criteria;
+        }
+    }
+
+    private static TerminationCriterion named(String name, TerminationCriterion criterion) {
+        return new TerminationCriterion() {
+            @Override
+            public boolean shouldTerminate(GenerationContext context) {
+                return criterion.shouldTerminate(context);
+            }
+
+            @Override
+            public String toString() {
+                return name;
+            }
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.softcomputing.genetic.termination;
+
+import com.example.softcomputing.genetic.core.GenerationContext;
+
+// Decides after each generation whether a run should stop. Criteria are checked on
+// the engine thread and may keep state, so use one instance per run. A criterion with
+// state also implements Checkpointable to have it carried over when a run resumes.
+@FunctionalInterface
+public interface TerminationCriterion {
+
+    boolean shouldTerminate(GenerationContext context);
+
+    default TerminationCriterion or(TerminationCriterion other) {
+        return TerminationCriteria.anyOf(this, other);
+    }
+
+    default TerminationCriterion and(TerminationCriterion other) {
+        return TerminationCriteria.allOf(this, other);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.softcomputing.genetic.utils;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.chromosome.IntChromosome;
+import com.example.softcomputing.genetic.chromosome.PackedBinaryChromosome;
+
+// Distance between two genotypes for crowding and similarity: squared Euclidean over
+// numeric genes, Hamming over packed bits and non-numeric genes. Positions past the
+// shorter chromosome are ignored. Primitive chromosomes are read without boxing.
+public final class GenotypeDistance {
+
+    private GenotypeDistance() {
+    }
+
+    public static double between(Chromosome<?> a, Chromosome<?> b) {
+        int length = Math.min(a.length(), b.length());
+        if (a instanceof DoubleChromosome && b instanceof DoubleChromosome) {
+            DoubleChromosome x = (DoubleChromosome) a;
+            DoubleChromosome y = (DoubleChromosome) b;
+            double sum = 0.0;
+            for (int i = 0; i < length; i++) {
+                double d = x.getDouble(i) - y.getDouble(i);
+                sum += d * d;
+            }
+            return sum;
+        }
+        if (a instanceof IntChromosome && b instanceof IntChromosome) {
+            IntChromosome x = (IntChromosome) a;
+            IntChromosome y = (IntChromosome) b;
+            double sum = 0.0;
+            for (int i = 0; i < length; i++) {
+                double d = (double) x.getInt(i) - y.getInt(i);
+                sum += d * d;
+            }
+            return sum;
+        }
+        if (a instanceof PackedBinaryChromosome && b instanceof PackedBinaryChromosome
+                && a.length() == b.length()) {
+            PackedBinaryChromosome x = (PackedBinaryChromosome) a;
+            PackedBinaryChromosome y = (PackedBinaryChromosome) b;
+            long bits = 0;
+            for (int w = 0; w < x.wordCount(); w++) {
+                bits += Long.bitCount(x.getWord(w) ^ y.getWord(w));
+            }
+            return bits;
+        }
+
+        double sum = 0.0;
+        for (int i = 0; i < length; i++) {
+            Object x = a.getGene(i);
+            Object y = b.getGene(i);
+            if (x instanceof Number && y instanceof Number) {
+                double d = ((Number) x).doubleValue() - ((Number) y).doubleValue();
+                sum += d * d;
+            } else if (x == null ? y != null : !x.equals(y)) {
+                sum += 1.0;
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.softcomputing.genetic.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+
+// Genotype diversity as the mean over gene positions of the per-position standard
+// deviation. 0 means every individual is identical; for 0/1 genes the maximum is 0.5.
+// Genes that are not numbers are ignored. Allocates, so not meant for inner loops.
+public final class PopulationDiversity {
+
+    private PopulationDiversity() {
+    }
+
+    public static double of(List<? extends Chromosome<?>> population) {
+        List<double[]> vectors = new ArrayList<>(population.size());
+        for (Chromosome<?> individual : population) {
+            Object[] genes = individual.toArray();
+            double[] values = new double[genes.length];
+            for (int i = 0; i < genes.length; i++) {
+                values[i] = genes[i] instanceof Number ? ((Number) genes[i]).doubleValue() : 0.0;
+            }
+            vectors.add(values);
+        }
+        return ofVectors(vectors);
+    }
+
+    // positions missing from shorter vectors are skipped
+    public static double ofVectors(List<double[]> vectors) {
+        if (vectors.size() < 2)
+            return 0.0;
+
+        int length = 0;
+        for (double[] v : vectors) {
+            length = Math.max(length, v.length);
+        }
+        if (length == 0)
+            return 0.0;
+
+        double[] mean = new double[length];
+        double[] m2 = new double[length];
+        int[] count = new int[length];
+        // Welford's update per position
+        for (double[] v : vectors) {
+            for (int i = 0; i < v.length; i++) {
+                count[i]++;
+                double delta = v[i] - mean[i];
+                mean[i] += delta / count[i];
+                m2[i] += delta * (v[i] - mean[i]);
+            }
+        }
+
+        double total = 0.0;
+        int positions = 0;
+        for (int i = 0; i < length; i++) {
+            if (count[i] > 0) {
+                total += Math.sqrt(m2[i] / count[i]);
+                positions++;
+            }
+        }
+        return positions == 0 ? 0.0 : total / positions;
+    }
+}
@@ -4,28 +4,39 @@ import com.example.softcomputing.genetic.chromosome.BinaryChromosome;
 import com.example.softcomputing.genetic.chromosome.IntegerChromosome;
 import com.example.softcomputing.genetic.chromosome.Factories.FloatingPointChromosomeFactory;
 import com.example.softcomputing.genetic.chromosome.FloatingPointChromosome;
+import com.example.softcomputing.genetic.random.SplitMix64;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
+// Each overload without a generator draws from a fresh SplitMix64 stream; pass one
+// (e.g. RandomStreams.of(seed, RandomStreams.FACTORY)) to get a reproducible population.
 public class PopulationInitializer {
 
-    
     public static List<BinaryChromosome> randomBinaryPopulation(int populationSize, int geneLength) {
+        return randomBinaryPopulation(populationSize, geneLength, new SplitMix64());
+    }
+
+    public static List<BinaryChromosome> randomBinaryPopulation(int populationSize, int geneLength,
+            RandomGenerator random) {
         List<BinaryChromosome> population = new ArrayList<>(populationSize);
         for (int i = 0; i < populationSize; i++) {
-            population.add(BinaryChromosome.random(geneLength));
+            population.add(BinaryChromosome.random(geneLength, random));
         }
         return population;
     }
 
     public static List<IntegerChromosome> randomIntegerPopulation(int populationSize, int geneLength, int min, int max) {
+        return randomIntegerPopulation(populationSize, geneLength, min, max, new SplitMix64());
+    }
+
+    public static List<IntegerChromosome> randomIntegerPopulation(int populationSize, int geneLength, int min, int max,
+            RandomGenerator random) {
         List<IntegerChromosome> population = new ArrayList<>(populationSize);
-        Random rnd = new Random();
         for (int i = 0; i < populationSize; i++) {
             Integer[] genes = new Integer[geneLength];
             for (int g = 0; g < geneLength; g++) {
-                genes[g] = rnd.nextInt(max - min + 1) + min;
+                genes[g] = random.nextInt(max - min + 1) + min;
             }
             population.add(new IntegerChromosome(genes));
         }
@@ -33,9 +44,13 @@ public class PopulationInitializer {
     }
 
     public static List<FloatingPointChromosome> randomFloatingPopulation(int populationSize, int geneLength, double lowerBound, double upperBound) {
-        List<FloatingPointChromosome> population = new ArrayList<>(populationSize);
+        return randomFloatingPopulation(populationSize, geneLength, lowerBound, upperBound, new SplitMix64());
+    }
+
+    public static List<FloatingPointChromosome> randomFloatingPopulation(int populationSize, int geneLength,
+            double lowerBound, double upperBound, RandomGenerator random) {
         FloatingPointChromosomeFactory factory = new FloatingPointChromosomeFactory(lowerBound, upperBound);
-        population = factory.createPopulation(populationSize, geneLength);
-        return population;
+        factory.setRandom(random);
+        return factory.createPopulation(populationSize, geneLength);
     }
 }
@@ -0,0 +1,174 @@
+package com.example.softcomputing.genetic.utils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+
+// Index-based partial selection over a fitness array, without sorting the whole array
+// or boxing. The order is the one a stable descending sort gives: higher fitness first
+// (Double.compare, so NaN ranks above everything), ties to the lower index. A bounded
+// heap of k indices makes it O(n log k); from PARALLEL_THRESHOLD values on, chunks are
+// selected in parallel and merged, which yields the same indices.
+public final class TopK {
+
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private TopK() {
+    }
+
+    public static double[] fitnessOf(List<? extends Chromosome<?>> population) {
+        double[] fitness = new double[population.size()];
+        for (int i = 0; i < fitness.length; i++) {
+            fitness[i] = population.get(i).getFitness();
+        }
+        return fitness;
+    }
+
+    // indices of the k highest values, best first
+    public static int[] largest(double[] values, int k) {
+        return select(values, k, true);
+    }
+
+    // indices of the k lowest values (the last k of the stable descending order), worst first
+    public static int[] smallest(double[] values, int k) {
+        return select(values, k, false);
+    }
+
+    // appends the `count` fittest of `individuals` to `into`. Few are picked best first;
+    // when most survive, the worst are dropped instead and the rest keep their order
+    public static <C extends Chromosome<?>> void addFittest(List<C> individuals, int count, List<C> into) {
+        int n = individuals.size();
+        if (count >= n) {
+            into.addAll(individuals);
+            return;
+        }
+        double[] fitness = fitnessOf(individuals);
+        if (count <= n / 2) {
+            for (int index : largest(fitness, count)) {
+                into.add(individuals.get(index));
+            }
+            return;
+        }
+        boolean[] dropped = new boolean[n];
+        for (int index : smallest(fitness, n - count)) {
+            dropped[index] = true;
+        }
+        for (int i = 0; i < n; i++) {
+            if (!dropped[i])
+                into.add(individuals.get(i));
+        }
+    }
+
+    private static int[] select(double[] values, int k, boolean largest) {
+        int n = values.length;
+        if (k < 0 || k > n) {
+            throw new IllegalArgumentException(
+                    String.format("Cannot select %d of %d values", k, n));
+        }
+        if (k == 0)
+            return new int[0];
+        if (n < PARALLEL_THRESHOLD || k > n / 8) {
+            return selectRange(values, 0, n, k, largest).drain();
+        }
+
+        int chunks = Math.min(Runtime.getRuntime().availableProcessors() * 4, n / k);
+        int chunkSize = (n + chunks - 1) / chunks;
+        int[][] partial = IntStream.range(0, chunks).parallel()
+                .mapToObj(c -> selectRange(values, c * chunkSize, Math.min(n, (c + 1) * chunkSize), k, largest)
+                        .drain())
+                .toArray(int[][]::new);
+
+        Heap merged = new Heap(values, k, largest);
+        for (int[] candidates : partial) {
+            for (int index : candidates) {
+                merged.offer(index);
+            }
+        }
+        return merged.drain();
+    }
+
+    private static Heap selectRange(double[] values, int from, int to, int k, boolean largest) {
+        Heap heap = new Heap(values, Math.min(k, to - from), largest);
+        for (int i = from; i < to; i++) {
+            heap.offer(i);
+        }
+        return heap;
+    }
+
+    // keeps the `capacity` top-ranked indices offered; the root is the lowest ranked kept
+    private static final class Heap {
+        private final double[] values;
+        private final int[] heap;
+        private final boolean largest;
+        private int size;
+
+        Heap(double[] values, int capacity, boolean largest) {
+            this.values = values;
+            this.heap = new int[capacity];
+            this.largest = largest;
+        }
+
+        // whether index a comes before index b in the requested order
+        private boolean ranksAbove(int a, int b) {
+            int c = Double.compare(values[a], values[b]);
+            if (c == 0)
+                return largest ? a < b : a > b;
+            return largest ? c > 0 : c < 0;
+        }
+
+        void offer(int index) {
+            if (heap.length == 0)
+                return;
+            if (size < heap.length) {
+                heap[size] = index;
+                siftUp(size++);
+            } else if (ranksAbove(index, heap[0])) {
+                heap[0] = index;
+                siftDown(0, size);
+            }
+        }
+
+        // heap sort in place: the lowest ranked goes to the back, so the result is highest ranked first
+        int[] drain() {
+            for (int end = size - 1; end > 0; end--) {
+                int root = heap[0];
+                heap[0] = heap[end];
+                heap[end] = root;
+                siftDown(0, end);
+            }
+            int[] result = size == heap.length ? heap : Arrays.copyOf(heap, size);
+            size = 0;
+            return result;
+        }
+
+        private void siftUp(int i) {
+            int index = heap[i];
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!ranksAbove(heap[parent], index))
+                    break;
+                heap[i] = heap[parent];
+                i = parent;
+            }
+            heap[i] = index;
+        }
+
+        private void siftDown(int i, int end) {
+            int index = heap[i];
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= end)
+                    break;
+                if (child + 1 < end && ranksAbove(heap[child], heap[child + 1]))
+                    child++;
+                if (!ranksAbove(index, heap[child]))
+                    break;
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = index;
+        }
+    }
+}
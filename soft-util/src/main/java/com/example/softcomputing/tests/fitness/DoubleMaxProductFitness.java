@@ -0,0 +1,15 @@
+package com.example.softcomputing.tests.fitness;
+
+import com.example.softcomputing.utils.DoubleFitnessFunction;
+
+public class DoubleMaxProductFitness implements DoubleFitnessFunction {
+
+    @Override
+    public double evaluate(double[] genes, int offset, int length) {
+        double product = 1.0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            product *= genes[i];
+        }
+        return product;
+    }
+}
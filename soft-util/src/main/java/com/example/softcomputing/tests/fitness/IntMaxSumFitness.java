@@ -0,0 +1,15 @@
+package com.example.softcomputing.tests.fitness;
+
+import com.example.softcomputing.utils.IntFitnessFunction;
+
+public class IntMaxSumFitness implements IntFitnessFunction {
+
+    @Override
+    public double evaluate(int[] genes, int offset, int length) {
+        long sum = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            sum += genes[i];
+        }
+        return sum;
+    }
+}
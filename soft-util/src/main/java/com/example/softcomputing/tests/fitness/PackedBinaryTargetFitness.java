@@ -0,0 +1,22 @@
+package com.example.softcomputing.tests.fitness;
+
+import com.example.softcomputing.genetic.chromosome.PackedBinaryChromosome;
+import com.example.softcomputing.utils.FitnessFunction;
+
+public class PackedBinaryTargetFitness implements FitnessFunction<PackedBinaryChromosome> {
+
+    private final long[] targetWords;
+
+    public PackedBinaryTargetFitness(int[] target) {
+        this.targetWords = PackedBinaryChromosome.fromBits(target).copyWords();
+    }
+
+    public PackedBinaryTargetFitness(PackedBinaryChromosome target) {
+        this.targetWords = target.copyWords();
+    }
+
+    @Override
+    public double evaluate(PackedBinaryChromosome chromosome) {
+        return chromosome.countMatches(targetWords);
+    }
+}
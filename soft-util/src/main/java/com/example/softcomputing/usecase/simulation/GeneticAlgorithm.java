@@ -13,8 +13,18 @@ import java.util.List;
 import java.util.OptionalDouble;
 import java.util.Random;
 
+import javax.management.ObjectName;
+
 import com.example.softcomputing.genetic.chromosome.Factories.FloatingPointChromosomeFactory;
 import com.example.softcomputing.genetic.chromosome.FloatingPointChromosome;
+import com.example.softcomputing.genetic.core.RunControl;
+import com.example.softcomputing.genetic.management.ManagementSupport;
+import com.example.softcomputing.genetic.metrics.GenerationEvent;
+import com.example.softcomputing.genetic.metrics.MetricsRecorder;
+import com.example.softcomputing.genetic.metrics.MetricsSnapshot;
+import com.example.softcomputing.genetic.metrics.OperatorPhaseEvent;
+import com.example.softcomputing.genetic.metrics.Phase;
+import com.example.softcomputing.genetic.metrics.ReplacementEvent;
 import com.example.softcomputing.genetic.operators.crossover.CrossoverStrategy;
 import com.example.softcomputing.genetic.operators.mutation.MutationStrategy;
 import com.example.softcomputing.genetic.operators.replacement.Replacement;
@@ -34,7 +44,8 @@ public class GeneticAlgorithm {
     private final Replacement<FloatingPointChromosome> replacementStrategy;
     private final FloatingPointChromosomeFactory chromosomeFactory;
 
-    private List<Car> population;
+    // read by the MBean thread, replaced each generation
+    private volatile List<Car> population;
     private int generation;
     private double bestFitness;
     private Car bestCar;
@@ -44,6 +55,15 @@ public class GeneticAlgorithm {
     private final long GENERATION_TIMEOUT_MS = 30_000;
     InfeasibleSolution<FloatingPointChromosome> infeasibleCheck = new CarInfeasibleSolution();
     private final Random random = new Random();
+    private final MetricsRecorder metrics = new MetricsRecorder();
+    private final RunControl control = new RunControl();
+    // registered by start(), unregistered by finish()
+    private ObjectName mbeanName;
+    private long pausedAt = 0;
+    private boolean finished = false;
+    // spans the current generation, from the first simulation tick to the end of evolution
+    private GenerationEvent generationEvent = new GenerationEvent();
+    private static final String ENGINE = "RaceSimulation";
 
     public GeneticAlgorithm(
             int populationSize,
@@ -63,6 +83,19 @@ public class GeneticAlgorithm {
         this.generation = 0;
     }
 
+    // the run starts with the first simulation tick; the MBean lives from here until finish()
+    public synchronized void start() {
+        if (mbeanName == null && !finished)
+            mbeanName = ManagementSupport.register("SimulationGeneticAlgorithm", new SimulationMonitor(this));
+    }
+
+    // ends the run: no further ticks or generations, and the MBean is unregistered
+    public synchronized void finish() {
+        finished = true;
+        ManagementSupport.unregister(mbeanName);
+        mbeanName = null;
+    }
+
     // Initialize population of cars at starting position
     public void initializePopulation() {
         population.clear();
@@ -76,20 +109,29 @@ public class GeneticAlgorithm {
         }
 
         generationStartTime = System.currentTimeMillis();
+        startGeneration();
         System.out.println("Initialized population with " + populationSize + " cars at position (" +
                 (int) startPos[0] + ", " + (int) startPos[1] + ")");
     }
 
     public void updatePopulation() {
+        if (finished || pausedTick())
+            return;
+
+        OperatorPhaseEvent tickEvent = new OperatorPhaseEvent();
+        tickEvent.begin();
+        long start = System.nanoTime();
         aliveCars = 0;
         Car currentBest = null;
         double maxFitness = Double.NEGATIVE_INFINITY;
+        double totalFitness = 0.0;
 
         for (Car car : population) {
             car.update();
             if (car.isAlive())
                 aliveCars++;
 
+            totalFitness += car.getFitness();
             if (car.getFitness() > maxFitness) {
                 maxFitness = car.getFitness();
                 currentBest = car;
@@ -99,10 +141,37 @@ public class GeneticAlgorithm {
         // Store best car for this generation to visualize it
         bestCar = currentBest;
         bestFitness = maxFitness;
+        avgFitness = population.isEmpty() ? 0.0 : totalFitness / population.size();
+        // driving the cars is how this GA evaluates fitness
+        metrics.record(Phase.EVALUATION, System.nanoTime() - start);
+        tickEvent.end();
+        if (tickEvent.shouldCommit()) {
+            tickEvent.engine = ENGINE;
+            tickEvent.phase = Phase.EVALUATION.name();
+            tickEvent.generation = generation;
+            tickEvent.individuals = aliveCars;
+            tickEvent.commit();
+        }
+    }
+
+    // while paused the cars are frozen and the generation timeout does not run
+    private boolean pausedTick() {
+        if (control.isPaused()) {
+            if (pausedAt == 0)
+                pausedAt = System.currentTimeMillis();
+            return true;
+        }
+        if (pausedAt != 0) {
+            generationStartTime += System.currentTimeMillis() - pausedAt;
+            pausedAt = 0;
+        }
+        return false;
     }
 
     // determine if generation should evolve
     public boolean shouldEvolve() {
+        if (finished || control.isPaused())
+            return false;
         long elapsed = System.currentTimeMillis() - generationStartTime;
         boolean timeoutReached = elapsed >= GENERATION_TIMEOUT_MS;
         boolean allDead = aliveCars == 0;
@@ -111,6 +180,18 @@ public class GeneticAlgorithm {
 
     // evolve to next generation
     public void evolveGeneration() {
+        if (finished)
+            return;
+        metrics.recordEvaluations(population.size());
+        if (control.isStopRequested()) {
+            // the generation that just ran is the last one
+            metrics.endGeneration();
+            commitGeneration();
+            finish();
+            System.out.println("Evolution stopped on request after generation " + generation);
+            return;
+        }
+
         generation++;
         // Convert cars to chromosomes
         List<FloatingPointChromosome> parents = new ArrayList<>(populationSize);
@@ -130,15 +211,31 @@ public class GeneticAlgorithm {
         bestFitness = max.orElse(0);
         // new population
         List<FloatingPointChromosome> newChromosomes = new ArrayList<>(populationSize);
+        long selectionNanos = 0;
+        long crossoverNanos = 0;
+        long mutationNanos = 0;
+        OperatorPhaseEvent breedingEvent = new OperatorPhaseEvent();
+        breedingEvent.begin();
+        long t0 = System.nanoTime();
+        // all parents of the generation in one batch, consecutive pairs mate
+        selectionStrategy.prepare(parents);
+        List<FloatingPointChromosome> mates = selectionStrategy.selectParents(parents,
+                populationSize + (populationSize & 1));
+        int nextMate = 0;
         // create new chromosomes until we reach population size
         while (newChromosomes.size() < populationSize) {
-            FloatingPointChromosome parent1 = selectionStrategy.selectIndividual(parents);
-            FloatingPointChromosome parent2 = selectionStrategy.selectIndividual(parents);
-            // we can log the selected parents for the first few operations
-            int p1Index = parents.indexOf(parent1);
-            int p2Index = parents.indexOf(parent2);
+            if (nextMate + 1 >= mates.size()) {
+                mates = selectionStrategy.selectParents(parents, 2 * (populationSize - newChromosomes.size()));
+                nextMate = 0;
+            }
+            FloatingPointChromosome parent1 = mates.get(nextMate++);
+            FloatingPointChromosome parent2 = mates.get(nextMate++);
+            long t1 = System.nanoTime();
+            selectionNanos += t1 - t0;
             // crossover
             List<FloatingPointChromosome> children = crossoverStrategy.crossover(parent1, parent2);
+            long t2 = System.nanoTime();
+            crossoverNanos += t2 - t1;
             // mutation for each child
             for (int childIdx = 0; childIdx < children.size(); childIdx++) {
                 FloatingPointChromosome child = children.get(childIdx);
@@ -152,10 +249,38 @@ public class GeneticAlgorithm {
                 if (newChromosomes.size() >= populationSize)
                     break;
             }
+            t0 = System.nanoTime();
+            mutationNanos += t0 - t2;
+        }
+        metrics.record(Phase.SELECTION, selectionNanos);
+        metrics.record(Phase.CROSSOVER, crossoverNanos);
+        metrics.record(Phase.MUTATION, mutationNanos);
+        breedingEvent.end();
+        if (breedingEvent.shouldCommit()) {
+            breedingEvent.engine = ENGINE;
+            breedingEvent.phase = OperatorPhaseEvent.BREEDING;
+            breedingEvent.generation = generation;
+            breedingEvent.individuals = newChromosomes.size();
+            breedingEvent.selectionTime = selectionNanos;
+            breedingEvent.crossoverTime = crossoverNanos;
+            breedingEvent.mutationTime = mutationNanos;
+            breedingEvent.commit();
         }
         // replacement
+        ReplacementEvent replacementEvent = new ReplacementEvent();
+        replacementEvent.begin();
         List<FloatingPointChromosome> nextGenChromosomes = replacementStrategy.replacePopulation(parents,
                 newChromosomes);
+        metrics.record(Phase.REPLACEMENT, System.nanoTime() - t0);
+        replacementEvent.end();
+        if (replacementEvent.shouldCommit()) {
+            replacementEvent.engine = ENGINE;
+            replacementEvent.generation = generation;
+            replacementEvent.policy = replacementStrategy.getClass().getSimpleName();
+            replacementEvent.populationSize = parents.size();
+            replacementEvent.offspring = newChromosomes.size();
+            replacementEvent.commit();
+        }
         // create new cars from chromosomes
         List<Car> newPopulation = new ArrayList<>(populationSize);
         double[] startPos = { 150, 700 };
@@ -177,9 +302,32 @@ public class GeneticAlgorithm {
 
         this.population = newPopulation;
 
+        metrics.endGeneration();
+        commitGeneration();
+        startGeneration();
         generationStartTime = System.currentTimeMillis();
     }
 
+    private void startGeneration() {
+        metrics.startGeneration();
+        generationEvent = new GenerationEvent();
+        generationEvent.generation = generation;
+        generationEvent.begin();
+    }
+
+    // reports the generation whose cars were just driven
+    private void commitGeneration() {
+        generationEvent.end();
+        if (generationEvent.shouldCommit()) {
+            generationEvent.engine = ENGINE;
+            generationEvent.populationSize = populationSize;
+            generationEvent.evaluations = populationSize;
+            generationEvent.bestFitness = bestFitness;
+            generationEvent.meanFitness = avgFitness;
+            generationEvent.commit();
+        }
+    }
+
     // Getters
     public int getAliveCars() {
         return aliveCars;
@@ -208,4 +356,20 @@ public class GeneticAlgorithm {
     public boolean[][] getTrackGrid() {
         return trackGrid;
     }
+
+    public MetricsSnapshot getMetrics() {
+        return metrics.getSnapshot();
+    }
+
+    public RunControl getControl() {
+        return control;
+    }
+
+    public MutationStrategy<FloatingPointChromosome> getMutationStrategy() {
+        return mutationStrategy;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
 }
\ No newline at end of file
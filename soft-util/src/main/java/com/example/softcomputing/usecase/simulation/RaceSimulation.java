@@ -1,5 +1,7 @@
 package com.example.softcomputing.usecase.simulation;
 
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.File;
@@ -58,6 +60,14 @@ public class RaceSimulation extends JFrame {
         setResizable(false);
         add(canvas);
         setLocationRelativeTo(null);
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                if (updateTimer != null)
+                    updateTimer.stop();
+                geneticAlgorithm.finish();
+            }
+        });
 
         if (TRAINING_MODE) {
             System.out.println("Starting in TRAINING mode - Evolution enabled");
@@ -104,6 +114,7 @@ public class RaceSimulation extends JFrame {
     // start the simulation loop
     @SuppressWarnings("unused")
     private void startSimulation() {
+        geneticAlgorithm.start();
         updateTimer = new Timer(16, e -> {
             geneticAlgorithm.updatePopulation();
 
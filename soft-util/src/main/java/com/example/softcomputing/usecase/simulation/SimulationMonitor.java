@@ -0,0 +1,60 @@
+package com.example.softcomputing.usecase.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.softcomputing.genetic.core.RunControl;
+import com.example.softcomputing.genetic.management.AbstractRunMonitor;
+import com.example.softcomputing.genetic.metrics.MetricsSnapshot;
+import com.example.softcomputing.genetic.utils.PopulationDiversity;
+import com.example.softcomputing.usecase.simulation.entity.Car;
+
+// MBean for the racing GA; diversity is measured over the cars' network weights.
+public class SimulationMonitor extends AbstractRunMonitor {
+
+    private final GeneticAlgorithm algorithm;
+
+    public SimulationMonitor(GeneticAlgorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    @Override
+    public long getGeneration() {
+        return algorithm.getGeneration();
+    }
+
+    @Override
+    public double getBestFitness() {
+        return algorithm.getBestFitness();
+    }
+
+    @Override
+    public double getMeanFitness() {
+        return algorithm.getAvgFitness();
+    }
+
+    @Override
+    public double getDiversity() {
+        List<Car> cars = algorithm.getPopulation();
+        List<double[]> weights = new ArrayList<>(cars.size());
+        for (Car car : cars) {
+            weights.add(car.getNeuralNetwork().flatten());
+        }
+        return PopulationDiversity.ofVectors(weights);
+    }
+
+    @Override
+    protected MetricsSnapshot metrics() {
+        return algorithm.getMetrics();
+    }
+
+    @Override
+    protected RunControl control() {
+        return algorithm.getControl();
+    }
+
+    @Override
+    protected Object mutation() {
+        return algorithm.getMutationStrategy();
+    }
+}
@@ -77,6 +77,11 @@ public final class AppLogger {
         logger.log(Level.FINE, msg);
     }
 
+    // lets callers skip building messages that would be discarded
+    public boolean isDebugEnabled() {
+        return logger.isLoggable(Level.FINE);
+    }
+
     public void warn(String msg) {
         logger.log(Level.WARNING, msg);
     }
@@ -0,0 +1,14 @@
+package com.example.softcomputing.utils;
+
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+
+// Fitness over the primitive genes of a DoubleChromosome, read as genes[offset .. offset + length).
+public interface DoubleFitnessFunction extends FitnessFunction<DoubleChromosome> {
+
+    double evaluate(double[] genes, int offset, int length);
+
+    @Override
+    default double evaluate(DoubleChromosome chromosome) {
+        return evaluate(chromosome.rawGenes(), chromosome.offset(), chromosome.length());
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.softcomputing.utils;
+
+import com.example.softcomputing.genetic.chromosome.IntChromosome;
+
+// Fitness over the primitive genes of an IntChromosome, read as genes[offset .. offset + length);
+// an IntChromosome owns its whole array, so it is scored with offset 0.
+public interface IntFitnessFunction extends FitnessFunction<IntChromosome> {
+
+    double evaluate(int[] genes, int offset, int length);
+
+    @Override
+    default double evaluate(IntChromosome chromosome) {
+        return evaluate(chromosome.rawGenes(), 0, chromosome.length());
+    }
+}
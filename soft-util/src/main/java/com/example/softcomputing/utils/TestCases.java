@@ -26,6 +26,7 @@ import com.example.softcomputing.genetic.operators.replacement.SteadyStateReplac
 import com.example.softcomputing.genetic.operators.selection.RandomSelection;
 import com.example.softcomputing.genetic.operators.selection.RankSelection;
 import com.example.softcomputing.genetic.operators.selection.RouletteWheelSelection;
+import com.example.softcomputing.genetic.random.SplitMix64;
 import com.example.softcomputing.genetic.utils.PopulationInitializer;
 import com.example.softcomputing.tests.fitness.DecFromBinFitness;
 import com.example.softcomputing.tests.fitness.MaxProductFitness;
@@ -47,8 +48,9 @@ public class TestCases {
                                 populationSize, geneLength, mutationRate, maxGenerations));
 
                 List<BinaryChromosome> population = new ArrayList<>();
+                SplitMix64 rnd = new SplitMix64();
                 for (int i = 0; i < populationSize; i++) {
-                        population.add(BinaryChromosome.random(geneLength));
+                        population.add(BinaryChromosome.random(geneLength, rnd));
                 }
 
                 ChromosomeFactory<Integer, BinaryChromosome> factory = new BinaryChromosomeFactory();
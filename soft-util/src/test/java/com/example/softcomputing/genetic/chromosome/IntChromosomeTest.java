@@ -0,0 +1,78 @@
+package com.example.softcomputing.genetic.chromosome;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.softcomputing.genetic.chromosome.Factories.IntChromosomeFactory;
+import com.example.softcomputing.genetic.random.SplitMix64;
+
+class IntChromosomeTest {
+
+    @Test
+    void copyKeepsGenesAndFitnessInItsOwnArray() {
+        IntChromosome original = new IntChromosome(new int[] { 1, 2, 3 }, IntGeneDomain.uniform(3, 0, 9));
+        original.setFitness(6);
+
+        IntChromosome copy = original.copy();
+        original.setInt(0, 9);
+
+        assertArrayEquals(new int[] { 1, 2, 3 }, copy.toIntArray());
+        assertEquals(6, copy.getFitness());
+        assertNotSame(original.rawGenes(), copy.rawGenes());
+        assertFalse(original.isEvaluated());
+    }
+
+    @Test
+    void rejectsADomainOfAnotherLength() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new IntChromosome(new int[2], IntGeneDomain.uniform(3, 0, 1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new IntChromosome(new int[3], IntGeneDomain.uniform(3, 0, 1)).copyFrom(
+                        new IntChromosome(new int[2], IntGeneDomain.uniform(2, 0, 1))));
+    }
+
+    @Test
+    void domainRejectsInvertedRanges() {
+        assertThrows(IllegalArgumentException.class, () -> new IntGeneDomain(new int[] { 0, 5 }, new int[] { 1, 4 }));
+        assertEquals(1L << 32, IntGeneDomain.uniform(1, Integer.MIN_VALUE, Integer.MAX_VALUE).size(0));
+    }
+
+    @Test
+    void factoryFillsEveryGeneInsideItsDomain() {
+        IntGeneDomain domain = new IntGeneDomain(new int[] { -3, 0, 100 }, new int[] { 3, 0, 200 });
+        IntChromosomeFactory factory = new IntChromosomeFactory(domain);
+        factory.setRandom(new SplitMix64(1));
+
+        List<IntChromosome> population = factory.createPopulation(500, 3);
+
+        boolean lowSeen = false, highSeen = false;
+        for (IntChromosome individual : population) {
+            for (int g = 0; g < 3; g++) {
+                assertTrue(domain.contains(g, individual.getInt(g)), "gene " + g + " = " + individual.getInt(g));
+            }
+            lowSeen |= individual.getInt(0) == -3;
+            highSeen |= individual.getInt(0) == 3;
+        }
+        assertTrue(lowSeen && highSeen, "both ends of the range are drawn");
+    }
+
+    @Test
+    void factoryRejectsBadInput() {
+        IntChromosomeFactory factory = new IntChromosomeFactory(0, 9);
+
+        assertThrows(IllegalArgumentException.class, () -> factory.create((int[]) null));
+        assertThrows(IllegalArgumentException.class, () -> factory.create(new Integer[] { 1, null }));
+        assertThrows(IllegalArgumentException.class, () -> factory.createPopulation(1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new IntChromosomeFactory(5, 4));
+        factory.create(new int[4]);
+        assertThrows(IllegalArgumentException.class, () -> factory.create(new int[5]));
+    }
+}
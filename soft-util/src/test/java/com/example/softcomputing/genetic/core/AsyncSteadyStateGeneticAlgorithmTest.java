@@ -0,0 +1,78 @@
+package com.example.softcomputing.genetic.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.chromosome.Factories.DoubleChromosomeFactory;
+import com.example.softcomputing.genetic.operators.crossover.CrossoverStrategy;
+import com.example.softcomputing.genetic.operators.crossover.DoubleUniformCrossover;
+import com.example.softcomputing.genetic.operators.crossover.SinglePointCrossover;
+import com.example.softcomputing.genetic.operators.mutation.DoubleUniformMutation;
+import com.example.softcomputing.genetic.operators.replacement.HeapReplacement;
+import com.example.softcomputing.genetic.operators.replacement.Replacement;
+import com.example.softcomputing.genetic.operators.replacement.SteadyStateReplacement;
+import com.example.softcomputing.genetic.operators.selection.TournametSelection;
+import com.example.softcomputing.tests.fitness.DoubleMaxProductFitness;
+
+class AsyncSteadyStateGeneticAlgorithmTest {
+
+    private static final DoubleChromosomeFactory FACTORY = new DoubleChromosomeFactory(0, 10);
+
+    private static AsyncSteadyStateGeneticAlgorithm<DoubleChromosome> engine(Replacement<DoubleChromosome> replacement) {
+        return engine(replacement, new DoubleUniformCrossover(0.5, 0.5));
+    }
+
+    private static AsyncSteadyStateGeneticAlgorithm<DoubleChromosome> engine(Replacement<DoubleChromosome> replacement,
+            CrossoverStrategy<DoubleChromosome> crossover) {
+        return AsyncSteadyStateGeneticAlgorithm.from(GeneticAlgorithm.<DoubleChromosome>builder()
+                .withChromosomeFactory(FACTORY)
+                .withPopulationSize(40)
+                .withGeneLength(8)
+                .withSeed(42)
+                .withPopulation()
+                .withSelectionStrategy(new TournametSelection<>(2))
+                .withCrossoverStrategy(crossover)
+                .withMutationStrategy(new DoubleUniformMutation(0.3))
+                .withReplacementStrategy(replacement)
+                .withFitnessFunction(new DoubleMaxProductFitness())
+                .withParallelism(4)
+                .withMaxGenerations(200));
+    }
+
+    private static void assertConsistent(AsyncSteadyStateGeneticAlgorithm<DoubleChromosome> ga) {
+        DoubleMaxProductFitness fitness = new DoubleMaxProductFitness();
+        DoubleChromosome best = ga.run();
+        List<DoubleChromosome> population = ga.getPopulation();
+
+        Set<double[]> genes = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (DoubleChromosome individual : population) {
+            assertEquals(fitness.evaluate(individual), individual.getFitness(), 1e-9);
+            assertTrue(genes.add(individual.rawGenes()), "two members share one gene array");
+        }
+        assertEquals(fitness.evaluate(best), best.getFitness(), 1e-9);
+    }
+
+    @Test
+    void heapReplacementKeepsFitnessAndGenesConsistent() {
+        assertConsistent(engine(new HeapReplacement<>(HeapReplacement.Policy.PARENT)));
+    }
+
+    @Test
+    void steadyStateReplacementKeepsFitnessAndGenesConsistent() {
+        assertConsistent(engine(new SteadyStateReplacement<>(1)));
+    }
+
+    @Test
+    void parentsPassedThroughAreCopiedBeforeMutation() {
+        // mostly returns the parents themselves, which the in-place mutation must not touch
+        assertConsistent(engine(new SteadyStateReplacement<>(1), new SinglePointCrossover<>(0.2, FACTORY)));
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.softcomputing.genetic.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.chromosome.Factories.DoubleChromosomeFactory;
+import com.example.softcomputing.genetic.operators.crossover.DoubleUniformCrossover;
+import com.example.softcomputing.genetic.operators.mutation.DoubleNonUniformMutation;
+import com.example.softcomputing.genetic.operators.replacement.ElitismReplacement;
+import com.example.softcomputing.genetic.operators.selection.TournametSelection;
+import com.example.softcomputing.genetic.population.DoublePopulationMatrix;
+import com.example.softcomputing.tests.fitness.DoubleMaxProductFitness;
+
+class DoubleMatrixGeneticAlgorithmTest {
+
+    private static DoubleMatrixGeneticAlgorithm engine(int generations, long seed) {
+        GeneticAlgorithmBuilder<DoubleChromosome> builder = GeneticAlgorithm.<DoubleChromosome>builder()
+                .withChromosomeFactory(new DoubleChromosomeFactory(0, 10))
+                .withPopulationSize(60)
+                .withGeneLength(20)
+                .withSeed(seed)
+                .withSelectionStrategy(new TournametSelection<>(3))
+                .withCrossoverStrategy(new DoubleUniformCrossover(0.9, 0.5))
+                .withMutationStrategy(new DoubleNonUniformMutation(0.05, generations, 2))
+                .withReplacementStrategy(new ElitismReplacement<>(2))
+                .withFitnessFunction(new DoubleMaxProductFitness())
+                .withMaxGenerations(generations);
+        return DoubleMatrixGeneticAlgorithm.from(builder, new DoublePopulationMatrix(60, 20, 0, 10));
+    }
+
+    @Test
+    void sameSeedGivesSameRun() {
+        DoubleMatrixGeneticAlgorithm first = engine(30, 5);
+        DoubleMatrixGeneticAlgorithm second = engine(30, 5);
+        first.run();
+        second.run();
+
+        assertEquals(first.getBestFitness(), second.getBestFitness());
+        assertArrayEquals(first.getBestGenes(), second.getBestGenes());
+        assertEquals(first.getEvaluationCount(), second.getEvaluationCount());
+    }
+
+    @Test
+    void survivorsKeepFitnessMatchingTheirGenes() {
+        DoubleMatrixGeneticAlgorithm ga = engine(30, 9);
+        ga.run();
+
+        DoubleMaxProductFitness fitness = new DoubleMaxProductFitness();
+        double generationBest = Double.NEGATIVE_INFINITY;
+        for (DoubleChromosome row : ga.getMatrix().current()) {
+            assertTrue(row.isEvaluated());
+            assertEquals(fitness.evaluate(row), row.getFitness());
+            for (int i = 0; i < row.length(); i++) {
+                assertTrue(row.getDouble(i) >= 0 && row.getDouble(i) <= 10);
+            }
+            generationBest = Math.max(generationBest, row.getFitness());
+        }
+        // elitism keeps the best ever found in the last generation
+        assertEquals(ga.getBestFitness(), generationBest);
+    }
+
+    @Test
+    void bestGenesScoreTheReportedFitness() {
+        DoubleMatrixGeneticAlgorithm ga = engine(30, 13);
+        ga.run();
+
+        DoubleChromosome best = new DoubleChromosome(ga.getBestGenes(), 0, 10);
+        assertEquals(ga.getBestFitness(), new DoubleMaxProductFitness().evaluate(best));
+        // children copied unchanged from their parents keep the parents' fitness
+        assertTrue(ga.getEvaluationCount() > 60 && ga.getEvaluationCount() <= 60 * 31);
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.softcomputing.genetic.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.chromosome.Factories.DoubleChromosomeFactory;
+import com.example.softcomputing.genetic.operators.crossover.DoubleUniformCrossover;
+import com.example.softcomputing.genetic.operators.mutation.DoubleNonUniformMutation;
+import com.example.softcomputing.genetic.operators.replacement.ElitismReplacement;
+import com.example.softcomputing.genetic.operators.selection.TournametSelection;
+import com.example.softcomputing.genetic.termination.TerminationCriteria;
+import com.example.softcomputing.tests.fitness.DoubleMaxProductFitness;
+import com.example.softcomputing.utils.FitnessFunction;
+
+class GeneticAlgorithmTest {
+
+    private static GeneticAlgorithmBuilder<DoubleChromosome> builder(long generations, long seed) {
+        return GeneticAlgorithm.<DoubleChromosome>builder()
+                .withChromosomeFactory(new DoubleChromosomeFactory(0, 10))
+                .withPopulationSize(100)
+                .withGeneLength(30)
+                .withSeed(seed)
+                .withPopulation()
+                .withSelectionStrategy(new TournametSelection<>(3))
+                .withCrossoverStrategy(new DoubleUniformCrossover(0.9, 0.5))
+                .withMutationStrategy(new DoubleNonUniformMutation(0.05, 100, 2))
+                .withReplacementStrategy(new ElitismReplacement<>(2))
+                .withFitnessFunction(new DoubleMaxProductFitness())
+                .withMaxGenerations(generations);
+    }
+
+    @Test
+    void sameSeedGivesSameRun() {
+        GeneticAlgorithm<DoubleChromosome> first = builder(40, 42).build();
+        GeneticAlgorithm<DoubleChromosome> second = builder(40, 42).build();
+        first.run();
+        second.run();
+
+        assertEquals(first.getBestFitness(), second.getBestFitness());
+        assertArrayEquals(first.getBest().toDoubleArray(), second.getBest().toDoubleArray());
+    }
+
+    @Test
+    void seedAppliesWhateverTheOrder() {
+        GeneticAlgorithm<DoubleChromosome> seededFirst = builder(1, 42).build();
+        GeneticAlgorithm<DoubleChromosome> seededLast = builder(1, 0).withPopulation().withSeed(42).build();
+
+        List<DoubleChromosome> expected = seededFirst.getPopulation(), actual = seededLast.getPopulation();
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i).toDoubleArray(), actual.get(i).toDoubleArray());
+        }
+    }
+
+    @Test
+    void membersNeverShareGenes() {
+        GeneticAlgorithm<DoubleChromosome> ga = builder(40, 7).build();
+        ga.run();
+
+        List<DoubleChromosome> population = ga.getPopulation();
+        Set<double[]> genes = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (DoubleChromosome individual : population) {
+            assertTrue(genes.add(individual.rawGenes()), "two members share one gene array");
+        }
+        assertFalse(genes.contains(ga.getBest().rawGenes()), "best shares its genes with a member");
+    }
+
+    @Test
+    void cachedFitnessMatchesGenes() {
+        GeneticAlgorithm<DoubleChromosome> ga = builder(40, 11).build();
+        ga.run();
+
+        DoubleMaxProductFitness fitness = new DoubleMaxProductFitness();
+        for (DoubleChromosome individual : ga.getPopulation()) {
+            assertTrue(individual.isEvaluated());
+            assertEquals(fitness.evaluate(individual), individual.getFitness());
+        }
+        assertEquals(fitness.evaluate(ga.getBest()), ga.getBestFitness());
+    }
+
+    @Test
+    void copiesNeverBoxGenesThroughTheFactory() {
+        AtomicInteger boxed = new AtomicInteger();
+        DoubleChromosomeFactory factory = new DoubleChromosomeFactory(0, 10) {
+            @Override
+            public DoubleChromosome create(Double[] genes) {
+                boxed.incrementAndGet();
+                return super.create(genes);
+            }
+        };
+        GeneticAlgorithm<DoubleChromosome> ga = builder(40, 3).withChromosomeFactory(factory).withPopulation().build();
+        ga.run();
+
+        assertEquals(0, boxed.get());
+    }
+
+    @Test
+    void resumedRunEqualsUninterruptedRun(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("ga.ckpt");
+        GeneticAlgorithm<DoubleChromosome> uninterrupted = builder(40, 42).build();
+        uninterrupted.run();
+
+        builder(20, 42).withCheckpointing(file, 1000).build().run();
+        GeneticAlgorithm<DoubleChromosome> resumed = builder(40, 42).build();
+        resumed.resumeFrom(file);
+        resumed.run();
+
+        assertEquals(uninterrupted.getBestFitness(), resumed.getBestFitness());
+        assertArrayEquals(uninterrupted.getBest().toDoubleArray(), resumed.getBest().toDoubleArray());
+        assertNotSame(uninterrupted.getBest(), resumed.getBest());
+    }
+
+    @Test
+    void resumedRunKeepsStagnationState(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("ga.ckpt");
+        FitnessFunction<DoubleChromosome> flat = individual -> 1.0;
+
+        builder(6, 42).withFitnessFunction(flat)
+                .withTerminationCriterion(TerminationCriteria.stagnation(10))
+                .withCheckpointing(file, 1000).build().run();
+        GeneticAlgorithm<DoubleChromosome> plain = builder(100, 42).withFitnessFunction(flat)
+                .withTerminationCriterion(TerminationCriteria.stagnation(10)).build();
+        plain.resumeFrom(file);
+        plain.run();
+
+        builder(6, 42).withFitnessFunction(flat)
+                .withTerminationCriterion(TerminationCriteria.anyOf(TerminationCriteria.stagnation(10, 0.5),
+                        TerminationCriteria.maxGenerations(1000)))
+                .withCheckpointing(file, 1000).build().run();
+        GeneticAlgorithm<DoubleChromosome> stateful = builder(100, 42).withFitnessFunction(flat)
+                .withTerminationCriterion(TerminationCriteria.anyOf(TerminationCriteria.stagnation(10, 0.5),
+                        TerminationCriteria.maxGenerations(1000)))
+                .build();
+        stateful.resumeFrom(file);
+        stateful.run();
+
+        // both count from the start of the interrupted run, not from the resume
+        assertEquals(10, plain.getGeneration());
+        assertEquals(10, stateful.getGeneration());
+    }
+}
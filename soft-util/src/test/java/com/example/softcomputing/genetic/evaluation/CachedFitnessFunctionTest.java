@@ -0,0 +1,162 @@
+package com.example.softcomputing.genetic.evaluation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.softcomputing.genetic.chromosome.BinaryChromosome;
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.chromosome.IntChromosome;
+import com.example.softcomputing.genetic.chromosome.IntGeneDomain;
+import com.example.softcomputing.genetic.chromosome.IntegerChromosome;
+import com.example.softcomputing.genetic.chromosome.PackedBinaryChromosome;
+import com.example.softcomputing.utils.FitnessFunction;
+
+class CachedFitnessFunctionTest {
+
+    // counts calls and scores every genome by its gene sum
+    private static final class CountingSum<C extends Chromosome<? extends Number>> implements FitnessFunction<C> {
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public double evaluate(C chromosome) {
+            calls.incrementAndGet();
+            double sum = 0;
+            for (int i = 0; i < chromosome.length(); i++) {
+                sum += chromosome.getGene(i).doubleValue();
+            }
+            return sum;
+        }
+    }
+
+    @Test
+    void equalGenomesHitAndChangedGenomesMiss() {
+        CountingSum<DoubleChromosome> sum = new CountingSum<>();
+        CachedFitnessFunction<DoubleChromosome> cached = new CachedFitnessFunction<>(sum, 10);
+        DoubleChromosome a = new DoubleChromosome(new double[] { 1, 2, 3 }, 0, 10);
+
+        assertEquals(6, cached.evaluate(a));
+        assertEquals(6, cached.evaluate(a.copy()));
+        a.setDouble(0, 4);
+        assertEquals(9, cached.evaluate(a));
+
+        assertEquals(2, sum.calls.get());
+        assertEquals(1, cached.getHitCount());
+        assertEquals(2, cached.getMissCount());
+    }
+
+    @Test
+    void storedKeysDoNotFollowLaterChanges() {
+        CountingSum<IntChromosome> sum = new CountingSum<>();
+        CachedFitnessFunction<IntChromosome> cached = new CachedFitnessFunction<>(sum, 10);
+        IntChromosome individual = new IntChromosome(new int[] { 1, 1 }, IntGeneDomain.uniform(2, 0, 9));
+
+        cached.evaluate(individual);
+        individual.setInt(1, 5);
+
+        assertEquals(6, cached.evaluate(individual));
+        assertEquals(2, sum.calls.get());
+    }
+
+    @Test
+    void chromosomeTypesWithEqualWordsDoNotCollide() {
+        CountingSum<Chromosome<Integer>> sum = new CountingSum<>();
+        CachedFitnessFunction<Chromosome<Integer>> cached = new CachedFitnessFunction<>(sum, 10);
+
+        cached.evaluate(new BinaryChromosome(new int[] { 1, 0, 1 }));
+        cached.evaluate(new IntegerChromosome(new Integer[] { 1, 0, 1 }));
+        cached.evaluate(PackedBinaryChromosome.fromBits(new int[] { 1, 0, 1 }));
+        cached.evaluate(new IntegerChromosome(new Integer[] { 1, 0, 1 }));
+
+        assertEquals(3, sum.calls.get());
+    }
+
+    @Test
+    void otherChromosomesFallBackToTheirGenes() {
+        CountingSum<Chromosome<Integer>> sum = new CountingSum<>();
+        CachedFitnessFunction<Chromosome<Integer>> cached = new CachedFitnessFunction<>(sum, 10);
+        Integer[] genes = { 3, 4 };
+
+        cached.evaluate(new ForeignChromosome(genes));
+        cached.evaluate(new ForeignChromosome(genes.clone()));
+        cached.evaluate(new ForeignChromosome(new Integer[] { 4, 3 }));
+
+        assertEquals(2, sum.calls.get());
+        assertEquals(1, cached.getHitCount());
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsed() {
+        CountingSum<DoubleChromosome> sum = new CountingSum<>();
+        CachedFitnessFunction<DoubleChromosome> cached = new CachedFitnessFunction<>(sum, 2);
+        DoubleChromosome a = new DoubleChromosome(new double[] { 1 }, 0, 10);
+        DoubleChromosome b = new DoubleChromosome(new double[] { 2 }, 0, 10);
+        DoubleChromosome c = new DoubleChromosome(new double[] { 3 }, 0, 10);
+
+        cached.evaluate(a);
+        cached.evaluate(b);
+        cached.evaluate(a);
+        cached.evaluate(c);
+        cached.evaluate(a);
+
+        assertEquals(3, sum.calls.get());
+        assertEquals(1, cached.getEvictionCount());
+        assertEquals(2, cached.size());
+    }
+
+    @Test
+    void rejectsNonPositiveSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new CachedFitnessFunction<DoubleChromosome>(new CountingSum<>(), 0));
+    }
+
+    private static final class ForeignChromosome implements Chromosome<Integer> {
+        private final Integer[] genes;
+
+        ForeignChromosome(Integer[] genes) {
+            this.genes = genes;
+        }
+
+        @Override
+        public Integer[] toArray() {
+            return genes;
+        }
+
+        @Override
+        public int length() {
+            return genes.length;
+        }
+
+        @Override
+        public Integer getGene(int index) {
+            return genes[index];
+        }
+
+        @Override
+        public void setGene(int index, Integer value) {
+            genes[index] = value;
+        }
+
+        @Override
+        public double getFitness() {
+            return 0;
+        }
+
+        @Override
+        public void setFitness(double fitness) {
+        }
+
+        @Override
+        public boolean isEvaluated() {
+            return false;
+        }
+
+        @Override
+        public void invalidateFitness() {
+        }
+    }
+}
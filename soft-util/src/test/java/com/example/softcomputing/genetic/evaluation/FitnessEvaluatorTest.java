@@ -0,0 +1,78 @@
+package com.example.softcomputing.genetic.evaluation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.random.SplitMix64;
+import com.example.softcomputing.tests.fitness.DoubleMaxProductFitness;
+import com.example.softcomputing.utils.FitnessFunction;
+
+class FitnessEvaluatorTest {
+
+    private static List<DoubleChromosome> population(int size) {
+        SplitMix64 random = new SplitMix64(1);
+        List<DoubleChromosome> population = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            double[] genes = new double[16];
+            for (int g = 0; g < genes.length; g++) {
+                genes[g] = random.nextDouble(0, 2);
+            }
+            population.add(new DoubleChromosome(genes, 0, 2));
+        }
+        return population;
+    }
+
+    @Test
+    void everyModeScoresLikeTheSequentialEvaluator() {
+        DoubleMaxProductFitness fitness = new DoubleMaxProductFitness();
+        for (EvaluationMode mode : EvaluationMode.values()) {
+            List<DoubleChromosome> population = population(1000);
+            try (FitnessEvaluator<DoubleChromosome> evaluator = mode.create(4)) {
+                evaluator.evaluate(population, fitness);
+            }
+            for (DoubleChromosome individual : population) {
+                assertTrue(individual.isEvaluated(), mode.toString());
+                assertEquals(fitness.evaluate(individual), individual.getFitness(), mode.toString());
+            }
+        }
+    }
+
+    @Test
+    void forkJoinEvaluatorCanBeUsedAgainAfterClose() {
+        ForkJoinEvaluator<DoubleChromosome> evaluator = new ForkJoinEvaluator<>(2, 1);
+        List<DoubleChromosome> population = population(50);
+
+        evaluator.evaluate(population, new DoubleMaxProductFitness());
+        evaluator.close();
+        population.forEach(DoubleChromosome::invalidateFitness);
+        evaluator.evaluate(population, new DoubleMaxProductFitness());
+        evaluator.close();
+
+        assertTrue(population.stream().allMatch(DoubleChromosome::isEvaluated));
+    }
+
+    @Test
+    void failuresReachTheCaller() {
+        FitnessFunction<DoubleChromosome> failing = individual -> {
+            throw new IllegalStateException("boom");
+        };
+        for (EvaluationMode mode : EvaluationMode.values()) {
+            try (FitnessEvaluator<DoubleChromosome> evaluator = mode.create(2)) {
+                assertThrows(RuntimeException.class, () -> evaluator.evaluate(population(20), failing), mode.toString());
+            }
+        }
+    }
+
+    @Test
+    void rejectsNonPositiveParallelism() {
+        assertThrows(IllegalArgumentException.class, () -> new ForkJoinEvaluator<DoubleChromosome>(0));
+        assertThrows(IllegalArgumentException.class, () -> new VirtualThreadEvaluator<DoubleChromosome>(0));
+    }
+}
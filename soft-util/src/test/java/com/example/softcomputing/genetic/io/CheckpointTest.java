@@ -0,0 +1,94 @@
+package com.example.softcomputing.genetic.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.chromosome.Factories.DoubleChromosomeFactory;
+
+class CheckpointTest {
+
+    private static Checkpoint<DoubleChromosome> sample() {
+        List<DoubleChromosome> population = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            DoubleChromosome individual = new DoubleChromosome(new double[] { i, i + 0.5, -i }, -10, 10);
+            individual.setFitness(i);
+            population.add(individual);
+        }
+        Map<String, byte[]> states = new LinkedHashMap<>();
+        states.put("selection", new byte[] { 1, 2, 3 });
+        return new Checkpoint<>(12, 340, 4, population, population.get(4).copy(), states);
+    }
+
+    @Test
+    void roundTripsThroughBytes() throws IOException {
+        Checkpoint<DoubleChromosome> original = sample();
+
+        Checkpoint<DoubleChromosome> back = Checkpoint.read(ByteBuffer.wrap(original.toBytes()),
+                new DoubleChromosomeFactory(-10, 10));
+
+        assertEquals(12, back.getGeneration());
+        assertEquals(340, back.getEvaluations());
+        assertEquals(4, back.getBestFitness());
+        assertEquals(5, back.getPopulation().size());
+        for (int i = 0; i < 5; i++) {
+            assertArrayEquals(original.getPopulation().get(i).toDoubleArray(),
+                    back.getPopulation().get(i).toDoubleArray());
+            assertEquals(i, back.getPopulation().get(i).getFitness());
+        }
+        assertArrayEquals(original.getBest().toDoubleArray(), back.getBest().toDoubleArray());
+        assertArrayEquals(new byte[] { 1, 2, 3 }, back.getStates().get("selection"));
+    }
+
+    @Test
+    void roundTripsWithoutBest() throws IOException {
+        Checkpoint<DoubleChromosome> original = new Checkpoint<>(0, 0, 0, new ArrayList<>(), null,
+                new LinkedHashMap<>());
+
+        Checkpoint<DoubleChromosome> back = Checkpoint.read(ByteBuffer.wrap(original.toBytes()),
+                new DoubleChromosomeFactory(0, 1));
+
+        assertNull(back.getBest());
+        assertEquals(0, back.getPopulation().size());
+    }
+
+    @Test
+    void rejectsCorruptedBytes() {
+        byte[] bytes = sample().toBytes();
+        bytes[bytes.length / 2] ^= 0x10;
+
+        assertThrows(IOException.class,
+                () -> Checkpoint.read(ByteBuffer.wrap(bytes), new DoubleChromosomeFactory(-10, 10)));
+    }
+
+    @Test
+    void rejectsTruncatedBytes() {
+        assertThrows(IOException.class,
+                () -> Checkpoint.read(ByteBuffer.wrap(new byte[6]), new DoubleChromosomeFactory(-10, 10)));
+    }
+
+    @Test
+    void readLineFollowsDataInputStream() {
+        ByteBufferDataInput in = new ByteBufferDataInput(
+                ByteBuffer.wrap("one\r\ntwo\rthree\n\nlast".getBytes(StandardCharsets.ISO_8859_1)));
+
+        assertEquals("one", in.readLine());
+        assertEquals("two", in.readLine());
+        assertEquals("three", in.readLine());
+        assertEquals("", in.readLine());
+        assertEquals("last", in.readLine());
+        assertNull(in.readLine());
+    }
+}
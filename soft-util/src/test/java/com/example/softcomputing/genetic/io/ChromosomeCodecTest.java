@@ -0,0 +1,98 @@
+package com.example.softcomputing.genetic.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.softcomputing.genetic.chromosome.BinaryChromosome;
+import com.example.softcomputing.genetic.chromosome.Chromosome;
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.chromosome.IntChromosome;
+import com.example.softcomputing.genetic.chromosome.PackedBinaryChromosome;
+import com.example.softcomputing.genetic.chromosome.Factories.BinaryChromosomeFactory;
+import com.example.softcomputing.genetic.chromosome.Factories.ChromosomeFactory;
+import com.example.softcomputing.genetic.chromosome.Factories.DoubleChromosomeFactory;
+import com.example.softcomputing.genetic.chromosome.Factories.IntChromosomeFactory;
+import com.example.softcomputing.genetic.chromosome.Factories.PackedBinaryChromosomeFactory;
+import com.example.softcomputing.genetic.random.SplitMix64;
+
+class ChromosomeCodecTest {
+
+    private static <G, C extends Chromosome<G>> C roundTrip(C chromosome, ChromosomeFactory<G, C> factory)
+            throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ChromosomeCodec.write(chromosome, new DataOutputStream(bytes));
+        return ChromosomeCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), factory);
+    }
+
+    @Test
+    void doubleChromosomeRoundTrips() throws IOException {
+        double[] genes = new double[10000];
+        for (int i = 0; i < genes.length; i++) {
+            genes[i] = i * 1e-4;
+        }
+        DoubleChromosome original = new DoubleChromosome(genes, -1, 1);
+        original.setFitness(3);
+
+        DoubleChromosome back = roundTrip(original, new DoubleChromosomeFactory(-1, 1));
+
+        assertArrayEquals(genes, back.toDoubleArray());
+        assertTrue(back.isEvaluated());
+        assertEquals(3, back.getFitness());
+    }
+
+    @Test
+    void intChromosomeRoundTrips() throws IOException {
+        IntChromosomeFactory factory = new IntChromosomeFactory(-5, 5);
+        IntChromosome original = factory.create(new int[] { -5, 0, 3, 5, -1 });
+
+        IntChromosome back = roundTrip(original, factory);
+
+        assertArrayEquals(original.toIntArray(), back.toIntArray());
+        assertFalse(back.isEvaluated());
+    }
+
+    @Test
+    void binaryChromosomeRoundTrips() throws IOException {
+        BinaryChromosome original = BinaryChromosome.random(130, new SplitMix64(1));
+        original.setFitness(-2.5);
+
+        BinaryChromosome back = roundTrip(original, new BinaryChromosomeFactory());
+
+        assertArrayEquals(original.toArray(), back.toArray());
+        assertEquals(-2.5, back.getFitness());
+    }
+
+    @Test
+    void packedBinaryChromosomeRoundTrips() throws IOException {
+        PackedBinaryChromosome original = PackedBinaryChromosome.random(200, new SplitMix64(2));
+
+        PackedBinaryChromosome back = roundTrip(original, new PackedBinaryChromosomeFactory());
+
+        assertEquals(original, back);
+        assertEquals(original.cardinality(), back.cardinality());
+    }
+
+    @Test
+    void rejectsGeneCountAboveLimit() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(ChromosomeCodec.DOUBLES);
+        out.writeByte(0);
+        out.writeDouble(0);
+        out.writeInt(ChromosomeCodec.DEFAULT_MAX_GENES + 1);
+
+        assertThrows(IOException.class, () -> ChromosomeCodec.read(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), new DoubleChromosomeFactory(0, 1)));
+    }
+}
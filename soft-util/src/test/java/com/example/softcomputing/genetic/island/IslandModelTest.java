@@ -0,0 +1,146 @@
+package com.example.softcomputing.genetic.island;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.chromosome.Factories.DoubleChromosomeFactory;
+import com.example.softcomputing.genetic.core.GeneticAlgorithm;
+import com.example.softcomputing.genetic.core.GeneticAlgorithmBuilder;
+import com.example.softcomputing.genetic.evaluation.FitnessEvaluator;
+import com.example.softcomputing.genetic.operators.crossover.DoubleUniformCrossover;
+import com.example.softcomputing.genetic.operators.mutation.DoubleNonUniformMutation;
+import com.example.softcomputing.genetic.operators.replacement.ElitismReplacement;
+import com.example.softcomputing.genetic.operators.selection.TournametSelection;
+import com.example.softcomputing.genetic.termination.TerminationCriteria;
+import com.example.softcomputing.utils.FitnessFunction;
+
+class IslandModelTest {
+
+    private static final int GENES = 5;
+    private static final double OPTIMUM = 7.123;
+
+    // 0 only at OPTIMUM in every gene, which random search never hits exactly
+    private static final FitnessFunction<DoubleChromosome> DISTANCE = individual -> {
+        double sum = 0;
+        for (int i = 0; i < individual.length(); i++) {
+            double d = individual.getDouble(i) - OPTIMUM;
+            sum += d * d;
+        }
+        return 0.0 - sum;
+    };
+
+    static GeneticAlgorithmBuilder<DoubleChromosome> island(long seed, int generations) {
+        return GeneticAlgorithm.<DoubleChromosome>builder()
+                .withChromosomeFactory(new DoubleChromosomeFactory(0, 10))
+                .withPopulationSize(30)
+                .withGeneLength(GENES)
+                .withSeed(seed)
+                .withPopulation()
+                .withSelectionStrategy(new TournametSelection<>(2))
+                .withCrossoverStrategy(new DoubleUniformCrossover(0.9, 0.5))
+                .withMutationStrategy(new DoubleNonUniformMutation(0.1, generations, 2))
+                .withReplacementStrategy(new ElitismReplacement<>(2))
+                .withFitnessFunction(DISTANCE)
+                .withMaxGenerations(generations);
+    }
+
+    // a population of copies of the optimum
+    static List<DoubleChromosome> optimal() {
+        double[] genes = new double[GENES];
+        Arrays.fill(genes, OPTIMUM);
+        List<DoubleChromosome> population = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            population.add(new DoubleChromosome(genes.clone(), 0, 10));
+        }
+        return population;
+    }
+
+    @Test
+    void migrantsCarryTheBestToOtherIslands() {
+        GeneticAlgorithm<DoubleChromosome> source = island(1, 20).withPopulation(optimal()).build();
+        // the islands run concurrently, so the target keeps going until the optimum arrives
+        GeneticAlgorithm<DoubleChromosome> target = island(2, 100_000)
+                .withTerminationCriterion(TerminationCriteria.targetFitness(0.0))
+                .build();
+        IslandModel<DoubleChromosome> model = new IslandModel<>(List.of(source, target), MigrationTopology.RING,
+                2, 2, 9);
+
+        DoubleChromosome best = model.run();
+
+        assertEquals(0.0, model.getBestFitness());
+        assertEquals(0.0, DISTANCE.evaluate(best));
+        assertEquals(0.0, target.getBestFitness(), "the target island received the optimum");
+    }
+
+    @Test
+    void eachIslandStopsOnItsOwnTerminationAndClosesItsEvaluator() {
+        AtomicInteger closed = new AtomicInteger();
+        FitnessEvaluator<DoubleChromosome> evaluator = new FitnessEvaluator<>() {
+            @Override
+            public void evaluate(List<DoubleChromosome> individuals, FitnessFunction<DoubleChromosome> fitness) {
+                for (DoubleChromosome individual : individuals) {
+                    individual.setFitness(fitness.evaluate(individual));
+                }
+            }
+
+            @Override
+            public void close() {
+                closed.incrementAndGet();
+            }
+        };
+        GeneticAlgorithm<DoubleChromosome> early = island(3, 30)
+                .withTerminationCriterion(TerminationCriteria.maxGenerations(5))
+                .withFitnessEvaluator(evaluator)
+                .build();
+        GeneticAlgorithm<DoubleChromosome> full = island(4, 30).withFitnessEvaluator(evaluator).build();
+
+        new IslandModel<>(List.of(early, full), MigrationTopology.FULLY_CONNECTED, 3, 1, 5).run();
+
+        assertEquals(5, early.getGeneration());
+        assertNotNull(early.getTerminationReason());
+        assertEquals(30, full.getGeneration());
+        assertEquals(2, closed.get());
+    }
+
+    @Test
+    void remoteIslandRunsThroughItsChannel() {
+        GeneticAlgorithm<DoubleChromosome> ga = island(6, 12)
+                .withTerminationCriterion(TerminationCriteria.maxGenerations(9))
+                .build();
+        List<List<DoubleChromosome>> sent = new ArrayList<>();
+        MigrationChannel<DoubleChromosome> channel = new MigrationChannel<>() {
+            @Override
+            public void send(List<DoubleChromosome> migrants) {
+                sent.add(new ArrayList<>(migrants));
+            }
+
+            @Override
+            public List<DoubleChromosome> poll() {
+                return optimal().subList(0, 1);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        RemoteIsland<DoubleChromosome> island = new RemoteIsland<>(ga, channel, 3, 2);
+
+        island.run();
+
+        assertEquals(9, ga.getGeneration());
+        assertEquals(3, sent.size());
+        assertEquals(2, sent.get(0).size());
+        assertEquals(3, island.getImmigrantCount());
+        assertEquals(0.0, ga.getBestFitness());
+        assertTrue(ga.getTerminationReason().startsWith("maxGenerations"));
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.softcomputing.genetic.island;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.DataOutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.chromosome.Factories.DoubleChromosomeFactory;
+
+class SocketMigrationChannelTest {
+
+    private static final DoubleChromosomeFactory FACTORY = new DoubleChromosomeFactory(-5, 5);
+
+    private static List<DoubleChromosome> poll(SocketMigrationChannel<Double, DoubleChromosome> channel, int count)
+            throws InterruptedException {
+        List<DoubleChromosome> arrived = new ArrayList<>();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (arrived.size() < count && System.currentTimeMillis() < deadline) {
+            arrived.addAll(channel.poll());
+            Thread.sleep(10);
+        }
+        return arrived;
+    }
+
+    @Test
+    void migrantsCrossALoopbackConnection() throws Exception {
+        try (SocketMigrationChannel<Double, DoubleChromosome> receiver = new SocketMigrationChannel<>(FACTORY,
+                List.of()).start(0)) {
+            InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                    receiver.getLocalPort());
+            try (SocketMigrationChannel<Double, DoubleChromosome> sender = new SocketMigrationChannel<>(FACTORY,
+                    List.of(address), 8, 2000, 50).start(0)) {
+                DoubleChromosome evaluated = new DoubleChromosome(new double[] { 1.5, -2, 0 }, -5, 5);
+                evaluated.setFitness(3.25);
+                DoubleChromosome fresh = new DoubleChromosome(new double[] { 4, 4, 4 }, -5, 5);
+
+                sender.send(List.of(evaluated, fresh));
+                List<DoubleChromosome> arrived = poll(receiver, 2);
+
+                assertEquals(2, arrived.size());
+                assertArrayEquals(new double[] { 1.5, -2, 0 }, arrived.get(0).toDoubleArray());
+                assertEquals(3.25, arrived.get(0).getFitness());
+                assertArrayEquals(new double[] { 4, 4, 4 }, arrived.get(1).toDoubleArray());
+                assertFalse(arrived.get(1).isEvaluated());
+                assertEquals(2, receiver.getReceivedMigrants());
+            }
+        }
+    }
+
+    @Test
+    void sendBeforeStartIsIgnored() {
+        SocketMigrationChannel<Double, DoubleChromosome> channel = new SocketMigrationChannel<>(FACTORY,
+                List.of(new InetSocketAddress(InetAddress.getLoopbackAddress(), 1)));
+
+        channel.send(List.of(new DoubleChromosome(3, -5, 5)));
+
+        assertEquals(0, channel.getSentFrames());
+        assertEquals(0, channel.getDroppedFrames());
+        channel.close();
+    }
+
+    @Test
+    void badFrameDropsOnlyThatConnection() throws Exception {
+        try (SocketMigrationChannel<Double, DoubleChromosome> receiver = new SocketMigrationChannel<>(FACTORY,
+                List.of()).start(0)) {
+            InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                    receiver.getLocalPort());
+            try (Socket socket = new Socket()) {
+                socket.connect(address, 2000);
+                DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+                out.writeInt(0xBADBAD);
+                out.writeInt(1);
+                out.flush();
+            }
+
+            try (SocketMigrationChannel<Double, DoubleChromosome> sender = new SocketMigrationChannel<>(FACTORY,
+                    List.of(address), 8, 2000, 50).start(0)) {
+                sender.send(List.of(new DoubleChromosome(new double[] { 1, 2 }, -5, 5)));
+
+                assertEquals(1, poll(receiver, 1).size());
+            }
+        }
+    }
+}
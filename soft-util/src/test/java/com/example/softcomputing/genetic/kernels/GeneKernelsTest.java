@@ -0,0 +1,93 @@
+package com.example.softcomputing.genetic.kernels;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.softcomputing.genetic.random.SplitMix64;
+
+// the selected kernels (vector ones when jdk.incubator.vector is present) give the
+// scalar results bit for bit, over lengths and offsets that leave vector tails
+class GeneKernelsTest {
+
+    private final GeneKernels selected = GeneKernels.get();
+    private final GeneKernels scalar = GeneKernels.scalar();
+    private final SplitMix64 random = new SplitMix64(1);
+
+    private double[] gaussians(int length) {
+        double[] values = new double[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = random.nextGaussian() * 3;
+        }
+        return values;
+    }
+
+    private double[] uniforms(int length) {
+        double[] values = new double[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = random.nextDouble();
+        }
+        return values;
+    }
+
+    @Test
+    void splitMix64DoublesMatchScalar() {
+        for (int length : new int[] { 0, 1, 7, 8, 9, 63, 1001 }) {
+            double[] expected = new double[length + 3];
+            double[] actual = new double[length + 3];
+            scalar.splitMix64Doubles(42, SplitMix64.GOLDEN_GAMMA, expected, 3, length);
+            selected.splitMix64Doubles(42, SplitMix64.GOLDEN_GAMMA, actual, 3, length);
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void crossoverKernelsMatchScalar() {
+        for (int trial = 0; trial < 300; trial++) {
+            int length = random.nextInt(100), offset = random.nextInt(5);
+            double[] a = gaussians(length + offset), b = gaussians(length + offset);
+            double[] u = uniforms(length);
+            double[] expected1 = new double[length + offset], expected2 = new double[length + offset];
+            double[] actual1 = new double[length + offset], actual2 = new double[length + offset];
+
+            scalar.uniformSwap(a, offset, b, offset, u, 0.3, expected1, offset, expected2, offset, length);
+            selected.uniformSwap(a, offset, b, offset, u, 0.3, actual1, offset, actual2, offset, length);
+            assertArrayEquals(expected1, actual1);
+            assertArrayEquals(expected2, actual2);
+
+            scalar.blendAlpha(a, offset, b, offset, u, 0.5, -2, 2, expected1, offset, length);
+            selected.blendAlpha(a, offset, b, offset, u, 0.5, -2, 2, actual1, offset, length);
+            assertArrayEquals(expected1, actual1);
+        }
+    }
+
+    @Test
+    void tournamentMatchesScalar() {
+        for (int trial = 0; trial < 200; trial++) {
+            int n = 1 + random.nextInt(300), count = random.nextInt(100), rounds = 1 + random.nextInt(8);
+            double[] fitness = new double[n];
+            for (int i = 0; i < n; i++) {
+                fitness[i] = random.nextInt(5) == 0 ? Double.NaN : random.nextInt(10);
+            }
+            int[] contestants = new int[count * rounds];
+            for (int i = 0; i < contestants.length; i++) {
+                contestants[i] = random.nextInt(n);
+            }
+            int[] expected = new int[count], actual = new int[count];
+            scalar.tournament(fitness, contestants, rounds, expected, count);
+            selected.tournament(fitness, contestants, rounds, actual, count);
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void tournamentPicksEarliestBest() {
+        double[] fitness = { 1, 5, 5, 2 };
+        int[] contestants = { 0, 3, 2, 1, 1, 2 };
+        int[] winners = new int[2];
+
+        GeneKernels.scalar().tournament(fitness, contestants, 3, winners, 2);
+
+        assertArrayEquals(new int[] { 2, 1 }, winners);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.softcomputing.genetic.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.chromosome.Factories.DoubleChromosomeFactory;
+import com.example.softcomputing.genetic.core.GeneticAlgorithm;
+import com.example.softcomputing.genetic.operators.crossover.DoubleUniformCrossover;
+import com.example.softcomputing.genetic.operators.mutation.DoubleUniformMutation;
+import com.example.softcomputing.genetic.operators.mutation.MutationStrategy;
+import com.example.softcomputing.genetic.operators.replacement.ElitismReplacement;
+import com.example.softcomputing.genetic.operators.selection.TournametSelection;
+import com.example.softcomputing.tests.fitness.DoubleMaxProductFitness;
+
+class GeneticAlgorithmMonitorTest {
+
+    private static GeneticAlgorithm<DoubleChromosome> ga(MutationStrategy<DoubleChromosome> mutation) {
+        return GeneticAlgorithm.<DoubleChromosome>builder()
+                .withChromosomeFactory(new DoubleChromosomeFactory(0, 10))
+                .withPopulationSize(20)
+                .withGeneLength(4)
+                .withSeed(5)
+                .withPopulation()
+                .withSelectionStrategy(new TournametSelection<>(2))
+                .withCrossoverStrategy(new DoubleUniformCrossover(0.9, 0.5))
+                .withMutationStrategy(mutation)
+                .withReplacementStrategy(new ElitismReplacement<>(1))
+                .withFitnessFunction(new DoubleMaxProductFitness())
+                .withMaxGenerations(50)
+                .build();
+    }
+
+    private static Set<ObjectName> registered() throws Exception {
+        return ManagementFactory.getPlatformMBeanServer()
+                .queryNames(new ObjectName(ManagementSupport.DOMAIN + ":type=GeneticAlgorithm,*"), null);
+    }
+
+    @Test
+    void runIsVisibleAndStoppableThroughThePlatformServer() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        GeneticAlgorithm<DoubleChromosome> ga = ga(new DoubleUniformMutation(0.1));
+        Set<ObjectName> before = registered();
+        long[] seenGeneration = new long[1];
+
+        ga.run(running -> {
+            if (running.getGeneration() != 3)
+                return;
+            try {
+                Set<ObjectName> names = registered();
+                names.removeAll(before);
+                assertEquals(1, names.size());
+                ObjectName name = names.iterator().next();
+                seenGeneration[0] = (Long) server.getAttribute(name, "Generation");
+                server.setAttribute(name, new Attribute("MutationRate", 0.25));
+                server.invoke(name, "stopAfterCurrentGeneration", null, null);
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        });
+
+        assertEquals(3, seenGeneration[0]);
+        assertEquals(3, ga.getGeneration());
+        assertEquals("stop requested", ga.getTerminationReason());
+        assertEquals(0.25, ((DoubleUniformMutation) ga.getMutationStrategy()).getMutationRate());
+        assertEquals(before, registered(), "the MBean is unregistered when the run ends");
+    }
+
+    @Test
+    void monitorReportsTheRun() {
+        GeneticAlgorithm<DoubleChromosome> ga = ga(new DoubleUniformMutation(0.1));
+        ga.run();
+        GeneticAlgorithmMonitor monitor = new GeneticAlgorithmMonitor(ga);
+
+        assertEquals(50, monitor.getGeneration());
+        assertEquals(ga.getBestFitness(), monitor.getBestFitness());
+        assertTrue(monitor.getMeanFitness() <= monitor.getBestFitness());
+        assertEquals(ga.getEvaluationCount(), monitor.getEvaluationCount());
+        assertTrue(monitor.getPhaseMillis().containsKey("EVALUATION"));
+        assertEquals(0.1, monitor.getMutationRate());
+        assertFalse(monitor.isPaused());
+    }
+
+    @Test
+    void fixedRateMutationIsReportedAsNaN() {
+        GeneticAlgorithmMonitor monitor = new GeneticAlgorithmMonitor(ga(individual -> individual));
+
+        assertTrue(Double.isNaN(monitor.getMutationRate()));
+        assertThrows(UnsupportedOperationException.class, () -> monitor.setMutationRate(0.5));
+    }
+}
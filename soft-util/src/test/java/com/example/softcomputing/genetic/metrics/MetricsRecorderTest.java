@@ -0,0 +1,86 @@
+package com.example.softcomputing.genetic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class MetricsRecorderTest {
+
+    @Test
+    void snapshotSumsPhasesAndKeepsTheLastGeneration() {
+        MetricsRecorder recorder = new MetricsRecorder();
+        recorder.recordSetup(5, 10);
+
+        recorder.startGeneration();
+        recorder.record(Phase.SELECTION, 3);
+        recorder.record(Phase.EVALUATION, 7);
+        recorder.recordEvaluations(4);
+        recorder.endGeneration();
+        recorder.startGeneration();
+        recorder.record(Phase.SELECTION, 2);
+        recorder.recordEvaluations(6);
+        recorder.endGeneration();
+
+        MetricsSnapshot snapshot = recorder.getSnapshot();
+        assertEquals(2, snapshot.getGeneration());
+        assertEquals(20, snapshot.getEvaluations());
+        assertEquals(5, snapshot.getPhaseNanos(Phase.SELECTION));
+        assertEquals(12, snapshot.getPhaseNanos(Phase.EVALUATION));
+        assertEquals(2, snapshot.getLastPhaseNanos(Phase.SELECTION));
+        assertEquals(0, snapshot.getLastPhaseNanos(Phase.EVALUATION));
+        assertEquals(2, snapshot.getGenerationLatency().getCount());
+    }
+
+    @Test
+    void publishedSnapshotsDoNotChangeAfterwards() {
+        MetricsRecorder recorder = new MetricsRecorder();
+        recorder.startGeneration();
+        recorder.record(Phase.MUTATION, 1);
+        recorder.endGeneration();
+        MetricsSnapshot first = recorder.getSnapshot();
+
+        recorder.startGeneration();
+        recorder.record(Phase.MUTATION, 100);
+        recorder.endGeneration();
+
+        assertEquals(1, first.getPhaseNanos(Phase.MUTATION));
+        assertEquals(1, first.getGenerationLatency().getCount());
+        assertEquals(101, recorder.getSnapshot().getPhaseNanos(Phase.MUTATION));
+    }
+
+    @Test
+    void listenersSeeEveryGeneration() {
+        MetricsRecorder recorder = new MetricsRecorder();
+        List<MetricsSnapshot> seen = new ArrayList<>();
+        recorder.addListener(seen::add);
+
+        for (int i = 0; i < 3; i++) {
+            recorder.startGeneration();
+            recorder.endGeneration();
+        }
+
+        assertEquals(3, seen.size());
+        assertSame(recorder.getSnapshot(), seen.get(2));
+        assertThrows(IllegalArgumentException.class, () -> recorder.addListener(null));
+    }
+
+    @Test
+    void histogramPercentilesStayWithinAFactorOfTwo() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 1000; nanos++) {
+            histogram.record(nanos);
+        }
+
+        long median = histogram.percentile(0.5);
+        assertTrue(median >= 500 && median <= 1000, "median " + median);
+        assertEquals(1000, histogram.percentile(1.0));
+        assertEquals(1, histogram.getMin());
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentile(1.5));
+    }
+}
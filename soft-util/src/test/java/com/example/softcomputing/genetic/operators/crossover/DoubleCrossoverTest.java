@@ -0,0 +1,93 @@
+package com.example.softcomputing.genetic.operators.crossover;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.chromosome.IntChromosome;
+import com.example.softcomputing.genetic.chromosome.IntGeneDomain;
+import com.example.softcomputing.genetic.random.Seedable;
+import com.example.softcomputing.genetic.random.SplitMix64;
+
+class DoubleCrossoverTest {
+
+    private static DoubleChromosome genes(double first, int length) {
+        double[] genes = new double[length];
+        for (int i = 0; i < length; i++) {
+            genes[i] = first + i;
+        }
+        return new DoubleChromosome(genes, -1000, 1000);
+    }
+
+    private static List<DoubleCrossover> all() {
+        return List.of(new DoubleSinglePointCrossover(1.0), new DoubleTwoPointCrossover(1.0),
+                new DoubleUniformCrossover(1.0, 0.5), new DoubleBlendCrossover(1.0, 0.5));
+    }
+
+    @Test
+    void crossoverMatchesCrossoverInto() {
+        DoubleChromosome parent1 = genes(0, 50), parent2 = genes(100, 50);
+        for (DoubleCrossover crossover : all()) {
+            ((Seedable) crossover).setRandom(new SplitMix64(1));
+            List<DoubleChromosome> expected = crossover.crossover(parent1, parent2);
+            ((Seedable) crossover).setRandom(new SplitMix64(1));
+            DoubleChromosome child1 = parent1.newBlank(), child2 = parent2.newBlank();
+
+            crossover.crossoverInto(parent1, parent2, child1, child2);
+
+            assertArrayEquals(expected.get(0).toDoubleArray(), child1.toDoubleArray(), crossover.toString());
+            assertArrayEquals(expected.get(1).toDoubleArray(), child2.toDoubleArray(), crossover.toString());
+        }
+    }
+
+    @Test
+    void swapsGenesBetweenTheChildren() {
+        DoubleChromosome parent1 = genes(0, 50), parent2 = genes(100, 50);
+        for (DoubleCrossover crossover : List.<DoubleCrossover>of(new DoubleSinglePointCrossover(1.0),
+                new DoubleTwoPointCrossover(1.0), new DoubleUniformCrossover(1.0, 0.5))) {
+            List<DoubleChromosome> children = crossover.crossover(parent1, parent2);
+            for (int i = 0; i < 50; i++) {
+                double a = children.get(0).getDouble(i), b = children.get(1).getDouble(i);
+                assertTrue(a == i && b == 100 + i || a == 100 + i && b == i, crossover + " gene " + i);
+            }
+        }
+    }
+
+    @Test
+    void rejectsChildrenOfAnotherLength() {
+        DoubleChromosome parent = genes(0, 10);
+        for (DoubleCrossover crossover : all()) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> crossover.crossoverInto(parent, parent, genes(0, 9), genes(0, 10)), crossover.toString());
+        }
+        IntChromosome ints = new IntChromosome(new int[10], IntGeneDomain.uniform(10, 0, 1));
+        IntChromosome shorter = new IntChromosome(new int[9], IntGeneDomain.uniform(9, 0, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new IntUniformCrossover(1.0, 0.5).crossoverInto(ints, ints, ints.newBlank(), shorter));
+        assertThrows(IllegalArgumentException.class,
+                () -> new IntSinglePointCrossover(1.0).crossoverInto(ints, ints, shorter, ints.newBlank()));
+    }
+
+    @Test
+    void twoPointWithoutASegmentKeepsTheParentsStepSizes() {
+        DoubleChromosome parent1 = genes(0, 1), parent2 = genes(100, 1);
+        parent1.setStepSize(1);
+        parent2.setStepSize(4);
+        parent1.setFitness(3);
+        DoubleTwoPointCrossover crossover = new DoubleTwoPointCrossover(1.0);
+        DoubleChromosome child1 = parent1.newBlank(), child2 = parent2.newBlank();
+
+        // one gene: both points are 0, nothing is exchanged
+        crossover.crossoverInto(parent1, parent2, child1, child2);
+
+        assertEquals(1, child1.getStepSize());
+        assertEquals(4, child2.getStepSize());
+        assertEquals(3, child1.getFitness());
+    }
+}
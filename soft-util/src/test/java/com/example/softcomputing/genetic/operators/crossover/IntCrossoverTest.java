@@ -0,0 +1,56 @@
+package com.example.softcomputing.genetic.operators.crossover;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.softcomputing.genetic.chromosome.IntChromosome;
+import com.example.softcomputing.genetic.chromosome.IntGeneDomain;
+import com.example.softcomputing.genetic.random.SplitMix64;
+
+class IntCrossoverTest {
+
+    private static final IntGeneDomain DOMAIN = IntGeneDomain.uniform(40, 0, 1000);
+
+    private static IntChromosome genes(int first) {
+        int[] genes = new int[40];
+        for (int i = 0; i < genes.length; i++) {
+            genes[i] = first + i;
+        }
+        return new IntChromosome(genes, DOMAIN);
+    }
+
+    @Test
+    void childrenExchangeGenesPositionByPosition() {
+        IntChromosome parent1 = genes(0), parent2 = genes(500);
+        IntUniformCrossover uniform = new IntUniformCrossover(1.0, 0.5);
+        uniform.setRandom(new SplitMix64(1));
+        IntSinglePointCrossover singlePoint = new IntSinglePointCrossover(1.0);
+        singlePoint.setRandom(new SplitMix64(2));
+
+        for (IntCrossover crossover : List.<IntCrossover>of(uniform, singlePoint)) {
+            List<IntChromosome> children = crossover.crossover(parent1, parent2);
+            for (int i = 0; i < 40; i++) {
+                int a = children.get(0).getInt(i), b = children.get(1).getInt(i);
+                assertTrue(a == i && b == 500 + i || a == 500 + i && b == i, crossover + " gene " + i);
+            }
+        }
+    }
+
+    @Test
+    void withoutCrossoverChildrenCopyTheParents() {
+        IntChromosome parent1 = genes(0), parent2 = genes(500);
+        parent1.setFitness(2);
+        IntChromosome child1 = parent1.newBlank(), child2 = parent2.newBlank();
+
+        new IntUniformCrossover(0.0, 0.5).crossoverInto(parent1, parent2, child1, child2);
+
+        assertArrayEquals(parent1.toIntArray(), child1.toIntArray());
+        assertArrayEquals(parent2.toIntArray(), child2.toIntArray());
+        assertEquals(2, child1.getFitness());
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.softcomputing.genetic.operators.crossover;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.softcomputing.genetic.chromosome.PackedBinaryChromosome;
+import com.example.softcomputing.genetic.random.SplitMix64;
+
+class PackedBinaryCrossoverTest {
+
+    private static final int LENGTH = 1000;
+
+    private static PackedBinaryCrossover crossover(PackedBinaryCrossover.Mode mode, double probability, long seed) {
+        PackedBinaryCrossover crossover = new PackedBinaryCrossover(probability, mode);
+        crossover.setRandom(new SplitMix64(seed));
+        return crossover;
+    }
+
+    // every gene comes from one parent in one child and from the other parent in the other
+    private static void assertComplementary(PackedBinaryChromosome parent1, PackedBinaryChromosome parent2,
+            PackedBinaryChromosome child1, PackedBinaryChromosome child2) {
+        for (int i = 0; i < parent1.length(); i++) {
+            boolean fromFirst = child1.getBit(i) == parent1.getBit(i) && child2.getBit(i) == parent2.getBit(i);
+            boolean fromSecond = child1.getBit(i) == parent2.getBit(i) && child2.getBit(i) == parent1.getBit(i);
+            assertTrue(fromFirst || fromSecond, "gene " + i);
+        }
+    }
+
+    @Test
+    void crossoverIntoMatchesCrossover() {
+        PackedBinaryChromosome parent1 = PackedBinaryChromosome.random(LENGTH, new SplitMix64(1));
+        PackedBinaryChromosome parent2 = PackedBinaryChromosome.random(LENGTH, new SplitMix64(2));
+        for (PackedBinaryCrossover.Mode mode : PackedBinaryCrossover.Mode.values()) {
+            for (long seed = 0; seed < 20; seed++) {
+                List<PackedBinaryChromosome> expected = crossover(mode, 1.0, seed).crossover(parent1, parent2);
+                PackedBinaryChromosome child1 = new PackedBinaryChromosome(LENGTH);
+                PackedBinaryChromosome child2 = new PackedBinaryChromosome(LENGTH);
+                child1.setFitness(1);
+
+                crossover(mode, 1.0, seed).crossoverInto(parent1, parent2, child1, child2);
+
+                assertEquals(expected.get(0), child1, mode.toString());
+                assertEquals(expected.get(1), child2, mode.toString());
+                assertFalse(child1.isEvaluated());
+                assertComplementary(parent1, parent2, child1, child2);
+            }
+        }
+    }
+
+    @Test
+    void singlePointKeepsAPrefixOfEachParent() {
+        PackedBinaryChromosome parent1 = new PackedBinaryChromosome(LENGTH);
+        PackedBinaryChromosome parent2 = PackedBinaryChromosome.fromBits(ones(LENGTH));
+        PackedBinaryChromosome child1 = new PackedBinaryChromosome(LENGTH);
+        PackedBinaryChromosome child2 = new PackedBinaryChromosome(LENGTH);
+
+        crossover(PackedBinaryCrossover.Mode.SINGLE_POINT, 1.0, 3).crossoverInto(parent1, parent2, child1, child2);
+
+        int point = LENGTH - child1.cardinality();
+        assertTrue(point > 0 && point < LENGTH);
+        for (int i = 0; i < LENGTH; i++) {
+            assertEquals(i >= point, child1.getBit(i));
+            assertEquals(i < point, child2.getBit(i));
+        }
+    }
+
+    @Test
+    void withoutCrossoverChildrenCopyTheParents() {
+        PackedBinaryChromosome parent1 = PackedBinaryChromosome.random(70, new SplitMix64(4));
+        PackedBinaryChromosome parent2 = PackedBinaryChromosome.random(70, new SplitMix64(5));
+        parent1.setFitness(7);
+        PackedBinaryChromosome child1 = new PackedBinaryChromosome(70);
+        PackedBinaryChromosome child2 = new PackedBinaryChromosome(70);
+
+        crossover(PackedBinaryCrossover.Mode.UNIFORM, 0.0, 6).crossoverInto(parent1, parent2, child1, child2);
+
+        assertEquals(parent1, child1);
+        assertEquals(parent2, child2);
+        assertEquals(7, child1.getFitness());
+        assertFalse(child2.isEvaluated());
+    }
+
+    @Test
+    void uniformKeepsTailBitsClear() {
+        PackedBinaryChromosome parent1 = PackedBinaryChromosome.fromBits(ones(70));
+        PackedBinaryChromosome parent2 = new PackedBinaryChromosome(70);
+        PackedBinaryChromosome child1 = new PackedBinaryChromosome(70);
+        PackedBinaryChromosome child2 = new PackedBinaryChromosome(70);
+
+        crossover(PackedBinaryCrossover.Mode.UNIFORM, 1.0, 7).crossoverInto(parent1, parent2, child1, child2);
+
+        assertEquals(70, child1.cardinality() + child2.cardinality());
+        assertEquals(0L, child1.getWord(1) & ~PackedBinaryChromosome.tailMask(70));
+    }
+
+    @Test
+    void rejectsChildrenOfAnotherLength() {
+        PackedBinaryChromosome parent = new PackedBinaryChromosome(100);
+
+        assertThrows(IllegalArgumentException.class, () -> crossover(PackedBinaryCrossover.Mode.UNIFORM, 1.0, 8)
+                .crossoverInto(parent, parent, new PackedBinaryChromosome(99), new PackedBinaryChromosome(100)));
+    }
+
+    private static int[] ones(int length) {
+        int[] bits = new int[length];
+        Arrays.fill(bits, 1);
+        return bits;
+    }
+}
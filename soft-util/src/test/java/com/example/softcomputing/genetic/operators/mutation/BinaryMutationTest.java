@@ -0,0 +1,35 @@
+package com.example.softcomputing.genetic.operators.mutation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.softcomputing.genetic.chromosome.BinaryChromosome;
+import com.example.softcomputing.genetic.random.SplitMix64;
+
+class BinaryMutationTest {
+
+    @Test
+    void binaryMutationLeavesParentUnchanged() {
+        BinaryChromosome parent = BinaryChromosome.random(200, new SplitMix64(8));
+        Integer[] before = parent.toArray();
+        parent.setFitness(4);
+
+        for (BinaryMutation.Mode mode : BinaryMutation.Mode.values()) {
+            BinaryMutation mutation = new BinaryMutation(0.5, mode, new SplitMix64(9));
+            for (int i = 0; i < 50; i++) {
+                BinaryChromosome child = mutation.mutate(parent);
+                // a changed genome never keeps the parent's score
+                if (!Arrays.equals(before, child.toArray()))
+                    assertFalse(child.isEvaluated());
+            }
+        }
+
+        assertArrayEquals(before, parent.toArray());
+        assertEquals(4, parent.getFitness());
+    }
+}
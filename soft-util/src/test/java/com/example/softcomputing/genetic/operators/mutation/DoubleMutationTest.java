@@ -0,0 +1,108 @@
+package com.example.softcomputing.genetic.operators.mutation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.operators.crossover.DoubleUniformCrossover;
+import com.example.softcomputing.genetic.random.SplitMix64;
+
+class DoubleMutationTest {
+
+    private static DoubleChromosome randomDoubles(int length, long seed) {
+        SplitMix64 random = new SplitMix64(seed);
+        double[] genes = new double[length];
+        for (int i = 0; i < length; i++) {
+            genes[i] = random.nextDouble(-5, 5);
+        }
+        return new DoubleChromosome(genes, -5, 5);
+    }
+
+    private static void assertWithinBounds(DoubleChromosome individual) {
+        for (int i = 0; i < individual.length(); i++) {
+            double gene = individual.getDouble(i);
+            assertTrue(gene >= individual.getLowerBound() && gene <= individual.getUpperBound(),
+                    "gene " + i + " = " + gene);
+        }
+    }
+
+    @Test
+    void doubleUniformMutationStaysInBounds() {
+        DoubleUniformMutation mutation = new DoubleUniformMutation(0.5);
+        mutation.setRandom(new SplitMix64(1));
+        DoubleChromosome individual = randomDoubles(5000, 2);
+        double[] before = individual.toDoubleArray();
+        individual.setFitness(1);
+
+        for (int i = 0; i < 20; i++) {
+            mutation.mutateInPlace(individual);
+        }
+
+        assertWithinBounds(individual);
+        assertFalse(individual.isEvaluated());
+        assertFalse(Arrays.equals(before, individual.toDoubleArray()));
+    }
+
+    @Test
+    void doubleNonUniformMutationStaysInBounds() {
+        DoubleNonUniformMutation mutation = new DoubleNonUniformMutation(0.1, 100, 2);
+        mutation.setRandom(new SplitMix64(3));
+        DoubleChromosome individual = randomDoubles(5000, 4);
+
+        for (int i = 0; i < 20; i++) {
+            mutation.mutateInPlace(individual);
+        }
+
+        assertWithinBounds(individual);
+    }
+
+    @Test
+    void zeroRateKeepsGenesAndFitness() {
+        DoubleUniformMutation mutation = new DoubleUniformMutation(0.0);
+        DoubleChromosome individual = randomDoubles(100, 5);
+        double[] before = individual.toDoubleArray();
+        individual.setFitness(2);
+
+        mutation.mutateInPlace(individual);
+
+        assertArrayEquals(before, individual.toDoubleArray());
+        assertTrue(individual.isEvaluated());
+    }
+
+    @Test
+    void oneFifthRuleJudgesCrossoverChildrenAgainstTheFitterParent() {
+        DoubleOneFifthRuleMutation mutation = new DoubleOneFifthRuleMutation(1.0, 0.1);
+        mutation.setRandom(new SplitMix64(5));
+        DoubleUniformCrossover crossover = new DoubleUniformCrossover(1.0, 0.5);
+        crossover.setRandom(new SplitMix64(6));
+        DoubleChromosome parent1 = randomDoubles(10, 7), parent2 = randomDoubles(10, 8);
+        parent1.setFitness(1);
+        parent2.setFitness(3);
+
+        List<DoubleChromosome> offspring = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            DoubleChromosome child1 = parent1.newBlank(), child2 = parent1.newBlank();
+            crossover.crossoverInto(parent1, parent2, child1, child2);
+            mutation.mutateInPlace(child1);
+            mutation.mutateInPlace(child2);
+            // better than the fitter parent, and only better than the other one
+            child1.setFitness(4);
+            child2.setFitness(2);
+            offspring.add(child1);
+            offspring.add(child2);
+        }
+        mutation.onEvaluated(offspring);
+        mutation.onGeneration(null);
+
+        assertEquals(0.5, mutation.getLastSuccessRate());
+        assertEquals(0.1 / 0.85, mutation.getStepSize(), 1e-12);
+    }
+}
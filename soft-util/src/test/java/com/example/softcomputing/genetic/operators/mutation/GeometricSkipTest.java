@@ -0,0 +1,94 @@
+package com.example.softcomputing.genetic.operators.mutation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.softcomputing.genetic.chromosome.BinaryChromosome;
+import com.example.softcomputing.genetic.random.SplitMix64;
+
+// skipping over unmarked genes must mark each gene with the same probability as a coin
+// flip per gene; tolerances are about five standard deviations
+class GeometricSkipTest {
+
+    private static final int TRIALS = 100_000;
+
+    private static double[] markFrequencies(double rate, int length, long seed) {
+        GeometricSkip skip = new GeometricSkip(rate);
+        SplitMix64 random = new SplitMix64(seed);
+        double[] frequencies = new double[length];
+        for (int t = 0; t < TRIALS; t++) {
+            for (int i = skip.next(random, 0, length); i < length; i = skip.next(random, i + 1, length)) {
+                frequencies[i] += 1.0 / TRIALS;
+            }
+        }
+        return frequencies;
+    }
+
+    @Test
+    void marksEveryGeneWithTheRate() {
+        for (double rate : new double[] { 0.01, 0.1, 0.3 }) {
+            double tolerance = 5 * Math.sqrt(rate * (1 - rate) / TRIALS);
+            double[] frequencies = markFrequencies(rate, 64, 1);
+            for (int i = 0; i < frequencies.length; i++) {
+                assertEquals(rate, frequencies[i], tolerance, "rate " + rate + ", gene " + i);
+            }
+        }
+    }
+
+    @Test
+    void edgeRatesMarkNothingOrEverything() {
+        SplitMix64 random = new SplitMix64(2);
+
+        assertEquals(10, new GeometricSkip(0.0).next(random, 0, 10));
+        assertEquals(3, new GeometricSkip(1.0).next(random, 3, 10));
+        assertEquals(10, new GeometricSkip(0.5).next(random, 10, 10));
+    }
+
+    @Test
+    void perGeneMutationFlipsAsManyAsCoinFlips() {
+        int length = 1000;
+        double rate = 0.003;
+        BinaryMutation mutation = new BinaryMutation(rate, BinaryMutation.Mode.PER_GENE, new SplitMix64(3));
+        BinaryChromosome parent = new BinaryChromosome(new int[length]);
+        parent.setFitness(5);
+
+        long flips = 0;
+        int unchanged = 0;
+        for (int t = 0; t < TRIALS; t++) {
+            BinaryChromosome child = mutation.mutate(parent);
+            if (child == parent) {
+                unchanged++;
+                assertTrue(child.isEvaluated());
+                continue;
+            }
+            int flipped = 0;
+            for (int i = 0; i < length; i++) {
+                flipped += child.getInt(i);
+            }
+            assertTrue(flipped > 0);
+            assertFalse(child.isEvaluated());
+            flips += flipped;
+        }
+
+        double mean = length * rate;
+        double none = Math.pow(1 - rate, length);
+        assertEquals(mean, (double) flips / TRIALS, 5 * Math.sqrt(mean * (1 - rate) / TRIALS));
+        assertEquals(none, (double) unchanged / TRIALS, 5 * Math.sqrt(none * (1 - none) / TRIALS));
+        for (int i = 0; i < length; i++) {
+            assertEquals(0, parent.getInt(i), "parent gene " + i);
+        }
+        assertEquals(5, parent.getFitness());
+    }
+
+    @Test
+    void perGeneMutationWithZeroRateReturnsTheIndividual() {
+        BinaryMutation mutation = new BinaryMutation(0.0, BinaryMutation.Mode.PER_GENE, new SplitMix64(4));
+        BinaryChromosome individual = BinaryChromosome.random(100, new SplitMix64(5));
+
+        assertSame(individual, mutation.mutate(individual));
+    }
+}
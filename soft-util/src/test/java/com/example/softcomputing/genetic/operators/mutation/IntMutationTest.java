@@ -0,0 +1,76 @@
+package com.example.softcomputing.genetic.operators.mutation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.softcomputing.genetic.chromosome.IntChromosome;
+import com.example.softcomputing.genetic.chromosome.IntGeneDomain;
+import com.example.softcomputing.genetic.random.SplitMix64;
+
+class IntMutationTest {
+
+    private static final IntGeneDomain DOMAIN = new IntGeneDomain(new int[] { 0, -5, 10, 7 },
+            new int[] { 1, 5, 1000, 7 });
+
+    private static void assertInDomain(IntChromosome individual) {
+        for (int g = 0; g < individual.length(); g++) {
+            assertTrue(DOMAIN.contains(g, individual.getInt(g)), "gene " + g + " = " + individual.getInt(g));
+        }
+    }
+
+    @Test
+    void creepStaysInsideTheDomainAndMovesGenes() {
+        IntCreepMutation mutation = new IntCreepMutation(0.5, 3);
+        mutation.setRandom(new SplitMix64(1));
+        IntChromosome individual = new IntChromosome(new int[] { 0, 5, 10, 7 }, DOMAIN);
+
+        int changed = 0;
+        for (int i = 0; i < 1000; i++) {
+            int[] before = individual.toIntArray();
+            individual.setFitness(1);
+            mutation.mutateInPlace(individual);
+            assertInDomain(individual);
+            for (int g = 0; g < 4; g++) {
+                assertTrue(Math.abs(individual.getInt(g) - before[g]) <= 3);
+            }
+            if (!Arrays.equals(before, individual.toIntArray())) {
+                changed++;
+                assertFalse(individual.isEvaluated());
+            }
+        }
+        assertTrue(changed > 500);
+    }
+
+    @Test
+    void randomResetStaysInsideTheDomain() {
+        IntRandomResetMutation mutation = new IntRandomResetMutation(1.0);
+        mutation.setRandom(new SplitMix64(2));
+        IntChromosome individual = new IntChromosome(new int[] { 0, 0, 10, 7 }, DOMAIN);
+
+        boolean reachedTop = false;
+        for (int i = 0; i < 1000; i++) {
+            mutation.mutateInPlace(individual);
+            assertInDomain(individual);
+            reachedTop |= individual.getInt(1) == 5;
+        }
+        assertTrue(reachedTop);
+    }
+
+    @Test
+    void zeroRateKeepsGenesAndFitness() {
+        IntChromosome individual = new IntChromosome(new int[] { 1, 2, 300, 7 }, DOMAIN);
+        individual.setFitness(4);
+
+        new IntCreepMutation(0.0, 3).mutateInPlace(individual);
+        new IntRandomResetMutation(0.0).mutateInPlace(individual);
+
+        assertArrayEquals(new int[] { 1, 2, 300, 7 }, individual.toIntArray());
+        assertEquals(4, individual.getFitness());
+    }
+}
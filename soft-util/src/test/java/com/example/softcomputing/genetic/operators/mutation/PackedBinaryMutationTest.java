@@ -0,0 +1,52 @@
+package com.example.softcomputing.genetic.operators.mutation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.softcomputing.genetic.chromosome.PackedBinaryChromosome;
+import com.example.softcomputing.genetic.random.SplitMix64;
+
+class PackedBinaryMutationTest {
+
+    @Test
+    void flipsAboutRateTimesLengthAndLeavesParentUnchanged() {
+        PackedBinaryChromosome parent = PackedBinaryChromosome.random(1000, new SplitMix64(6));
+        PackedBinaryChromosome before = parent.copy();
+        parent.setFitness(3);
+        PackedBinaryMutation mutation = new PackedBinaryMutation(0.01, new SplitMix64(7));
+
+        int flipped = 0;
+        for (int i = 0; i < 100; i++) {
+            PackedBinaryChromosome child = mutation.mutate(parent);
+            int distance = child.hammingDistance(parent);
+            if (distance > 0)
+                assertFalse(child.isEvaluated());
+            flipped += distance;
+        }
+
+        assertEquals(before, parent);
+        assertTrue(parent.isEvaluated());
+        assertEquals(1000, flipped, 150);
+    }
+
+    @Test
+    void zeroRateReturnsTheIndividual() {
+        PackedBinaryChromosome individual = PackedBinaryChromosome.random(130, new SplitMix64(8));
+
+        assertSame(individual, new PackedBinaryMutation(0.0, new SplitMix64(9)).mutate(individual));
+    }
+
+    @Test
+    void tailBitsStayClear() {
+        PackedBinaryMutation mutation = new PackedBinaryMutation(1.0, new SplitMix64(10));
+
+        PackedBinaryChromosome child = mutation.mutate(new PackedBinaryChromosome(70));
+
+        assertEquals(70, child.cardinality());
+        assertEquals(0L, child.getWord(1) & ~PackedBinaryChromosome.tailMask(70));
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.softcomputing.genetic.operators.replacement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.softcomputing.genetic.chromosome.IntegerChromosome;
+
+class HeapReplacementTest {
+
+    private static IntegerChromosome individual(double fitness) {
+        IntegerChromosome individual = new IntegerChromosome(new Integer[] { 0 });
+        individual.setFitness(fitness);
+        return individual;
+    }
+
+    private static HeapReplacement<IntegerChromosome> tracking(double... fitness) {
+        List<IntegerChromosome> population = new ArrayList<>();
+        for (double f : fitness) {
+            population.add(individual(f));
+        }
+        HeapReplacement<IntegerChromosome> heap = new HeapReplacement<>();
+        heap.track(population);
+        return heap;
+    }
+
+    private static double minimum(List<IntegerChromosome> population) {
+        double min = Double.POSITIVE_INFINITY;
+        for (IntegerChromosome individual : population) {
+            min = Math.min(min, individual.getFitness());
+        }
+        return min;
+    }
+
+    @Test
+    void rootIsTheWorst() {
+        HeapReplacement<IntegerChromosome> heap = tracking(5, 3, 8, 1, 7, 2);
+
+        assertEquals(1, heap.peekWorst().getFitness());
+        assertEquals(1, heap.getWorstFitness());
+    }
+
+    @Test
+    void fitterChildReplacesTheWorst() {
+        HeapReplacement<IntegerChromosome> heap = tracking(5, 3, 8, 1, 7, 2);
+        IntegerChromosome child = individual(4);
+
+        IntegerChromosome left = heap.insert(child);
+
+        assertEquals(1, left.getFitness());
+        assertTrue(heap.indexOf(child) >= 0);
+        assertEquals(2, heap.getWorstFitness());
+        assertEquals(6, heap.getPopulation().size());
+    }
+
+    @Test
+    void worseChildIsRejected() {
+        HeapReplacement<IntegerChromosome> heap = tracking(5, 3, 8);
+        IntegerChromosome child = individual(1);
+
+        assertNull(heap.insert(child));
+        assertEquals(-1, heap.indexOf(child));
+        assertEquals(3, heap.getWorstFitness());
+        assertEquals(1, heap.getRejectedCount());
+    }
+
+    @Test
+    void memberChildIsRejected() {
+        HeapReplacement<IntegerChromosome> heap = tracking(5, 3, 8);
+
+        assertThrows(IllegalArgumentException.class, () -> heap.insert(heap.getPopulation().get(0)));
+    }
+
+    @Test
+    void worstReEvaluatedInPlaceIsPutBackInOrder() {
+        HeapReplacement<IntegerChromosome> heap = tracking(1, 2, 3, 4, 5, 6, 7, 8);
+        IntegerChromosome improved = heap.peekWorst();
+        improved.setFitness(9);
+
+        IntegerChromosome left = heap.insert(individual(3.5));
+
+        assertEquals(2, left.getFitness());
+        assertTrue(heap.indexOf(improved) >= 0);
+        assertEquals(minimum(heap.getPopulation()), heap.getWorstFitness());
+    }
+
+    @Test
+    void replacePopulationResyncsMembers() {
+        HeapReplacement<IntegerChromosome> heap = new HeapReplacement<>();
+        List<IntegerChromosome> population = heap.replacePopulation(List.of(individual(1), individual(2),
+                individual(3), individual(4), individual(5), individual(6), individual(7), individual(8)), null);
+        population.get(2).setFitness(-1);
+
+        List<IntegerChromosome> next = heap.replacePopulation(population, List.of(individual(100)));
+
+        assertFalse(next.stream().anyMatch(individual -> individual.getFitness() == -1));
+        assertEquals(minimum(next), heap.getWorstFitness());
+        assertEquals(8, next.size());
+    }
+
+    @Test
+    void replacePopulationNeverChangesItsInput() {
+        HeapReplacement<IntegerChromosome> heap = new HeapReplacement<>();
+        List<IntegerChromosome> current = new ArrayList<>(List.of(individual(1), individual(2), individual(3)));
+        List<IntegerChromosome> original = new ArrayList<>(current);
+
+        List<IntegerChromosome> next = heap.replacePopulation(current, List.of(individual(5)));
+        List<IntegerChromosome> after = heap.replacePopulation(next, List.of(individual(6)));
+
+        assertNotSame(current, next);
+        assertNotSame(next, after);
+        assertEquals(original, current);
+        assertEquals(List.of(5.0, 2.0, 3.0).stream().sorted().toList(),
+                next.stream().map(IntegerChromosome::getFitness).sorted().toList());
+        assertEquals(List.of(5.0, 6.0, 3.0).stream().sorted().toList(),
+                after.stream().map(IntegerChromosome::getFitness).sorted().toList());
+    }
+
+    @Test
+    void getPopulationIsACopy() {
+        HeapReplacement<IntegerChromosome> heap = tracking(5, 3, 8);
+        List<IntegerChromosome> before = heap.getPopulation();
+
+        heap.insert(individual(9));
+
+        assertEquals(3, minimum(before));
+        assertEquals(5, minimum(heap.getPopulation()));
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.softcomputing.genetic.operators.selection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.random.SplitMix64;
+
+class SelectionTest {
+
+    private static final int DRAWS = 200_000;
+
+    private static List<DoubleChromosome> population(double... fitness) {
+        List<DoubleChromosome> population = new ArrayList<>();
+        for (double f : fitness) {
+            DoubleChromosome individual = new DoubleChromosome(new double[] { f }, -1e9, 1e9);
+            individual.setFitness(f);
+            population.add(individual);
+        }
+        return population;
+    }
+
+    private static double[] frequencies(List<DoubleChromosome> population, List<DoubleChromosome> picks) {
+        Map<DoubleChromosome, Integer> index = new IdentityHashMap<>();
+        for (int i = 0; i < population.size(); i++) {
+            index.put(population.get(i), i);
+        }
+        double[] frequencies = new double[population.size()];
+        for (DoubleChromosome pick : picks) {
+            Integer i = index.get(pick);
+            assertTrue(i != null, "picked an individual outside the population");
+            frequencies[i] += 1.0 / picks.size();
+        }
+        return frequencies;
+    }
+
+    private static List<DoubleChromosome> picks(SelectionStrategy<DoubleChromosome> selection,
+            List<DoubleChromosome> population) {
+        List<DoubleChromosome> picks = new ArrayList<>();
+        for (int i = 0; i < DRAWS; i++) {
+            picks.add(selection.selectIndividual(population));
+        }
+        return picks;
+    }
+
+    private static void assertProportional(double[] expected, double[] actual) {
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], actual[i], 0.01, "frequency of individual " + i);
+        }
+    }
+
+    @Test
+    void tournamentFavoursTheFittestAsExpected() {
+        int n = 1000, size = 4;
+        double[] fitness = new double[n];
+        for (int i = 0; i < n; i++) {
+            fitness[i] = i;
+        }
+        List<DoubleChromosome> population = population(fitness);
+        TournametSelection<DoubleChromosome> tournament = new TournametSelection<>(size);
+        tournament.setRandom(new SplitMix64(1));
+        tournament.prepare(population);
+
+        List<DoubleChromosome> parents = tournament.selectParents(population, DRAWS);
+        double mean = 0;
+        for (DoubleChromosome parent : parents) {
+            mean += parent.getFitness() / DRAWS;
+        }
+        // E[max of `size` uniform draws from 0..n-1] = sum over m of P(max >= m)
+        double expected = 0;
+        for (int m = 1; m < n; m++) {
+            expected += 1 - Math.pow((double) m / n, size);
+        }
+
+        assertEquals(DRAWS, parents.size());
+        frequencies(population, parents);
+        assertEquals(expected, mean, 2.0);
+    }
+
+    @Test
+    void tournamentRejectsNonPositiveSize() {
+        assertThrows(IllegalArgumentException.class, () -> new TournametSelection<DoubleChromosome>(0));
+    }
+
+    @Test
+    void rouletteIsProportionalToFitness() {
+        List<DoubleChromosome> population = population(1, 2, 3, 4);
+        RouletteWheelSelection<DoubleChromosome> roulette = new RouletteWheelSelection<>();
+        roulette.setRandom(new SplitMix64(2));
+        roulette.prepare(population);
+
+        assertProportional(new double[] { 0.1, 0.2, 0.3, 0.4 },
+                frequencies(population, picks(roulette, population)));
+    }
+
+    @Test
+    void universalSamplingIsProportionalToFitness() {
+        List<DoubleChromosome> population = population(1, 2, 3, 4);
+        StochasticUniversalSampling<DoubleChromosome> sus = new StochasticUniversalSampling<>();
+        sus.setRandom(new SplitMix64(3));
+        sus.prepare(population);
+
+        assertProportional(new double[] { 0.1, 0.2, 0.3, 0.4 },
+                frequencies(population, sus.selectParents(population, DRAWS)));
+        assertProportional(new double[] { 0.1, 0.2, 0.3, 0.4 }, frequencies(population, picks(sus, population)));
+    }
+
+    @Test
+    void universalSamplingKeepsCopiesNearExpectation() {
+        List<DoubleChromosome> population = population(1, 2, 3, 4);
+        StochasticUniversalSampling<DoubleChromosome> sus = new StochasticUniversalSampling<>();
+        sus.setRandom(new SplitMix64(4));
+        sus.prepare(population);
+
+        for (int round = 0; round < 100; round++) {
+            double[] frequencies = frequencies(population, sus.selectParents(population, 20));
+            for (int i = 0; i < 4; i++) {
+                assertTrue(Math.abs(frequencies[i] * 20 - 2 * (i + 1)) <= 1 + 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void negativeFitnessIsShifted() {
+        List<DoubleChromosome> population = population(-3, -1, 1);
+        RouletteWheelSelection<DoubleChromosome> roulette = new RouletteWheelSelection<>();
+        roulette.setRandom(new SplitMix64(5));
+        roulette.prepare(population);
+
+        assertProportional(new double[] { 0, 2.0 / 6, 4.0 / 6 }, frequencies(population, picks(roulette, population)));
+    }
+
+    @Test
+    void fenwickIsProportionalToFitnessAndFollowsUpdates() {
+        List<DoubleChromosome> population = population(1, 2, 3, 4);
+        FenwickRouletteSelection<DoubleChromosome> fenwick = new FenwickRouletteSelection<>();
+        fenwick.setRandom(new SplitMix64(6));
+        fenwick.prepare(population);
+
+        assertEquals(10, fenwick.getTotalWeight(), 1e-12);
+        assertProportional(new double[] { 0.1, 0.2, 0.3, 0.4 },
+                frequencies(population, picks(fenwick, population)));
+
+        fenwick.update(0, 11);
+        assertEquals(20, fenwick.getTotalWeight(), 1e-12);
+        assertProportional(new double[] { 0.55, 0.1, 0.15, 0.2 },
+                frequencies(population, picks(fenwick, population)));
+        assertThrows(IllegalArgumentException.class, () -> fenwick.update(4, 1));
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.softcomputing.genetic.population;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.random.SplitMix64;
+
+class DoublePopulationMatrixTest {
+
+    @Test
+    void rowsAreViewsOverTheSharedBuffer() {
+        DoublePopulationMatrix matrix = new DoublePopulationMatrix(3, 2, -1, 1);
+        DoubleChromosome row = matrix.current().get(1);
+
+        row.setDouble(0, 0.5);
+        row.setFitness(7);
+
+        assertEquals(0.5, matrix.currentGenes()[2]);
+        assertEquals(7, matrix.currentFitness()[1]);
+        assertEquals(1, matrix.rowOf(row));
+        assertEquals(-1, matrix.rowOf(new DoubleChromosome(2, -1, 1)));
+    }
+
+    @Test
+    void swapTurnsOffspringIntoTheCurrentGeneration() {
+        DoublePopulationMatrix matrix = new DoublePopulationMatrix(4, 3, 0, 1);
+        List<DoubleChromosome> parents = matrix.current();
+        List<DoubleChromosome> offspring = matrix.offspring();
+        DoubleChromosome child = offspring.get(0);
+        child.setDouble(2, 0.25);
+
+        assertTrue(matrix.isOffspring(child));
+        assertFalse(matrix.isCurrent(child));
+        matrix.swap();
+
+        assertSame(offspring, matrix.current());
+        assertSame(parents, matrix.offspring());
+        assertTrue(matrix.isCurrent(child));
+        assertEquals(0.25, matrix.currentGenes()[2]);
+    }
+
+    @Test
+    void randomizeStaysInBoundsAndClearsFitness() {
+        DoublePopulationMatrix matrix = new DoublePopulationMatrix(50, 4, -2, 3);
+        matrix.current().get(0).setFitness(1);
+
+        matrix.randomize(new SplitMix64(1));
+
+        for (double gene : matrix.currentGenes()) {
+            assertTrue(gene >= -2 && gene <= 3);
+        }
+        assertFalse(matrix.current().get(0).isEvaluated());
+    }
+
+    @Test
+    void loadCopiesGenesAndFitness() {
+        DoublePopulationMatrix matrix = new DoublePopulationMatrix(2, 2, 0, 10);
+        DoubleChromosome first = new DoubleChromosome(new double[] { 1, 2 }, 0, 10);
+        first.setFitness(3);
+        DoubleChromosome second = new DoubleChromosome(new double[] { 4, 5 }, 0, 10);
+
+        matrix.load(List.of(first, second));
+        first.setDouble(0, 9);
+
+        assertArrayEquals(new double[] { 1, 2, 4, 5 }, matrix.currentGenes());
+        assertEquals(3, matrix.current().get(0).getFitness());
+        assertFalse(matrix.current().get(1).isEvaluated());
+    }
+
+    @Test
+    void rejectsMismatchedShapes() {
+        DoublePopulationMatrix matrix = new DoublePopulationMatrix(2, 2, 0, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> new DoublePopulationMatrix(0, 2, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new DoublePopulationMatrix(1 << 16, 1 << 16, 0, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> matrix.load(List.of(new DoubleChromosome(2, 0, 1))));
+        assertThrows(IllegalArgumentException.class,
+                () -> matrix.load(List.of(new DoubleChromosome(2, 0, 1), new DoubleChromosome(3, 0, 1))));
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.softcomputing.genetic.population;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.softcomputing.genetic.chromosome.OffHeapDoubleChromosome;
+import com.example.softcomputing.genetic.chromosome.Factories.OffHeapChromosomeFactory;
+import com.example.softcomputing.genetic.core.GeneticAlgorithm;
+import com.example.softcomputing.genetic.operators.crossover.CrossoverStrategy;
+import com.example.softcomputing.genetic.operators.crossover.SinglePointCrossover;
+import com.example.softcomputing.genetic.operators.mutation.MutationStrategy;
+import com.example.softcomputing.genetic.operators.replacement.ElitismReplacement;
+import com.example.softcomputing.genetic.operators.selection.TournametSelection;
+import com.example.softcomputing.genetic.random.SplitMix64;
+
+class OffHeapPopulationStoreTest {
+
+    private static final int POPULATION = 20;
+
+    @Test
+    void slotsAreHandedOutOnceAndReturnedByRelease() {
+        OffHeapPopulationStore store = OffHeapPopulationStore.direct(2, 3);
+        int first = store.allocate();
+        int second = store.allocate();
+
+        assertTrue(first != second);
+        assertThrows(IllegalStateException.class, store::allocate);
+        store.release(first);
+        assertThrows(IllegalStateException.class, () -> store.release(first));
+        assertEquals(first, store.allocate());
+        assertThrows(IndexOutOfBoundsException.class, () -> store.release(2));
+    }
+
+    @Test
+    void slotKeepsGenesAndFitness() {
+        OffHeapPopulationStore store = OffHeapPopulationStore.direct(2, 3);
+        int slot = store.allocate();
+
+        store.setGene(slot, 2, 1.5);
+        store.setFitness(slot, -4);
+
+        assertEquals(1.5, store.getGene(slot, 2));
+        assertEquals(-4, store.getFitness(slot));
+        assertTrue(store.isEvaluated(slot));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.getGene(slot, 3));
+    }
+
+    @Test
+    void mappedStoreWritesItsFile(@TempDir Path dir) throws Exception {
+        try (OffHeapPopulationStore store = OffHeapPopulationStore.mapped(dir.resolve("genes"), 4, 2)) {
+            OffHeapChromosomeFactory factory = new OffHeapChromosomeFactory(store, 0, 1);
+            OffHeapDoubleChromosome chromosome = factory.create(new double[] { 0.25, 0.5 });
+
+            assertTrue(store.isMapped());
+            assertArrayEquals(new double[] { 0.25, 0.5 }, chromosome.toDoubleArray());
+            assertFalse(chromosome.isEvaluated());
+        }
+    }
+
+    @Test
+    void factoryReleaseFreesTheSlotOnce() {
+        OffHeapPopulationStore store = OffHeapPopulationStore.direct(1, 2);
+        OffHeapChromosomeFactory factory = new OffHeapChromosomeFactory(store, 0, 1);
+        OffHeapDoubleChromosome chromosome = factory.create(new double[2]);
+
+        chromosome.release();
+        chromosome.release();
+
+        assertEquals(1, store.getFreeCount());
+        factory.create(new double[2]);
+        assertEquals(0, store.getFreeCount());
+    }
+
+    @Test
+    void inPlaceRunReturnsDroppedSlots() {
+        OffHeapPopulationStore store = OffHeapPopulationStore.direct(3 * POPULATION, 8);
+        OffHeapChromosomeFactory factory = new OffHeapChromosomeFactory(store, 0, 1);
+
+        run(factory, new SinglePointCrossover<>(0.9, factory));
+
+        assertTrue(store.getFreeCount() > 0);
+    }
+
+    @Test
+    void copyingRunReturnsDroppedSlots() {
+        OffHeapPopulationStore store = OffHeapPopulationStore.direct(3 * POPULATION, 8);
+        OffHeapChromosomeFactory factory = new OffHeapChromosomeFactory(store, 0, 1);
+        SinglePointCrossover<Double, OffHeapDoubleChromosome> singlePoint = new SinglePointCrossover<>(0.9, factory);
+
+        // a plain CrossoverStrategy, so every child is a new chromosome from the factory
+        run(factory, singlePoint::crossover);
+
+        assertTrue(store.getFreeCount() > 0);
+    }
+
+    // hundreds of generations through a store with room for little more than two populations
+    private static void run(OffHeapChromosomeFactory factory,
+            CrossoverStrategy<OffHeapDoubleChromosome> crossover) {
+        SplitMix64 random = new SplitMix64(3);
+        MutationStrategy<OffHeapDoubleChromosome> mutation = individual -> {
+            int gene = random.nextInt(individual.length());
+            individual.setDouble(gene, individual.clamp(individual.getDouble(gene) + random.nextDouble() - 0.5));
+            return individual;
+        };
+        GeneticAlgorithm<OffHeapDoubleChromosome> ga = GeneticAlgorithm.<OffHeapDoubleChromosome>builder()
+                .withChromosomeFactory(factory)
+                .withPopulationSize(POPULATION)
+                .withGeneLength(8)
+                .withSeed(1)
+                .withPopulation()
+                .withSelectionStrategy(new TournametSelection<>(2))
+                .withCrossoverStrategy(crossover)
+                .withMutationStrategy(mutation)
+                .withReplacementStrategy(new ElitismReplacement<>(2))
+                .withFitnessFunction(individual -> {
+                    double sum = 0;
+                    for (int i = 0; i < individual.length(); i++)
+                        sum += individual.getDouble(i);
+                    return sum;
+                })
+                .withMaxGenerations(300)
+                .build();
+
+        OffHeapDoubleChromosome best = ga.run();
+
+        assertEquals(300, ga.getGeneration());
+        assertEquals(ga.getBestFitness(), best.getFitness());
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.softcomputing.genetic.random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.softcomputing.genetic.kernels.GeneKernels;
+
+class SplitMix64Test {
+
+    @Test
+    void bulkUniformsMatchSequentialDraws() {
+        for (int length : new int[] { 0, 1, 7, 8, 9, 63, 1001 }) {
+            SplitMix64 bulk = new SplitMix64(42), sequential = new SplitMix64(42);
+            double[] out = new double[length + 3];
+
+            GeneKernels.uniforms(bulk, out, 3, length);
+
+            for (int i = 0; i < length; i++) {
+                assertEquals(sequential.nextDouble(), out[3 + i]);
+            }
+            assertEquals(sequential.getState(), bulk.getState());
+            assertEquals(sequential.nextLong(), bulk.nextLong());
+        }
+    }
+
+    @Test
+    void bulkUniformsFollowASplitStreamsGamma() {
+        SplitMix64 bulk = new SplitMix64(42).split(), sequential = new SplitMix64(42).split();
+        double[] out = new double[100];
+
+        GeneKernels.uniforms(bulk, out, 0, out.length);
+
+        for (double u : out) {
+            assertEquals(sequential.nextDouble(), u);
+        }
+        assertEquals(sequential.nextLong(), bulk.nextLong());
+    }
+
+    @Test
+    void bulkUniformsRejectRangeOutsideArray() {
+        assertThrows(IllegalArgumentException.class,
+                () -> GeneKernels.uniforms(new SplitMix64(1), new double[4], 2, 3));
+    }
+
+    @Test
+    void uniformsStayInUnitInterval() {
+        SplitMix64 random = new SplitMix64(7);
+        for (int i = 0; i < 100_000; i++) {
+            double u = random.nextDouble();
+            assertTrue(u >= 0 && u < 1);
+        }
+    }
+
+    @Test
+    void deriveIsDeterministicPerStream() {
+        assertEquals(SplitMix64.derive(5, 3).nextLong(), SplitMix64.derive(5, 3).nextLong());
+        assertNotEquals(SplitMix64.derive(5, 3).nextLong(), SplitMix64.derive(5, 4).nextLong());
+        assertNotEquals(SplitMix64.derive(5, 3).nextLong(), SplitMix64.derive(6, 3).nextLong());
+    }
+
+    @Test
+    void splitGivesDistinctStreams() {
+        SplitMix64 root = new SplitMix64(9);
+        SplitMix64 first = root.split(), second = root.split();
+
+        assertNotEquals(first.nextLong(), second.nextLong());
+        assertNotEquals(new SplitMix64().nextLong(), new SplitMix64().nextLong());
+    }
+
+    @Test
+    void splitStreamsHaveTheirOwnGamma() {
+        SplitMix64 root = new SplitMix64(9);
+        SplitMix64 first = root.split(), second = root.split();
+
+        assertEquals(1L, first.getGamma() & 1L);
+        assertNotEquals(SplitMix64.GOLDEN_GAMMA, first.getGamma());
+        assertNotEquals(first.getGamma(), second.getGamma());
+        assertThrows(IllegalArgumentException.class, () -> new SplitMix64(1, 2));
+    }
+
+    @Test
+    void perThreadStreamsAreSeparate() throws Exception {
+        PerThreadSplitMix64 shared = new PerThreadSplitMix64(new SplitMix64(1));
+        SplitMix64 mine = shared.current();
+
+        SplitMix64 theirs = CompletableFuture.supplyAsync(shared::current).get();
+
+        assertSame(mine, shared.current());
+        assertNotSame(mine, theirs);
+        assertThrows(IllegalArgumentException.class, () -> new PerThreadSplitMix64(null));
+    }
+
+    @Test
+    void seedablesRejectNullGenerator() {
+        SplitMix64 random = new SplitMix64(1);
+        AbstractSeedable seedable = new AbstractSeedable(random) {
+        };
+
+        assertSame(random, seedable.getRandom());
+        assertThrows(IllegalArgumentException.class, () -> seedable.setRandom(null));
+    }
+}
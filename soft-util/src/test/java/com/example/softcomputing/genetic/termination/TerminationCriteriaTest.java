@@ -0,0 +1,99 @@
+package com.example.softcomputing.genetic.termination;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.softcomputing.genetic.chromosome.DoubleChromosome;
+import com.example.softcomputing.genetic.chromosome.Factories.DoubleChromosomeFactory;
+import com.example.softcomputing.genetic.core.GeneticAlgorithm;
+import com.example.softcomputing.genetic.operators.crossover.DoubleUniformCrossover;
+import com.example.softcomputing.genetic.operators.mutation.DoubleUniformMutation;
+import com.example.softcomputing.genetic.operators.replacement.ElitismReplacement;
+import com.example.softcomputing.genetic.operators.selection.TournametSelection;
+import com.example.softcomputing.tests.fitness.DoubleMaxProductFitness;
+import com.example.softcomputing.utils.FitnessFunction;
+
+class TerminationCriteriaTest {
+
+    private static GeneticAlgorithm<DoubleChromosome> run(TerminationCriterion criterion,
+            FitnessFunction<DoubleChromosome> fitness) {
+        GeneticAlgorithm<DoubleChromosome> ga = GeneticAlgorithm.<DoubleChromosome>builder()
+                .withChromosomeFactory(new DoubleChromosomeFactory(0, 10))
+                .withPopulationSize(20)
+                .withGeneLength(4)
+                .withSeed(8)
+                .withPopulation()
+                .withSelectionStrategy(new TournametSelection<>(2))
+                .withCrossoverStrategy(new DoubleUniformCrossover(0.9, 0.5))
+                .withMutationStrategy(new DoubleUniformMutation(0.2))
+                .withReplacementStrategy(new ElitismReplacement<>(1))
+                .withFitnessFunction(fitness)
+                .withTerminationCriterion(criterion)
+                .withMaxGenerations(500)
+                .build();
+        ga.run();
+        return ga;
+    }
+
+    @Test
+    void targetFitnessStopsOnceReached() {
+        GeneticAlgorithm<DoubleChromosome> ga = run(TerminationCriteria.targetFitness(5000),
+                new DoubleMaxProductFitness());
+
+        assertTrue(ga.getGeneration() < 500);
+        assertTrue(ga.getBestFitness() >= 5000);
+        assertEquals("targetFitness(5000.0)", ga.getTerminationReason());
+    }
+
+    @Test
+    void maxEvaluationsOvershootsByAtMostOneGeneration() {
+        GeneticAlgorithm<DoubleChromosome> ga = run(TerminationCriteria.maxEvaluations(300),
+                new DoubleMaxProductFitness());
+
+        assertTrue(ga.getEvaluationCount() >= 300);
+        assertTrue(ga.getEvaluationCount() < 300 + 20);
+    }
+
+    @Test
+    void stagnationCountsGenerationsWithoutANewBest() {
+        FitnessFunction<DoubleChromosome> flat = individual -> 1.0;
+
+        assertEquals(5, run(TerminationCriteria.stagnation(5), flat).getGeneration());
+        assertEquals(5, run(TerminationCriteria.stagnation(5, 0.5), flat).getGeneration());
+    }
+
+    @Test
+    void combinationsCallEveryCriterionEveryGeneration() {
+        AtomicInteger calls = new AtomicInteger();
+        TerminationCriterion counting = context -> {
+            calls.incrementAndGet();
+            return false;
+        };
+
+        GeneticAlgorithm<DoubleChromosome> ga = run(
+                TerminationCriteria.maxGenerations(4).or(counting).or(TerminationCriteria.wallClock(Duration.ofHours(1))),
+                new DoubleMaxProductFitness());
+
+        assertEquals(4, ga.getGeneration());
+        // once before the first generation and after each of the four
+        assertEquals(5, calls.get());
+        assertEquals(4, run(TerminationCriteria.maxGenerations(4).and(context -> true),
+                new DoubleMaxProductFitness()).getGeneration());
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> TerminationCriteria.stagnation(0));
+        assertThrows(IllegalArgumentException.class, () -> TerminationCriteria.stagnation(3, -1));
+        assertThrows(IllegalArgumentException.class, () -> TerminationCriteria.maxEvaluations(0));
+        assertThrows(IllegalArgumentException.class, () -> TerminationCriteria.wallClock(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> TerminationCriteria.anyOf());
+        assertThrows(IllegalArgumentException.class, () -> TerminationCriteria.allOf((TerminationCriterion) null));
+    }
+}
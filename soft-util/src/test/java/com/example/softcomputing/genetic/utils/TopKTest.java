@@ -0,0 +1,94 @@
+package com.example.softcomputing.genetic.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.softcomputing.genetic.chromosome.IntegerChromosome;
+import com.example.softcomputing.genetic.random.SplitMix64;
+
+class TopKTest {
+
+    // indices in stable descending order, the order TopK promises
+    private static int[] sortedDescending(double[] values) {
+        return IntStream.range(0, values.length).boxed()
+                .sorted((a, b) -> Double.compare(values[b], values[a]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static int[] expectedLargest(double[] values, int k) {
+        return Arrays.copyOf(sortedDescending(values), k);
+    }
+
+    private static int[] expectedSmallest(double[] values, int k) {
+        int[] sorted = sortedDescending(values);
+        int[] smallest = new int[k];
+        for (int i = 0; i < k; i++) {
+            smallest[i] = sorted[sorted.length - 1 - i];
+        }
+        return smallest;
+    }
+
+    private static double[] values(int n, int distinct, long seed) {
+        SplitMix64 random = new SplitMix64(seed);
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = random.nextInt(20) == 0 ? Double.NaN : random.nextInt(distinct);
+        }
+        return values;
+    }
+
+    @Test
+    void matchesStableSortWithTiesAndNaN() {
+        for (int trial = 0; trial < 200; trial++) {
+            double[] values = values(1 + trial % 97, 1 + trial % 7, trial);
+            for (int k : new int[] { 0, 1, values.length / 3, values.length }) {
+                assertArrayEquals(expectedLargest(values, k), TopK.largest(values, k));
+                assertArrayEquals(expectedSmallest(values, k), TopK.smallest(values, k));
+            }
+        }
+    }
+
+    @Test
+    void parallelPathMatchesStableSort() {
+        int n = TopK.PARALLEL_THRESHOLD * 2;
+        double[] values = values(n, 1000, 99);
+        for (int k : new int[] { 1, 50, n / 8 }) {
+            assertArrayEquals(expectedLargest(values, k), TopK.largest(values, k));
+            assertArrayEquals(expectedSmallest(values, k), TopK.smallest(values, k));
+        }
+    }
+
+    @Test
+    void rejectsCountOutsideRange() {
+        assertThrows(IllegalArgumentException.class, () -> TopK.largest(new double[3], 4));
+        assertThrows(IllegalArgumentException.class, () -> TopK.smallest(new double[3], -1));
+    }
+
+    @Test
+    void addFittestKeepsTheFittest() {
+        List<IntegerChromosome> individuals = new ArrayList<>();
+        double[] fitness = { 4, 9, 1, 7, 7, 3 };
+        for (double f : fitness) {
+            IntegerChromosome individual = new IntegerChromosome(new Integer[] { 0 });
+            individual.setFitness(f);
+            individuals.add(individual);
+        }
+
+        List<IntegerChromosome> few = new ArrayList<>();
+        TopK.addFittest(individuals, 2, few);
+        assertEquals(List.of(individuals.get(1), individuals.get(3)), few);
+
+        List<IntegerChromosome> most = new ArrayList<>();
+        TopK.addFittest(individuals, 4, most);
+        assertEquals(List.of(individuals.get(0), individuals.get(1), individuals.get(3), individuals.get(4)), most);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.softcomputing.genetic.kernels;
+
+import com.example.softcomputing.genetic.random.SplitMix64;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// The kernels on the preferred vector shape; the tail past the last full vector runs
+// the scalar loop. Loaded only through KernelSelection.
+final class VectorGeneKernels implements GeneKernels {
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final int LANES = DOUBLES.length();
+
+    VectorGeneKernels() {
+        if (LONGS.length() != LANES) {
+            throw new IllegalStateException(
+                    String.format("Long and double vectors differ in lanes (%d, %d)", LONGS.length(), LANES));
+        }
+    }
+
+    @Override
+    public void splitMix64Doubles(long state, long gamma, double[] out, int offset, int length) {
+        int bound = DOUBLES.loopBound(length);
+        if (bound > 0) {
+            // lane j starts at state j + 1 and every step moves all lanes LANES states on
+            long[] first = new long[LANES];
+            for (int j = 0; j < LANES; j++) {
+                first[j] = state + (j + 1) * gamma;
+            }
+            LongVector z = LongVector.fromArray(LONGS, first, 0);
+            LongVector step = LongVector.broadcast(LONGS, gamma * LANES);
+            for (int i = 0; i < bound; i += LANES) {
+                LongVector x = z.lanewise(VectorOperators.XOR, z.lanewise(VectorOperators.LSHR, 30))
+                        .mul(0xBF58476D1CE4E5B9L);
+                x = x.lanewise(VectorOperators.XOR, x.lanewise(VectorOperators.LSHR, 27))
+                        .mul(0x94D049BB133111EBL);
+                x = x.lanewise(VectorOperators.XOR, x.lanewise(VectorOperators.LSHR, 31));
+                DoubleVector d = (DoubleVector) x.lanewise(VectorOperators.LSHR, 11)
+                        .convertShape(VectorOperators.L2D, DOUBLES, 0);
+                d.mul(0x1.0p-53).intoArray(out, offset + i);
+                z = z.add(step);
+            }
+        }
+        ScalarGeneKernels.splitMix64Doubles(state, gamma, out, offset, bound, length);
+    }
+
+    @Override
+    public void uniformSwap(double[] a, int aOffset, double[] b, int bOffset, double[] u, double ratio,
+            double[] child1, int child1Offset, double[] child2, int child2Offset, int length) {
+        int bound = DOUBLES.loopBound(length);
+        for (int i = 0; i < bound; i += LANES) {
+            DoubleVector x = DoubleVector.fromArray(DOUBLES, a, aOffset + i);
+            DoubleVector y = DoubleVector.fromArray(DOUBLES, b, bOffset + i);
+            VectorMask<Double> swap = DoubleVector.fromArray(DOUBLES, u, i).lt(ratio);
+            x.blend(y, swap).intoArray(child1, child1Offset + i);
+            y.blend(x, swap).intoArray(child2, child2Offset + i);
+        }
+        ScalarGeneKernels.uniformSwap(a, aOffset, b, bOffset, u, ratio,
+                child1, child1Offset, child2, child2Offset, bound, length);
+    }
+
+    @Override
+    public void blendAlpha(double[] a, int aOffset, double[] b, int bOffset, double[] u, double alpha,
+            double lower, double upper, double[] child, int childOffset, int length) {
+        double spread = 1.0 + 2.0 * alpha;
+        int bound = DOUBLES.loopBound(length);
+        for (int i = 0; i < bound; i += LANES) {
+            DoubleVector x = DoubleVector.fromArray(DOUBLES, a, aOffset + i);
+            DoubleVector y = DoubleVector.fromArray(DOUBLES, b, bOffset + i);
+            DoubleVector min = x.min(y);
+            DoubleVector d = x.sub(y).abs();
+            DoubleVector r = DoubleVector.fromArray(DOUBLES, u, i);
+            // same operation order as the scalar loop, so both round alike
+            min.sub(d.mul(alpha)).add(r.mul(spread).mul(d))
+                    .max(lower).min(upper)
+                    .intoArray(child, childOffset + i);
+        }
+        ScalarGeneKernels.blendAlpha(a, aOffset, b, bOffset, u, alpha, lower, upper, child, childOffset,
+                bound, length);
+    }
+
+    // one lane per tournament: each round gathers the lanes' contestants and keeps the
+    // round that won so far, and the winners are looked up from those rounds at the end
+    @Override
+    public void tournament(double[] fitness, int[] contestants, int rounds, int[] winners, int count) {
+        int bound = DOUBLES.loopBound(count);
+        double[] winningRound = new double[LANES];
+        for (int j = 0; j < bound; j += LANES) {
+            DoubleVector best = DoubleVector.fromArray(DOUBLES, fitness, 0, contestants, j);
+            DoubleVector round = DoubleVector.zero(DOUBLES);
+            for (int r = 1; r < rounds; r++) {
+                DoubleVector candidate = DoubleVector.fromArray(DOUBLES, fitness, 0, contestants, r * count + j);
+                VectorMask<Double> better = candidate.compare(VectorOperators.GT, best);
+                best = best.blend(candidate, better);
+                round = round.blend(r, better);
+            }
+            round.intoArray(winningRound, 0);
+            for (int l = 0; l < LANES; l++) {
+                winners[j + l] = contestants[(int) winningRound[l] * count + j + l];
+            }
+        }
+        ScalarGeneKernels.tournament(fitness, contestants, rounds, winners, count, bound);
+    }
+
+    @Override
+    public String name() {
+        return "vector(" + DOUBLES + ")";
+    }
+}